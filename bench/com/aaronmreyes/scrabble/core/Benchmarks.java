@@ -0,0 +1,561 @@
+/*
+ * Benchmarks.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import com.sun.management.ThreadMXBean;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Micro benchmarks of the hot paths of the engine: checking, scoring and
+ * placing a move, generating moves and loading the lexicon. The move
+ * benchmarks run on fixed positions (a mid-game and an end-game) reached by
+ * replaying a seeded game, so every run measures exactly the same boards.
+ * Each benchmark is warmed up, then timed over several iterations, and the
+ * average time and the bytes allocated per operation are printed and can be
+ * written as JSON to compare runs. From the top of the project, with the
+ * assets found on the class path through the current directory:
+ *
+ * <pre>
+ * javac -d out $(find src bench -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.Benchmarks [-o results.json] [filter]
+ * </pre>
+ * <p>
+ * The same move and lexicon benchmarks also run under JMH, in the build of
+ * the jmh folder, which takes its positions from the {@link Fixture} here
+ * and forks a fresh JVM for each benchmark. This harness stays for quick
+ * runs without a build and for the solver benchmarks. It warms up, times
+ * batched iterations, keeps the results in a sink and reads the allocation
+ * per operation from the thread's counter, but runs every benchmark in one
+ * JVM, so run it with a filter to time one benchmark in isolation. The JSON
+ * uses the field names of JMH's JSON output.
+ * <p>
+ * The solver benchmarks give the {@link EndgameSolver} its time budget on
+ * the empty bag positions of a few seeded games, from the moment the bag
+ * empties (seven tiles against seven) to the last turn, and report how deep
+ * each search got and whether it was exact. They run twice and only the
+ * second round is reported, as the first search in a fresh JVM runs mostly
+ * interpreted and takes several times longer.
+ *
+ * It lives in the core package, in its own source folder, so it can reach
+ * the package-private classes without them being made public.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class Benchmarks {
+	private static final int WARMUP_ITERATIONS = 3;
+	private static final int ITERATIONS = 5;
+	private static final long ITERATION_NANOS = 250000000L;
+	/* the seed of the game the fixtures are taken from */
+	static final long FIXTURE_SEED = 20131021L;
+	/* the time the endgame solver gets per position */
+	private static final long SOLVER_BUDGET_MILLIS = 1000;
+	/* the games whose empty bag positions are solved */
+	private static final long[] SOLVER_SEEDS = { 18, 21, 23, 27 };
+	/* keeps results alive so the JIT cannot drop the work */
+	private static volatile long sink;
+	/* counts the bytes allocated by the benchmark thread */
+	private static final ThreadMXBean threads = (ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+
+	/**
+	 * Entry point of the benchmarks
+	 *
+	 * @param args
+	 *            - optional -o file for the JSON results and a filter on the
+	 *            benchmark names
+	 */
+	public static void main(String[] args) throws IOException {
+		String output = null;
+		String filter = "";
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-o") && (i + 1 < args.length)) {
+				output = args[++i];
+			} else {
+				filter = args[i];
+			}
+		}
+		List<Bench> benches = new ArrayList<Bench>();
+		addLexicon(benches);
+		Fixture game = new Fixture(FIXTURE_SEED);
+		addPosition(benches, "midgame", game, game.size() / 2);
+		addPosition(benches, "endgame", game, game.size() - 1);
+		List<Result> results = new ArrayList<Result>();
+		for (Bench bench : benches) {
+			if (bench.name.contains(filter)) {
+				Result result = measure(bench);
+				System.out.println(result);
+				results.add(result);
+			}
+		}
+		/* one untimed round first, so the searches are compiled */
+		for (long seed : SOLVER_SEEDS) {
+			solveEndgame(seed, filter, null);
+		}
+		List<Solve> solves = new ArrayList<Solve>();
+		for (long seed : SOLVER_SEEDS) {
+			solveEndgame(seed, filter, solves);
+		}
+		if (output != null) {
+			Writer out = new OutputStreamWriter(new FileOutputStream(output),
+					"UTF-8");
+			try {
+				writeJson(results, solves, out);
+			} finally {
+				out.close();
+			}
+		}
+	}
+
+	/*
+	 * plays a seeded game to an empty bag with the best scoring moves, then
+	 * solves every position from there to the end of the game, adding the
+	 * results to solves unless it is null (a warm-up round)
+	 */
+	private static void solveEndgame(long seed, String filter,
+			List<Solve> solves) {
+		Game game = new Game();
+		game.setupGame(Arrays.asList("P1", "P2"), false, seed);
+		game.setStartingPlayer("P1");
+		EndgameSolver solver = new EndgameSolver(SOLVER_BUDGET_MILLIS, null);
+		/* two passes in a row end the game, as they do in the search */
+		int passes = 0;
+		while (!game.isOver() && (passes < 2)) {
+			if (game.getNumTilesLeft() == 0) {
+				Player other = game.getPlayers().get(
+						1 - game.getPlayers().indexOf(game.getCurrentPlayer()));
+				String name = "solver.seed" + seed + "."
+						+ game.getPlayerHand().size() + "v" + other.hand.size();
+				if (!name.contains(filter)) {
+					return;
+				}
+				Solve solve = new Solve(name, solver.solve(game));
+				if (solves != null) {
+					System.out.println(solve);
+					solves.add(solve);
+				}
+			}
+			Move best = null;
+			int bestPoints = -1;
+			for (Move move : game.getPossibleMoves()) {
+				int points = game.evaluateMove(move).getMoverPoints();
+				if (points > bestPoints) {
+					best = move;
+					bestPoints = points;
+				}
+			}
+			if ((best != null) && game.playMove(best)) {
+				passes = 0;
+			} else {
+				game.passTurn();
+				passes++;
+			}
+		}
+	}
+
+	/*
+	 * the lexicon loading benchmarks
+	 */
+	private static void addLexicon(List<Bench> benches) {
+		benches.add(new Bench("lexicon.loadText") {
+			@Override
+			long op() throws IOException {
+				InputStream in = Benchmarks.class
+						.getResourceAsStream("/assets/dictionary.txt");
+				try {
+					return Dawg.load(in).edgeCount();
+				} finally {
+					in.close();
+				}
+			}
+		});
+		final URL compiled = Benchmarks.class
+				.getResource("/assets/dictionary.dawg");
+		benches.add(new Bench("lexicon.open") {
+			@Override
+			long op() throws IOException {
+				return Dawg.open(compiled).edgeCount();
+			}
+		});
+	}
+
+	/*
+	 * the move benchmarks on the position before play number turn
+	 */
+	private static void addPosition(List<Bench> benches, String name,
+			final Fixture game, final int turn) {
+		/* the move is staged but not placed */
+		final Position before = game.replay(turn);
+		final Player player = before.player();
+		before.stage(game.play(turn));
+		final Dictionary dict = before.board.getDictionary();
+		final BitBoard bits = before.board.getBits();
+		final CrossChecks checks = before.board.getChecks();
+		/* the move is on the board */
+		final Position after = game.replay(turn);
+		after.stage(game.play(turn));
+		final List<AbstractTile> placed = new ArrayList<AbstractTile>(after
+				.player().getMoves());
+		after.board.placeTiles(after.player(), after.players);
+		final Dictionary afterDict = after.board.getDictionary();
+		final BitBoard afterBits = after.board.getBits();
+		final AbstractTile[][] afterTiles = after.board.board;
+		/* start of the main word for getWord */
+		final boolean across = game.play(turn).isAcross();
+		Location first = placed.get(0).getLocation();
+		int row = first.getRow();
+		int col = first.getCol();
+		while (afterBits.isOccupied(row - (across ? 0 : 1), col
+				- (across ? 1 : 0))) {
+			row -= across ? 0 : 1;
+			col -= across ? 1 : 0;
+		}
+		final int wordRow = row;
+		final int wordCol = col;
+
+		benches.add(new Bench(name + ".validateStep") {
+			@Override
+			long op() {
+				return dict.validateStep(player, bits) ? 1 : 0;
+			}
+		});
+		benches.add(new Bench(name + ".validateWord") {
+			@Override
+			long op() {
+				return dict.validateWord(player, bits, checks) ? 1 : 0;
+			}
+		});
+		benches.add(new Bench(name + ".getWord") {
+			@Override
+			long op() {
+				return afterDict.getWord(wordRow, wordCol,
+						across ? Dictionary.directions.EAST
+								: Dictionary.directions.SOUTH, afterTiles)
+						.length();
+			}
+		});
+		final Move next = game.play(turn);
+		benches.add(new Bench(name + ".evaluate") {
+			@Override
+			long op() {
+				return before.board.evaluate(next).getMoverPoints();
+			}
+		});
+		benches.add(new Bench(name + ".generateMoves") {
+			@Override
+			long op() {
+				return before.board.generateMoves(player).size();
+			}
+		});
+		benches.add(new Bench(name + ".placeTiles", true) {
+			private Position fresh;
+
+			@Override
+			void prepare() {
+				/* every call needs the board from before the move */
+				fresh = game.replay(turn);
+				fresh.stage(game.play(turn));
+			}
+
+			@Override
+			long op() {
+				fresh.board.placeTiles(fresh.player(), fresh.players);
+				return fresh.player().getScore();
+			}
+		});
+	}
+
+	/*
+	 * warms up and times one benchmark
+	 */
+	private static Result measure(Bench bench) throws IOException {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			iteration(bench);
+		}
+		double[] nanos = new double[ITERATIONS];
+		double bytes = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			double[] it = iteration(bench);
+			nanos[i] = it[0];
+			bytes += it[1] / ITERATIONS;
+		}
+		return new Result(bench.name, nanos, bytes);
+	}
+
+	/*
+	 * runs the benchmark for ITERATION_NANOS, returns ns and bytes per op
+	 */
+	private static double[] iteration(Bench bench) throws IOException {
+		long thread = Thread.currentThread().getId();
+		long ops = 0;
+		long elapsed = 0;
+		long allocated = 0;
+		long sum = 0;
+		while (elapsed < ITERATION_NANOS) {
+			bench.prepare();
+			long bytes = threads.getThreadAllocatedBytes(thread);
+			long start = System.nanoTime();
+			/* batch calls unless setup has to run before each one */
+			int batch = bench.perCall ? 1 : 64;
+			for (int i = 0; i < batch; i++) {
+				sum += bench.op();
+			}
+			elapsed += System.nanoTime() - start;
+			allocated += threads.getThreadAllocatedBytes(thread) - bytes;
+			ops += batch;
+		}
+		sink += sum;
+		return new double[] { (double) elapsed / ops, (double) allocated / ops };
+	}
+
+	/*
+	 * writes the results as a JSON array, one object per benchmark and one
+	 * per solved position
+	 */
+	private static void writeJson(List<Result> results, List<Solve> solves,
+			Writer out) throws IOException {
+		out.write("[\n");
+		int left = results.size() + solves.size();
+		for (Result result : results) {
+			out.write(String.format(Locale.ROOT,
+					"  {\"benchmark\": \"%s\", \"mode\": \"avgt\","
+							+ " \"iterations\": %d, \"score\": %.3f,"
+							+ " \"scoreError\": %.3f, \"unit\": \"ns/op\","
+							+ " \"opsPerSecond\": %.1f,"
+							+ " \"allocatedBytesPerOp\": %.1f}%s\n",
+					result.name, result.nanos.length, result.mean(),
+					result.error(), 1e9 / result.mean(), result.bytes,
+					(--left > 0) ? "," : ""));
+		}
+		for (Solve solve : solves) {
+			out.write(String.format(Locale.ROOT,
+					"  {\"benchmark\": \"%s\", \"mode\": \"solve\","
+							+ " \"budgetMillis\": %d, \"millis\": %.1f,"
+							+ " \"depth\": %d, \"exact\": %b,"
+							+ " \"nodes\": %d}%s\n", solve.name,
+					SOLVER_BUDGET_MILLIS, solve.millis, solve.depth,
+					solve.exact, solve.nodes, (--left > 0) ? "," : ""));
+		}
+		out.write("]\n");
+	}
+
+	/*
+	 * one benchmark, op() is the timed operation
+	 */
+	private abstract static class Bench {
+		final String name;
+		/* true if prepare() has to run before every single op */
+		final boolean perCall;
+
+		Bench(String name) {
+			this(name, false);
+		}
+
+		Bench(String name, boolean perCall) {
+			this.name = name;
+			this.perCall = perCall;
+		}
+
+		/* untimed setup run before the ops */
+		void prepare() {
+		}
+
+		abstract long op() throws IOException;
+	}
+
+	/*
+	 * the timings of one benchmark
+	 */
+	private static final class Result {
+		final String name;
+		final double[] nanos;
+		final double bytes;
+
+		Result(String name, double[] nanos, double bytes) {
+			this.name = name;
+			this.nanos = nanos;
+			this.bytes = bytes;
+		}
+
+		double mean() {
+			double sum = 0;
+			for (double n : nanos) {
+				sum += n;
+			}
+			return sum / nanos.length;
+		}
+
+		/* standard deviation over the iterations */
+		double error() {
+			double mean = mean();
+			double sum = 0;
+			for (double n : nanos) {
+				sum += (n - mean) * (n - mean);
+			}
+			return Math.sqrt(sum / nanos.length);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-32s %14.1f ns/op  +- %8.1f  %10.1f B/op",
+					name, mean(), error(), bytes);
+		}
+	}
+
+	/*
+	 * how far the endgame solver got on one position
+	 */
+	private static final class Solve {
+		final String name;
+		final double millis;
+		final int depth;
+		final boolean exact;
+		final long nodes;
+
+		Solve(String name, EndgameSolver.Result result) {
+			this.name = name;
+			this.millis = result.getElapsedNanos() / 1e6;
+			this.depth = result.getDepth();
+			this.exact = result.isExact();
+			this.nodes = result.getNodes();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-32s %14.1f ms     depth %2d  %-5s  %10d nodes",
+					name, millis, depth, exact ? "exact" : "guess", nodes);
+		}
+	}
+
+	/*
+	 * a seeded game between two greedy players, recorded move by move so any
+	 * position of it can be rebuilt
+	 */
+	static final class Fixture {
+		private final long seed;
+		private final List<Move> plays = new ArrayList<Move>();
+
+		Fixture(long seed) {
+			this.seed = seed;
+			Position game = new Position(seed);
+			/* play until the bag is empty and one more move is possible */
+			while (true) {
+				Move best = null;
+				for (Move move : game.board.generateMoves(game.player())) {
+					if ((best == null)
+							|| (move.getTiles().size() > best.getTiles().size())) {
+						best = move;
+					}
+				}
+				if (best == null) {
+					break;
+				}
+				plays.add(best);
+				if (game.board.getLetterBankTotal() == 0) {
+					break;
+				}
+				game.stage(best);
+				game.play();
+			}
+		}
+
+		int size() {
+			return plays.size();
+		}
+
+		Move play(int turn) {
+			return plays.get(turn);
+		}
+
+		/*
+		 * the game just before play number turn
+		 */
+		Position replay(int turn) {
+			Position game = new Position(seed);
+			for (int i = 0; i < turn; i++) {
+				game.stage(plays.get(i));
+				game.play();
+			}
+			return game;
+		}
+	}
+
+	/*
+	 * a board, its players and whose turn it is
+	 */
+	static final class Position {
+		final Board board;
+		final List<Player> players = new ArrayList<Player>();
+		private int current;
+
+		Position(long seed) {
+			Random gen = new Random(seed);
+			board = new Board(false, gen);
+			for (int i = 0; i < Game.MIN_PLAYERS; i++) {
+				Player player = new Player("P" + (i + 1), gen);
+				while (player.hand.size() < Game.HAND_LIMIT) {
+					player.hand.add(board.getTile());
+				}
+				players.add(player);
+			}
+		}
+
+		Player player() {
+			return players.get(current);
+		}
+
+		/*
+		 * moves the tiles of a recorded play from the hand to the move list,
+		 * matching them by letter as the recorded tiles are other objects
+		 */
+		void stage(Move move) {
+			Player player = player();
+			for (int i = 0; i < move.getTiles().size(); i++) {
+				char value = move.getTiles().get(i).getValue();
+				for (AbstractTile tile : player.hand) {
+					if (tile.getValue() == value) {
+						tile.setLocation(move.getLocations().get(i));
+						player.getMoves().add(tile);
+						player.hand.remove(tile);
+						break;
+					}
+				}
+			}
+		}
+
+		/*
+		 * places the staged move, refills the hand and passes the turn
+		 */
+		void play() {
+			Player player = player();
+			board.placeTiles(player, players);
+			player.getMoves().clear();
+			while ((player.hand.size() < Game.HAND_LIMIT)
+					&& (board.getLetterBankTotal() > 0)) {
+				player.hand.add(board.getTile());
+			}
+			current = (current + 1) % players.size();
+		}
+	}
+}
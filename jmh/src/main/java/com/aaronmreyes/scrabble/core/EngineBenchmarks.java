@@ -0,0 +1,281 @@
+/*
+ * EngineBenchmarks.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * The micro benchmarks of {@link Benchmarks} run by JMH: checking, scoring,
+ * placing and generating moves on the mid-game and end-game positions of
+ * the same seeded game, and loading the lexicon. JMH forks a fresh JVM for
+ * each benchmark and writes its results as JSON with -rf json, with the
+ * bytes allocated per call too under -prof gc. The endgame solver benchmarks
+ * are left to the harness, as a search cut off by its time budget is
+ * measured by how deep it gets rather than by its time.
+ * <p>
+ * placeTiles needs a fresh board for every call, so its setup runs per
+ * invocation. JMH times each such call on its own, which it warns is not
+ * reliable for calls this short, so placeTiles reads higher and varies more
+ * here than in the harness; compare it across runs, not with the harness.
+ *
+ * It is in the core package so it can reach the package-private classes.
+ *
+ * @author Aaron Reyes
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmarks {
+	/* the seeded game every position comes from, played once per JVM */
+	private static Benchmarks.Fixture fixture;
+
+	/*
+	 * the game the fixtures are taken from
+	 */
+	private static synchronized Benchmarks.Fixture fixture() {
+		if (fixture == null) {
+			fixture = new Benchmarks.Fixture(Benchmarks.FIXTURE_SEED);
+		}
+		return fixture;
+	}
+
+	/**
+	 * A position of the fixture game with the next move staged, and the
+	 * board after that move is placed
+	 */
+	@State(Scope.Thread)
+	public static class Turn {
+		/** the position, before the middle move or the last one */
+		@Param({ "midgame", "endgame" })
+		public String position;
+		int turn;
+		Benchmarks.Position before;
+		Player player;
+		Dictionary dict;
+		BitBoard bits;
+		CrossChecks checks;
+		Move next;
+		Dictionary afterDict;
+		AbstractTile[][] afterTiles;
+		Dictionary.directions direction;
+		int wordRow;
+		int wordCol;
+
+		/**
+		 * Replays the fixture game to the position
+		 */
+		@Setup(Level.Trial)
+		public void setUp() {
+			Benchmarks.Fixture game = fixture();
+			turn = position.equals("midgame") ? game.size() / 2
+					: game.size() - 1;
+			next = game.play(turn);
+			/* the move is staged but not placed */
+			before = game.replay(turn);
+			player = before.player();
+			before.stage(next);
+			dict = before.board.getDictionary();
+			bits = before.board.getBits();
+			checks = before.board.getChecks();
+			/* the move is on the board */
+			Benchmarks.Position after = game.replay(turn);
+			after.stage(next);
+			Location first = after.player().getMoves().get(0).getLocation();
+			after.board.placeTiles(after.player(), after.players);
+			afterDict = after.board.getDictionary();
+			afterTiles = after.board.board;
+			/* start of the main word for getWord */
+			boolean across = next.isAcross();
+			direction = across ? Dictionary.directions.EAST
+					: Dictionary.directions.SOUTH;
+			int row = first.getRow();
+			int col = first.getCol();
+			BitBoard afterBits = after.board.getBits();
+			while (afterBits.isOccupied(row - (across ? 0 : 1), col
+					- (across ? 1 : 0))) {
+				row -= across ? 0 : 1;
+				col -= across ? 1 : 0;
+			}
+			wordRow = row;
+			wordCol = col;
+		}
+	}
+
+	/**
+	 * A fresh copy of the position of a {@link Turn} for every call, as
+	 * placing the move changes the board
+	 */
+	@State(Scope.Thread)
+	public static class Placement {
+		Benchmarks.Position fresh;
+
+		/**
+		 * Replays the fixture game to the position again, untimed
+		 *
+		 * @param turn
+		 *            - the position to place the move on
+		 */
+		@Setup(Level.Invocation)
+		public void setUp(Turn turn) {
+			fresh = fixture().replay(turn.turn);
+			fresh.stage(turn.next);
+		}
+	}
+
+	/**
+	 * The compiled lexicon on the class path
+	 */
+	@State(Scope.Benchmark)
+	public static class Lexicon {
+		URL compiled;
+
+		/**
+		 * Finds the compiled lexicon
+		 */
+		@Setup(Level.Trial)
+		public void setUp() {
+			compiled = EngineBenchmarks.class
+					.getResource("/assets/dictionary.dawg");
+		}
+	}
+
+	/**
+	 * Checks the tiles of the staged move placed so far, as after each tile
+	 * a player puts down
+	 *
+	 * @param turn
+	 *            - the position with the move staged
+	 *
+	 * @return true if the tiles placed so far are valid
+	 */
+	@Benchmark
+	public boolean validateStep(Turn turn) {
+		return turn.dict.validateStep(turn.player, turn.bits);
+	}
+
+	/**
+	 * Checks the whole staged move: its squares and every word it makes
+	 *
+	 * @param turn
+	 *            - the position with the move staged
+	 *
+	 * @return true if the move is valid
+	 */
+	@Benchmark
+	public boolean validateWord(Turn turn) {
+		return turn.dict.validateWord(turn.player, turn.bits, turn.checks);
+	}
+
+	/**
+	 * Reads the main word of the move off the board after it is placed
+	 *
+	 * @param turn
+	 *            - the position with the move placed
+	 *
+	 * @return the word
+	 */
+	@Benchmark
+	public String getWord(Turn turn) {
+		return turn.afterDict.getWord(turn.wordRow, turn.wordCol,
+				turn.direction, turn.afterTiles);
+	}
+
+	/**
+	 * Scores the move without placing it
+	 *
+	 * @param turn
+	 *            - the position with the move staged
+	 *
+	 * @return the score of the move
+	 */
+	@Benchmark
+	public MoveScore evaluate(Turn turn) {
+		return turn.before.board.evaluate(turn.next);
+	}
+
+	/**
+	 * Lists every legal move of the player's hand on the position
+	 *
+	 * @param turn
+	 *            - the position
+	 *
+	 * @return the number of moves found
+	 */
+	@Benchmark
+	public int generateMoves(Turn turn) {
+		return turn.before.board.generateMoves(turn.player).size();
+	}
+
+	/**
+	 * Places and scores the staged move on a fresh copy of the position
+	 *
+	 * @param placement
+	 *            - the copy of the position, made again for every call
+	 *
+	 * @return the player's score after the move
+	 */
+	@Benchmark
+	public int placeTiles(Placement placement) {
+		Benchmarks.Position fresh = placement.fresh;
+		fresh.board.placeTiles(fresh.player(), fresh.players);
+		return fresh.player().getScore();
+	}
+
+	/**
+	 * Builds the lexicon from the word list, as when there is no compiled
+	 * lexicon
+	 *
+	 * @return the number of edges of the lexicon
+	 */
+	@Benchmark
+	public int lexiconLoadText() throws IOException {
+		InputStream in = EngineBenchmarks.class
+				.getResourceAsStream("/assets/dictionary.txt");
+		try {
+			return Dawg.load(in).edgeCount();
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Opens the compiled lexicon
+	 *
+	 * @param lexicon
+	 *            - where the compiled lexicon is
+	 *
+	 * @return the number of edges of the lexicon
+	 */
+	@Benchmark
+	public int lexiconOpen(Lexicon lexicon) throws IOException {
+		return Dawg.open(lexicon.compiled).edgeCount();
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * BestMoveStrategy.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A computer player that plays the best scoring move it can find before a
+ * deadline. Every legal move of the hand is generated and then scored, with
+ * the ability tiles it covers and the traps it hits, by splitting the moves
+ * over a fork-join pool so all cores are used. A move is worth the points it
+ * gives its player less the points it gives each opponent, plus the value of
+ * the tiles it keeps from a {@link LeaveTable} when one is given and tiles are
+ * left to draw. If the time budget runs out before every move is scored, the
+ * best move scored so far is played.
+ * The number of moves scored (nodes) and the rate of the last search are kept
+ * for reporting.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class BestMoveStrategy implements Strategy {
+	/* moves scored by one task before it stops splitting */
+	private static final int BATCH = 64;
+	/* moves scored between checks of the clock */
+	private static final int CLOCK_CHECK = 16;
+	/* the scratch state of each thread that scores moves */
+	private static final ThreadLocal<MoveScorer> SCORERS =
+			new ThreadLocal<MoveScorer>() {
+				@Override
+				protected MoveScorer initialValue() {
+					return new MoveScorer();
+				}
+			};
+	private final long budgetNanos;
+	private final ForkJoinPool pool;
+	/* the values of the tiles kept, null to judge moves by score alone */
+	private final LeaveTable leaves;
+	/* the statistics of the last search */
+	private volatile long nodes;
+	private volatile long elapsedNanos;
+
+	/**
+	 * Constructor method for a strategy scoring on the common fork-join pool
+	 *
+	 * @param budgetMillis
+	 *            - the time allowed to pick a move, in milliseconds
+	 */
+	public BestMoveStrategy(long budgetMillis) {
+		this(budgetMillis, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructor method for a strategy scoring on a given pool
+	 *
+	 * @param budgetMillis
+	 *            - the time allowed to pick a move, in milliseconds
+	 * @param pool
+	 *            - the pool the moves are scored on
+	 */
+	public BestMoveStrategy(long budgetMillis, ForkJoinPool pool) {
+		this(budgetMillis, pool, null);
+	}
+
+	/**
+	 * Constructor method for a strategy that also values the tiles it keeps
+	 *
+	 * @param budgetMillis
+	 *            - the time allowed to pick a move, in milliseconds
+	 * @param pool
+	 *            - the pool the moves are scored on
+	 * @param leaves
+	 *            - the values of the tiles kept, or null for none
+	 */
+	public BestMoveStrategy(long budgetMillis, ForkJoinPool pool,
+			LeaveTable leaves) {
+		if (budgetMillis <= 0) {
+			throw new IllegalArgumentException("the time budget must be > 0");
+		}
+		this.budgetNanos = budgetMillis * 1000000L;
+		this.pool = pool;
+		this.leaves = leaves;
+	}
+
+	@Override
+	public Move chooseMove(Game game) {
+		long start = System.nanoTime();
+		List<Move> moves = game.getPossibleMoves();
+		Candidate best = null;
+		if (!moves.isEmpty()) {
+			/* leaves only matter while there are tiles to draw */
+			int[] hand = null;
+			if ((leaves != null) && (game.getNumTilesLeft() > 0)) {
+				hand = new int[LeaveTable.LETTERS];
+				LeaveTable.count(game.getCurrentPlayer().hand, hand, 1);
+			}
+			best = pool.invoke(new Scoring(game, moves, 0, moves.size(),
+					start + budgetNanos, game.getPlayers().size() - 1, leaves,
+					hand));
+		}
+		elapsedNanos = System.nanoTime() - start;
+		nodes = (best == null) ? 0 : best.nodes;
+		return (best == null) ? null : best.move;
+	}
+
+	/**
+	 * Getter method for the number of moves scored by the last search
+	 *
+	 * @return the number of nodes
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Getter method for the time taken by the last search, generating the
+	 * moves included
+	 *
+	 * @return the time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Getter method for the speed of the last search
+	 *
+	 * @return the moves scored per second, 0 before the first search
+	 */
+	public double getNodesPerSecond() {
+		long elapsed = elapsedNanos;
+		return (elapsed == 0) ? 0 : nodes * 1e9 / elapsed;
+	}
+
+	/*
+	 * the best move of a range and how many moves were scored to find it
+	 */
+	private static final class Candidate {
+		private Move move;
+		private int index;
+		private float value = Float.NEGATIVE_INFINITY;
+		private long nodes;
+
+		/*
+		 * true if this candidate should be played over other: the higher
+		 * value, then the earlier move so the choice does not depend on how
+		 * the moves were split
+		 */
+		boolean beats(Candidate other) {
+			if (move == null) {
+				return false;
+			}
+			return (other.move == null) || (value > other.value)
+					|| ((value == other.value) && (index < other.index));
+		}
+	}
+
+	/*
+	 * scores the moves [from, to) by splitting them over the pool
+	 */
+	private static final class Scoring extends RecursiveTask<Candidate> {
+		private static final long serialVersionUID = 1L;
+		private final Game game;
+		private final List<Move> moves;
+		private final int from;
+		private final int to;
+		private final long deadline;
+		private final int opponents;
+		private final LeaveTable leaves;
+		/* the letter counts of the hand, null when leaves are not valued */
+		private final int[] hand;
+
+		Scoring(Game game, List<Move> moves, int from, int to, long deadline,
+				int opponents, LeaveTable leaves, int[] hand) {
+			this.game = game;
+			this.moves = moves;
+			this.from = from;
+			this.to = to;
+			this.deadline = deadline;
+			this.opponents = opponents;
+			this.leaves = leaves;
+			this.hand = hand;
+		}
+
+		@Override
+		protected Candidate compute() {
+			if (to - from > BATCH) {
+				int mid = (from + to) >>> 1;
+				Scoring left = new Scoring(game, moves, from, mid, deadline,
+						opponents, leaves, hand);
+				left.fork();
+				Candidate right = new Scoring(game, moves, mid, to, deadline,
+						opponents, leaves, hand).compute();
+				Candidate best = left.join();
+				long total = best.nodes + right.nodes;
+				if (right.beats(best)) {
+					best = right;
+				}
+				best.nodes = total;
+				return best;
+			}
+			MoveScorer scorer = SCORERS.get();
+			Candidate best = new Candidate();
+			/* each task takes the moves' tiles off its own copy */
+			int[] counts = (hand == null) ? null : hand.clone();
+			for (int i = from; i < to; i++) {
+				/* always score the first move so there is one to play */
+				if (((i - from) % CLOCK_CHECK == 0) && (i != 0)
+						&& (System.nanoTime() - deadline > 0)) {
+					break;
+				}
+				Move move = moves.get(i);
+				MoveScore score = game.evaluateMove(move, scorer);
+				float value = score.getMoverPoints() - opponents
+						* score.getOpponentPoints();
+				if (counts != null) {
+					LeaveTable.count(move.getTiles(), counts, -1);
+					value += leaves.value(counts);
+					LeaveTable.count(move.getTiles(), counts, 1);
+				}
+				best.nodes++;
+				if ((best.move == null) || (value > best.value)) {
+					best.move = move;
+					best.index = i;
+					best.value = value;
+				}
+			}
+			return best;
+		}
+	}
+}
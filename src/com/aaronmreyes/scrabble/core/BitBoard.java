@@ -0,0 +1,207 @@
+/*
+ * BitBoard.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+/**
+ * A packed copy of the letters on the {@link Board} kept alongside the array
+ * of tiles. Occupied squares and unused premium (ability) squares are bit sets
+ * over the squares (row * {@link Board#BOARD_SIZE} + col), and the letter and
+ * point value of every tile are kept in flat byte arrays, so the validation
+ * and scoring code can scan the board without following tile references or
+ * doing instanceof checks. Letter tiles with a trap ability (any tile that is
+ * not a NormalTile) are marked in a third bit set. A {@link Zobrist} hash of
+ * the tiles, by kind and letter, and the unused ability tiles is kept up to
+ * date.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class BitBoard {
+	static final int SIZE = Board.BOARD_SIZE;
+	static final int SQUARES = SIZE * SIZE;
+	private static final int WORDS = (SQUARES + 63) / 64;
+	/* squares holding a letter tile */
+	private final long[] occupied = new long[WORDS];
+	/* squares with an ability tile that has not been used yet */
+	private final long[] premium = new long[WORDS];
+	/* squares holding a letter tile with a trap ability */
+	private final long[] traps = new long[WORDS];
+	/* the letter (upper case) and points of the tile on each square */
+	private final byte[] letters = new byte[SQUARES];
+	private final byte[] points = new byte[SQUARES];
+	/* the TileCodes code of the tile on each square */
+	private final byte[] codes = new byte[SQUARES];
+	private int count;
+	private long hash;
+
+	/**
+	 * Constructor method for an empty board
+	 */
+	BitBoard() {
+	}
+
+	/**
+	 * Constructor method for a copy of another board, which can then be
+	 * changed on its own
+	 *
+	 * @param other
+	 *            - the board to copy
+	 */
+	BitBoard(BitBoard other) {
+		System.arraycopy(other.occupied, 0, occupied, 0, WORDS);
+		System.arraycopy(other.premium, 0, premium, 0, WORDS);
+		System.arraycopy(other.traps, 0, traps, 0, WORDS);
+		System.arraycopy(other.letters, 0, letters, 0, SQUARES);
+		System.arraycopy(other.points, 0, points, 0, SQUARES);
+		System.arraycopy(other.codes, 0, codes, 0, SQUARES);
+		count = other.count;
+		hash = other.hash;
+	}
+
+	/**
+	 * Method to convert a (row, col) into a square index
+	 *
+	 * @return row * {@link Board#BOARD_SIZE} + col
+	 */
+	static int square(int row, int col) {
+		return row * SIZE + col;
+	}
+
+	/**
+	 * Method to check that a (row, col) is on the board
+	 *
+	 * @return true if both are between 0 and {@link Board#BOARD_SIZE}
+	 */
+	static boolean onBoard(int row, int col) {
+		return (row >= 0) && (row < SIZE) && (col >= 0) && (col < SIZE);
+	}
+
+	/**
+	 * Method to record a letter tile on a square
+	 *
+	 * @param square
+	 *            - the square index
+	 * @param letter
+	 *            - the value of the tile
+	 * @param value
+	 *            - the points of the tile
+	 * @param code
+	 *            - the {@link TileCodes} code of the tile, any kind but
+	 *            {@link TileCodes#NORMAL} being a trap
+	 */
+	void place(int square, char letter, int value, int code) {
+		long bit = 1L << square;
+		if ((occupied[square >>> 6] & bit) == 0) {
+			count++;
+		} else {
+			/* take the old tile out of the hash */
+			hash ^= Zobrist.tile(square, codes[square] & 0xFF);
+		}
+		if (isPremium(square)) {
+			/* the ability tile is used up */
+			hash ^= Zobrist.premium(square);
+		}
+		occupied[square >>> 6] |= bit;
+		premium[square >>> 6] &= ~bit;
+		if (TileCodes.kind(code) != TileCodes.NORMAL) {
+			traps[square >>> 6] |= bit;
+		} else {
+			traps[square >>> 6] &= ~bit;
+		}
+		hash ^= Zobrist.tile(square, code);
+		letters[square] = (byte) Character.toUpperCase(letter);
+		points[square] = (byte) value;
+		codes[square] = (byte) code;
+	}
+
+	/**
+	 * Method to mark an unused ability tile on a square
+	 *
+	 * @param square
+	 *            - the square index
+	 */
+	void setPremium(int square) {
+		if (!isPremium(square)) {
+			hash ^= Zobrist.premium(square);
+		}
+		premium[square >>> 6] |= 1L << square;
+	}
+
+	/**
+	 * @return true if the square holds a letter tile
+	 */
+	boolean isOccupied(int square) {
+		return (occupied[square >>> 6] & (1L << square)) != 0;
+	}
+
+	/**
+	 * @return true if (row, col) is on the board and holds a letter tile
+	 */
+	boolean isOccupied(int row, int col) {
+		return onBoard(row, col) && isOccupied(row * SIZE + col);
+	}
+
+	/**
+	 * @return true if the square has an unused ability tile
+	 */
+	boolean isPremium(int square) {
+		return (premium[square >>> 6] & (1L << square)) != 0;
+	}
+
+	/**
+	 * @return true if the square holds a letter tile with a trap ability
+	 */
+	boolean isTrap(int square) {
+		return (traps[square >>> 6] & (1L << square)) != 0;
+	}
+
+	/**
+	 * @return the upper case letter on the square or 0 if it is empty
+	 */
+	char letter(int square) {
+		return (char) letters[square];
+	}
+
+	/**
+	 * @return the letter on (row, col) or 0 if it is empty or off the board
+	 */
+	char letter(int row, int col) {
+		return onBoard(row, col) ? (char) letters[row * SIZE + col] : 0;
+	}
+
+	/**
+	 * @return the points of the tile on the square, 0 if it is empty
+	 */
+	int points(int square) {
+		return points[square];
+	}
+
+	/**
+	 * @return true if any of the four squares next to (row, col) is occupied
+	 */
+	boolean hasNeighbor(int row, int col) {
+		return isOccupied(row - 1, col) || isOccupied(row + 1, col)
+				|| isOccupied(row, col - 1) || isOccupied(row, col + 1);
+	}
+
+	/**
+	 * @return the Zobrist hash of the tiles and unused ability tiles
+	 */
+	long hash() {
+		return hash;
+	}
+
+	/**
+	 * @return the number of letter tiles on the board
+	 */
+	int count() {
+		return count;
+	}
+}
@@ -11,9 +11,6 @@ package com.aaronmreyes.scrabble.core;
 
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Scanner;
 import java.util.Random;
@@ -48,10 +45,18 @@ final class Board {
 	static final int LOW_PRIORITY = 10;
 	/* our reference to the dictionary for validity checking */
 	private final Dictionary dict;
+	/* packed copy of the letters on the board */
+	private final BitBoard bits = new BitBoard();
+	/* letters allowed on each square by the perpendicular words */
+	private final CrossChecks checks;
+	/* lists possible moves, only built once moves are asked for */
+	private MoveGenerator generator;
 	/* the currently selected board tile by the player */
 	protected Location selectedBoardTile;
 	/* the board of tiles */
 	protected AbstractTile[][] board;
+	/* the last published copy of board, safe to read from any thread */
+	private volatile BoardSnapshot snapshot;
 
 	/**
 	 * The constructor method for a Board. sets up default ability tiles,
@@ -59,22 +64,71 @@ final class Board {
 	 * 
 	 * @param flag
 	 *            - a flag whether or not we are playing with special tiles
+	 * @param gen
+	 *            - the random generator of the game, used to pick special
+	 *            tiles and draw tiles
 	 */
-	protected Board(boolean flag) {
+	protected Board(boolean flag, Random gen) {
 		/* set up board as standard a 15 by 15 2d list */
 		board = new AbstractTile[BOARD_SIZE][BOARD_SIZE];
 		/* Initialize default ability tiles */
 		setUpAbilityTiles();
 		/* set up dictionary of words */
-		HashSet<String> dictionary = setUpDictionary();
+		Dawg dictionary = setUpDictionary();
 		/* set up letter bank */
 		List<AbstractTile> letterBank = setUpLetterBank();
 		/* add special abilities to random tiles if players want */
 		if (flag) {
-			setUpSpecialTiles(letterBank);
+			setUpSpecialTiles(letterBank, gen);
 		}
 		/* set up dictionary */
-		dict = new Dictionary(letterBank, dictionary);
+		dict = new Dictionary(new TileBag(letterBank, new GameRandom(
+				gen.nextLong())), dictionary);
+		/* no tiles yet so every letter is allowed everywhere */
+		checks = new CrossChecks(dictionary);
+		snapshot = BoardSnapshot.of(board);
+	}
+
+	/**
+	 * The constructor method for a Board of a game in progress, restored from
+	 * its tiles rather than set up from the assets.
+	 * 
+	 * @param tiles
+	 *            - the tiles on each square, ability tiles on the squares not
+	 *            covered yet
+	 * @param letterBank
+	 *            - the tiles left in the letterBank, in order
+	 * @param gen
+	 *            - the generator drawing tiles
+	 * @param version
+	 *            - the number of moves played on the board
+	 */
+	Board(AbstractTile[][] tiles, List<AbstractTile> letterBank,
+			GameRandom gen, int version) {
+		board = tiles;
+		Dawg dictionary = setUpDictionary();
+		dict = new Dictionary(new TileBag(letterBank, gen), dictionary);
+		checks = new CrossChecks(dictionary);
+		/* pack the tiles, then work out the checks from the whole board */
+		for (int row = 0; row < BOARD_SIZE; row++) {
+			for (int col = 0; col < BOARD_SIZE; col++) {
+				AbstractTile tile = board[row][col];
+				if (tile instanceof AbilityTile) {
+					bits.setPremium(BitBoard.square(row, col));
+				} else if (tile != null) {
+					bits.place(BitBoard.square(row, col), tile.getValue(),
+							tile.getPoints(), TileCodes.code(tile));
+				}
+			}
+		}
+		for (int row = 0; row < BOARD_SIZE; row++) {
+			for (int col = 0; col < BOARD_SIZE; col++) {
+				if (bits.isOccupied(BitBoard.square(row, col))) {
+					checks.update(bits, row, col);
+				}
+			}
+		}
+		snapshot = BoardSnapshot.of(board, version);
 	}
 
 	/**
@@ -88,43 +142,35 @@ final class Board {
 	 *            - the list of all player in the game
 	 */
 	protected void placeTiles(Player player, List<Player> players) {
-		/* a list to hold any special tiles we encounter */
-		List<AbilityTile> specialTiles = new ArrayList<AbilityTile>();
+		/* score the move (base, abilities and traps) before it is placed */
+		List<Location> locations = new ArrayList<Location>();
+		for (AbstractTile tile : player.getMoves()) {
+			locations.add(tile.getLocation());
+		}
+		MoveScore result = dict.scoreMove(player.getMoves(), locations, board,
+				bits);
 		/* loop through the stack of moves made and pop onto board */
 		for (AbstractTile tile : player.getMoves()) {
-			/* check position on board see if an ability tile was placed */
 			int row = tile.getLocation().getRow();
 			int col = tile.getLocation().getCol();
-			AbstractTile selected = board[row][col];
-			if (selected instanceof AbilityTile) {
-				specialTiles.add((AbilityTile) selected);
-			}
 			/* place step in move on board */
 			board[row][col] = tile;
+			bits.place(BitBoard.square(row, col), tile.getValue(),
+					tile.getPoints(), TileCodes.code(tile));
 		}
-		/* calculate base move score (without abilities) for player */
-		int score = dict.calculateMoveScore(player.getMoves(), board);
-		/* get all nearby special tiles used in the move */
-		List<AbstractTile> traps = dict.findTrapTiles(player.getMoves(), board);
-		/* apply any ability tiles found */
-		if (specialTiles.size() != 0) {
-			/* sort ability tiles by their priority */
-			Collections.sort(specialTiles, new Comparator<AbilityTile>() {
-				@Override
-				public int compare(AbilityTile o1, AbilityTile o2) {
-					return o1.getPriority() - o2.getPriority();
-				}
-			});
-			/* perform ability of all special tiles found on the score */
-			for (AbilityTile tile : specialTiles) {
-				/* keep the current running score updated for the move */
-				score = tile.doAbility(players, score);
-			}
+		/* update the cross-checks around the new tiles */
+		for (AbstractTile tile : player.getMoves()) {
+			int row = tile.getLocation().getRow();
+			int col = tile.getLocation().getCol();
+			checks.update(bits, row, col);
 		}
+		/* publish the new board for other threads */
+		snapshot = snapshot.with(player.getMoves());
+		int score = result.getScore();
 		/* deal with all special tiles found/used in move */
-		if (traps.size() != 0) {
+		if (result.getTraps().size() != 0) {
 			/* perform abilities of these traps */
-			for (AbstractTile tile : traps) {
+			for (AbstractTile tile : result.getTraps()) {
 				tile.doAbility(players, score);
 			}
 		} else {
@@ -133,6 +179,79 @@ final class Board {
 		}
 	}
 
+	/**
+	 * Works out what a move would score on the current board, with the
+	 * ability tiles it covers and the traps it hits, without placing it or
+	 * changing any player. The move is not checked, it should be a valid move
+	 * such as one from {@link #generateMoves(Player)}. Only the returned
+	 * {@link MoveScore} is allocated, so it is cheap enough for search code,
+	 * but like the rest of the Board it must not be called from several
+	 * threads at once.
+	 * 
+	 * @param move
+	 *            - the tiles and where to place them
+	 * 
+	 * @return the {@link MoveScore} of the move
+	 */
+	protected MoveScore evaluate(Move move) {
+		return dict.scoreMove(move.getTiles(), move.getLocations(), board,
+				bits);
+	}
+
+	/**
+	 * Works out what a move would score like {@link #evaluate(Move)}, but with
+	 * the caller's own scratch state, so several threads can score moves at
+	 * once as long as each has its own {@link MoveScorer} and nothing is
+	 * placed on the board meanwhile.
+	 * 
+	 * @param move
+	 *            - the tiles and where to place them
+	 * @param scorer
+	 *            - the scorer of the calling thread
+	 * 
+	 * @return the {@link MoveScore} of the move
+	 */
+	MoveScore evaluate(Move move, MoveScorer scorer) {
+		return scorer.score(move.getTiles(), move.getLocations(), board, bits);
+	}
+
+	/**
+	 * Getter method for the latest snapshot of the board, which can be read
+	 * from any thread
+	 * 
+	 * @return the {@link BoardSnapshot} after the last move
+	 */
+	protected BoardSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Getter method for the dictionary checking moves on this board
+	 * 
+	 * @return the {@link Dictionary}
+	 */
+	Dictionary getDictionary() {
+		return dict;
+	}
+
+	/**
+	 * Getter method for the packed copy of this board
+	 * 
+	 * @return the {@link BitBoard}
+	 */
+	BitBoard getBits() {
+		return bits;
+	}
+
+	/**
+	 * Getter method for the cross-checks of this board
+	 * 
+	 * @return the {@link CrossChecks}
+	 */
+	CrossChecks getChecks() {
+		return checks;
+	}
+
 	/**
 	 * This method draws a random tile from the letterBank
 	 * 
@@ -142,6 +261,18 @@ final class Board {
 		return dict.draw();
 	}
 
+	/**
+	 * This method draws up to n random tiles from the letterBank
+	 * 
+	 * @param n
+	 *            - the number of tiles wanted
+	 * 
+	 * @return the tiles drawn, fewer than n if the letterBank runs out
+	 */
+	protected List<AbstractTile> getTiles(int n) {
+		return dict.draw(n);
+	}
+
 	/**
 	 * When a tile needs to be put back in the letterBank
 	 * 
@@ -153,6 +284,55 @@ final class Board {
 		dict.put(tile);
 	}
 
+	/**
+	 * When several tiles need to be put back in the letterBank
+	 * 
+	 * @param tiles
+	 *            - the tiles to return
+	 */
+	protected void putTiles(List<AbstractTile> tiles) {
+		dict.putAll(tiles);
+	}
+
+	/**
+	 * Returns the number of tiles of a letter left in the letterBank
+	 * 
+	 * @param letter
+	 *            - the letter to count
+	 */
+	protected int getLetterBankTotal(char letter) {
+		return dict.getTilesLeft(letter);
+	}
+
+	/**
+	 * Returns the Zobrist hash of the tiles on the board and the ability tiles
+	 * not used yet, kept up to date as tiles are placed
+	 */
+	protected long getHash() {
+		return bits.hash();
+	}
+
+	/**
+	 * Returns the Zobrist hash of the tiles left in the letterBank
+	 */
+	protected long getLetterBankHash() {
+		return dict.getTilesHash();
+	}
+
+	/**
+	 * Returns a new list of the tiles left in the letterBank
+	 */
+	protected List<AbstractTile> getLetterBank() {
+		return dict.getTiles();
+	}
+
+	/**
+	 * Returns the state of the generator drawing tiles from the letterBank
+	 */
+	long getLetterBankState() {
+		return dict.getTilesState();
+	}
+
 	/**
 	 * Returns the length of the letterBank
 	 */
@@ -168,7 +348,7 @@ final class Board {
 	 * @return true or false if the move is still valid
 	 */
 	protected boolean isValidStep(Player player) {
-		return dict.validateStep(player, board);
+		return dict.validateStep(player, bits);
 	}
 
 	/**
@@ -177,13 +357,28 @@ final class Board {
 	 * 
 	 * @param player
 	 *            - the currently playing player
-	 * @param numPlayers
-	 *            - the number of players in the current game
 	 * 
 	 * @return true or false if the entire move is valid
 	 */
-	protected boolean isValidWord(Player player, int numPlayers) {
-		return dict.validateWord(player, board, numPlayers);
+	protected boolean isValidWord(Player player) {
+		return dict.validateWord(player, bits, checks);
+	}
+
+	/**
+	 * Lists every legal move the player can make with the tiles in their hand
+	 * on the current board.
+	 * 
+	 * @param player
+	 *            - the player whose hand is used
+	 * 
+	 * @return the list of legal {@link Move}s
+	 */
+	protected List<Move> generateMoves(Player player) {
+		if (generator == null) {
+			generator = new MoveGenerator(
+					LexiconRegistry.gaddag(LexiconRegistry.DEFAULT));
+		}
+		return generator.generate(bits, checks, player.hand);
 	}
 
 	/**
@@ -230,22 +425,22 @@ final class Board {
 					/* figure out which ability tile we have */
 					switch (str) {
 					case "TW":
-						loc = new Location(row, col);
+						loc = Location.of(row, col);
 						board[row][col] = new TripleWord(loc, LOW_PRIORITY,
 								color.RED);
 						break;
 					case "DW":
-						loc = new Location(row, col);
+						loc = Location.of(row, col);
 						board[row][col] = new DoubleWord(loc, LOW_PRIORITY,
 								color.MAGENTA);
 						break;
 					case "TL":
-						loc = new Location(row, col);
+						loc = Location.of(row, col);
 						board[row][col] = new TripleLetter(loc, HIGH_PRIORITY,
 								color.BLUE);
 						break;
 					case "DL":
-						loc = new Location(row, col);
+						loc = Location.of(row, col);
 						board[row][col] = new DoubleLetter(loc, HIGH_PRIORITY,
 								color.CYAN);
 						break;
@@ -256,6 +451,10 @@ final class Board {
 						data.close();
 						throw new IllegalStateException("ability.txt: " + err);
 					}
+					/* remember which squares hold an ability tile */
+					if (board[row][col] != null) {
+						bits.setPremium(BitBoard.square(row, col));
+					}
 					/* update our location on board */
 					col += 1;
 				}
@@ -271,22 +470,14 @@ final class Board {
 	}
 
 	/*
-	 * uses assets/dictioanry.txt to set up set of words in our dictionary
+	 * uses the shared lexicon (assets/dictioanry.*) as the word graph of our
+	 * dictionary
 	 */
-	private HashSet<String> setUpDictionary() {
-		/* set up hash table for constant lookup */
-		HashSet<String> dictionary = new HashSet<String>();
-		/* set up file descriptor */
+	private Dawg setUpDictionary() {
+		Dawg dictionary = null;
 		try {
-			InputStream file = getClass().getResourceAsStream(
-					"/assets/dictionary.txt");
-			Scanner data = new Scanner(file);
-			/* read in each word and add to hash table */
-			while (data.hasNextLine()) {
-				String word = data.nextLine();
-				dictionary.add(word);
-			}
-			data.close();
+			/* loaded by the first board, shared by the rest */
+			dictionary = LexiconRegistry.lexicon(LexiconRegistry.DEFAULT);
 		} catch (Exception e) {
 			e.printStackTrace();
 			System.exit(2); /* abort */
@@ -350,8 +541,7 @@ final class Board {
 	 * if special tiles are enabled, then picks SPECIAL_TILES_ALLOWED tiles to
 	 * be made into special tiles and shuffled bank into letterBank.
 	 */
-	private void setUpSpecialTiles(List<AbstractTile> letterBank) {
-		Random gen = new Random();
+	private void setUpSpecialTiles(List<AbstractTile> letterBank, Random gen) {
 		int index;
 		/* for the number of special tiles allowed, make them */
 		for (int count = 0; count < SPECIAL_TILES_ALLOWED; count++) {
@@ -0,0 +1,153 @@
+/*
+ * BoardSnapshot.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * An immutable view of the tiles on the {@link Board} after a given number of
+ * moves. The board publishes a new snapshot after every move, copying only
+ * the rows the move changed and sharing every other row with the snapshot
+ * before it, so any thread (an AI worker, a spectator, the GUI) can read a
+ * consistent board while the game goes on, without locking or copying the
+ * whole board.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class BoardSnapshot {
+	/* the rows of tiles, never written once the snapshot is published */
+	private final AbstractTile[][] rows;
+	private final int version;
+
+	/*
+	 * Constructor method for a snapshot made of the given rows
+	 */
+	private BoardSnapshot(AbstractTile[][] rows, int version) {
+		this.rows = rows;
+		this.version = version;
+	}
+
+	/**
+	 * Method to take the first snapshot of a board, copying every row
+	 *
+	 * @param board
+	 *            - the tiles on the board
+	 *
+	 * @return the snapshot of the board before any move
+	 */
+	static BoardSnapshot of(AbstractTile[][] board) {
+		return of(board, 0);
+	}
+
+	/**
+	 * Method to take the first snapshot of a board restored with moves on it,
+	 * copying every row
+	 *
+	 * @param board
+	 *            - the tiles on the board
+	 * @param version
+	 *            - the number of moves played on the board
+	 *
+	 * @return the snapshot of the board
+	 */
+	static BoardSnapshot of(AbstractTile[][] board, int version) {
+		AbstractTile[][] rows = new AbstractTile[board.length][];
+		for (int row = 0; row < board.length; row++) {
+			rows[row] = board[row].clone();
+		}
+		return new BoardSnapshot(rows, version);
+	}
+
+	/**
+	 * Method to make the snapshot that follows this one once a move is placed.
+	 * Only the rows holding a tile of the move are copied.
+	 *
+	 * @param move
+	 *            - the tiles placed, each with its location set
+	 *
+	 * @return the new snapshot, this one is left unchanged
+	 */
+	BoardSnapshot with(List<AbstractTile> move) {
+		AbstractTile[][] next = rows.clone();
+		for (AbstractTile tile : move) {
+			int row = tile.getLocation().getRow();
+			if (next[row] == rows[row]) {
+				/* first tile on this row, copy it before writing */
+				next[row] = rows[row].clone();
+			}
+			next[row][tile.getLocation().getCol()] = tile;
+		}
+		return new BoardSnapshot(next, version + 1);
+	}
+
+	/**
+	 * Getter method for the tile on a square
+	 *
+	 * @param row
+	 *            - Row on the board
+	 * @param col
+	 *            - Column on the board
+	 *
+	 * @return the tile (a letter or an unused ability tile) or null if empty
+	 */
+	public AbstractTile getTile(int row, int col) {
+		return rows[row][col];
+	}
+
+	/**
+	 * Getter method for the letter on a square
+	 *
+	 * @param row
+	 *            - Row on the board
+	 * @param col
+	 *            - Column on the board
+	 *
+	 * @return the letter or '\0' if the square has no letter tile
+	 */
+	public char getLetter(int row, int col) {
+		AbstractTile tile = rows[row][col];
+		return (tile == null) ? '\0' : tile.getValue();
+	}
+
+	/**
+	 * Getter method for the number of rows, and of columns, of the board
+	 *
+	 * @return the size of the square board
+	 */
+	public int getSize() {
+		return rows.length;
+	}
+
+	/**
+	 * Getter method for the number of moves placed before this snapshot
+	 *
+	 * @return the version of the board, 0 for the empty board
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Method to copy the snapshot into a new array, for code that wants the
+	 * board in the form {@link Game#getBoard()} returns it
+	 *
+	 * @return a fresh copy of the tiles
+	 */
+	public AbstractTile[][] toArray() {
+		AbstractTile[][] copy = new AbstractTile[rows.length][];
+		for (int row = 0; row < rows.length; row++) {
+			copy[row] = rows[row].clone();
+		}
+		return copy;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * CrossChecks.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+/**
+ * This class keeps, for every square on the {@link Board}, a 26 bit mask of the
+ * letters that can be placed there without forming an invalid perpendicular
+ * word (bit 0 is 'A'). The across mask is used when a tile is part of an
+ * across word (so it checks the letters above and below the square) and the
+ * down mask when it is part of a down word. Occupied squares have empty masks.
+ * Only the squares at the ends of the lines through a new tile can change, so
+ * the masks are updated as tiles are placed instead of being rebuilt.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class CrossChecks {
+	/* mask allowing every letter */
+	static final int ALL = (1 << 26) - 1;
+	private static final int SIZE = Board.BOARD_SIZE;
+	private final Dawg lexicon;
+	/* masks indexed by row * BOARD_SIZE + col */
+	private final int[] across = new int[SIZE * SIZE];
+	private final int[] down = new int[SIZE * SIZE];
+
+	/**
+	 * Constructor method for the cross-checks of an empty board
+	 *
+	 * @param lexicon
+	 *            - the words the perpendicular words are checked against
+	 */
+	CrossChecks(Dawg lexicon) {
+		this.lexicon = lexicon;
+		for (int sq = 0; sq < across.length; sq++) {
+			across[sq] = ALL;
+			down[sq] = ALL;
+		}
+	}
+
+	/**
+	 * Constructor method for a copy of other cross-checks, which can then be
+	 * updated on their own
+	 *
+	 * @param other
+	 *            - the cross-checks to copy
+	 */
+	CrossChecks(CrossChecks other) {
+		this.lexicon = other.lexicon;
+		System.arraycopy(other.across, 0, across, 0, across.length);
+		System.arraycopy(other.down, 0, down, 0, down.length);
+	}
+
+	/**
+	 * Getter method for the letters allowed on a square by an across play
+	 *
+	 * @param square
+	 *            - row * {@link Board#BOARD_SIZE} + col
+	 *
+	 * @return the letter mask
+	 */
+	int across(int square) {
+		return across[square];
+	}
+
+	/**
+	 * Getter method for the letters allowed on a square by a down play
+	 *
+	 * @param square
+	 *            - row * {@link Board#BOARD_SIZE} + col
+	 *
+	 * @return the letter mask
+	 */
+	int down(int square) {
+		return down[square];
+	}
+
+	/**
+	 * Method to check a single letter against a mask
+	 *
+	 * @param mask
+	 *            - a mask from {@link #across(int)} or {@link #down(int)}
+	 * @param letter
+	 *            - the letter (either case)
+	 *
+	 * @return true if the letter is allowed
+	 */
+	static boolean allows(int mask, char letter) {
+		int sym = Dawg.toSymbol(letter);
+		return (sym >= 0) && (sym < 26) && ((mask & (1 << sym)) != 0);
+	}
+
+	/**
+	 * Method to update the masks after a tile was placed at (row, col)
+	 *
+	 * @param board
+	 *            - the packed board, already holding the new tile
+	 * @param row
+	 *            - the row of the new tile
+	 * @param col
+	 *            - the column of the new tile
+	 */
+	void update(BitBoard board, int row, int col) {
+		int sq = row * SIZE + col;
+		across[sq] = 0;
+		down[sq] = 0;
+		/* the first empty square at each end of both lines */
+		updateEnd(board, row, col, -1, 0);
+		updateEnd(board, row, col, 1, 0);
+		updateEnd(board, row, col, 0, -1);
+		updateEnd(board, row, col, 0, 1);
+	}
+
+	/*
+	 * walks from (row, col) over tiles and recomputes the first empty square
+	 */
+	private void updateEnd(BitBoard board, int row, int col,
+			int drow, int dcol) {
+		int r = row + drow;
+		int c = col + dcol;
+		while (board.letter(r, c) != 0) {
+			r += drow;
+			c += dcol;
+		}
+		if ((r < 0) || (r >= SIZE) || (c < 0) || (c >= SIZE)) {
+			return;
+		}
+		if (drow != 0) {
+			across[r * SIZE + c] = compute(board, r, c, 1, 0);
+		} else {
+			down[r * SIZE + c] = compute(board, r, c, 0, 1);
+		}
+	}
+
+	/*
+	 * builds the mask of an empty square from the letters before and after it
+	 * in the direction (drow, dcol)
+	 */
+	private int compute(BitBoard board, int row, int col, int drow,
+			int dcol) {
+		/* find the start of the letters before the square */
+		int r = row - drow;
+		int c = col - dcol;
+		while (board.letter(r, c) != 0) {
+			r -= drow;
+			c -= dcol;
+		}
+		boolean before = (r != row - drow) || (c != col - dcol);
+		boolean after = board.letter(row + drow, col + dcol) != 0;
+		if (!before && !after) {
+			return ALL;
+		}
+		/* walk the letters before the square */
+		int node = Dawg.ROOT;
+		r += drow;
+		c += dcol;
+		while ((r != row) || (c != col)) {
+			int edge = lexicon.edge(node, Dawg.toSymbol(board.letter(r, c)));
+			if (edge < 0) {
+				return 0;
+			}
+			node = lexicon.target(edge);
+			r += drow;
+			c += dcol;
+		}
+		/* try every letter on the square followed by the letters after it */
+		int mask = 0;
+		for (int e = lexicon.firstEdge(node); e > 0; e = lexicon.nextEdge(e)) {
+			int edge = e;
+			char next;
+			r = row + drow;
+			c = col + dcol;
+			while ((edge > 0) && ((next = board.letter(r, c)) != 0)) {
+				edge = lexicon.edge(lexicon.target(edge), Dawg.toSymbol(next));
+				r += drow;
+				c += dcol;
+			}
+			if ((edge > 0) && lexicon.accepts(edge)) {
+				mask |= 1 << lexicon.symbol(e);
+			}
+		}
+		return mask;
+	}
+}
@@ -0,0 +1,643 @@
+/*
+ * Dawg.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * An immutable, minimized word graph (directed acyclic word graph) used as the
+ * lexicon of the game. Every node is stored as a contiguous run of edges in a
+ * single block of ints, so the whole word list costs a few hundred KB instead of
+ * tens of MB of String objects. Once built a Dawg is never modified and can be
+ * shared by any number of {@link Dictionary}s and threads.
+ *
+ * A graph can be written to a compiled binary file (see
+ * {@link LexiconCompiler}) and memory-mapped back in, in which case the edges
+ * are read straight from the mapped file and never copied onto the heap. The
+ * file is a header of four big-endian ints (magic, version, number of words,
+ * number of edges) followed by the packed edges.
+ *
+ * Each edge is packed into one int:
+ *
+ * <pre>
+ *  bit 31     : last edge of its node
+ *  bit 30     : a word ends at the target of this edge
+ *  bits 25-29 : the symbol on the edge ({@link #toSymbol(char)})
+ *  bits 0-24  : the index of the first edge of the target node
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class Dawg {
+	/* the number of symbols: 'a' to 'z' and the GADDAG separator */
+	static final int NUM_SYMBOLS = 27;
+	/* the symbol used by a GADDAG to separate the reversed prefix */
+	static final char SEPARATOR = '{';
+	/* node index used for "no outgoing edges" */
+	static final int NONE = 0;
+	/* the root node always starts right after the sentinel edge */
+	static final int ROOT = 1;
+	/* edge field masks */
+	private static final int LAST = 0x80000000;
+	private static final int TERMINAL = 0x40000000;
+	private static final int SYMBOL_SHIFT = 25;
+	private static final int TARGET_MASK = 0x01FFFFFF;
+	/* compiled file header */
+	private static final int MAGIC = 0x44415747; /* "DAWG" */
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 16;
+	/* the packed edges, edge 0 is an unused sentinel */
+	private final IntBuffer edges;
+	/* the number of edges including the sentinel */
+	private final int length;
+	/* the number of words stored */
+	private final int size;
+
+	/**
+	 * Constructor method used by the builder and the binary loader
+	 *
+	 * @param edges
+	 *            - the packed edges, on or off the heap
+	 * @param size
+	 *            - the number of words in the graph
+	 */
+	private Dawg(IntBuffer edges, int size) {
+		this.edges = edges;
+		this.length = edges.limit();
+		this.size = size;
+	}
+
+	/**
+	 * Method to read a word list (one word per line) and build a Dawg from it.
+	 * The list does not need to be sorted or free of duplicates.
+	 *
+	 * @param in
+	 *            - the stream to read the words from
+	 *
+	 * @return the built {@link Dawg}
+	 */
+	static Dawg load(InputStream in) {
+		List<String> words = new ArrayList<String>();
+		Scanner data = new Scanner(in);
+		while (data.hasNextLine()) {
+			String word = data.nextLine().trim().toLowerCase();
+			if (word.length() > 0) {
+				words.add(word);
+			}
+		}
+		data.close();
+		Collections.sort(words);
+		return build(words);
+	}
+
+	/**
+	 * Method to open a compiled graph. A file on disk is memory-mapped, any
+	 * other resource (such as one inside a jar) is read into a direct buffer.
+	 *
+	 * @param url
+	 *            - where the compiled graph is
+	 *
+	 * @return the {@link Dawg} backed by the file
+	 */
+	static Dawg open(URL url) throws IOException {
+		if ("file".equals(url.getProtocol())) {
+			try {
+				return map(Paths.get(url.toURI()));
+			} catch (URISyntaxException e) {
+				throw new IOException(e);
+			}
+		}
+		InputStream in = url.openStream();
+		try {
+			return read(in);
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Method to memory-map a compiled graph
+	 *
+	 * @param path
+	 *            - the compiled file
+	 *
+	 * @return the {@link Dawg} backed by the mapped file
+	 */
+	static Dawg map(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			/* the mapping stays valid once the channel is closed */
+			return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					channel.size()));
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Method to read a compiled graph from a stream into a direct buffer
+	 *
+	 * @param in
+	 *            - the stream holding the compiled graph
+	 *
+	 * @return the {@link Dawg} read
+	 */
+	static Dawg read(InputStream in) throws IOException {
+		ReadableByteChannel channel = Channels.newChannel(in);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		readFully(channel, header);
+		int edgeCount = header.getInt(12);
+		if ((edgeCount < 1) || (edgeCount > TARGET_MASK)) {
+			throw new IllegalStateException("compiled lexicon: bad edge count");
+		}
+		ByteBuffer data = ByteBuffer.allocateDirect(HEADER_BYTES + 4
+				* edgeCount);
+		header.flip();
+		data.put(header);
+		readFully(channel, data);
+		data.flip();
+		return wrap(data);
+	}
+
+	/*
+	 * checks the header of a compiled graph and wraps its edges
+	 */
+	private static Dawg wrap(ByteBuffer data) {
+		if ((data.limit() < HEADER_BYTES) || (data.getInt(0) != MAGIC)) {
+			throw new IllegalStateException("compiled lexicon: bad header");
+		}
+		if (data.getInt(4) != VERSION) {
+			throw new IllegalStateException("compiled lexicon: version "
+					+ data.getInt(4) + " not supported");
+		}
+		int words = data.getInt(8);
+		int edgeCount = data.getInt(12);
+		if (data.limit() != HEADER_BYTES + 4L * edgeCount) {
+			throw new IllegalStateException("compiled lexicon: truncated");
+		}
+		data.position(HEADER_BYTES);
+		return new Dawg(data.slice().asIntBuffer(), words);
+	}
+
+	/*
+	 * reads from channel until buffer is full
+	 */
+	private static void readFully(ReadableByteChannel channel, ByteBuffer buf)
+			throws IOException {
+		while (buf.hasRemaining()) {
+			if (channel.read(buf) < 0) {
+				throw new IllegalStateException("compiled lexicon: truncated");
+			}
+		}
+	}
+
+	/**
+	 * Method to write this graph in the compiled format read by
+	 * {@link #open(URL)}
+	 *
+	 * @param out
+	 *            - where to write the graph
+	 */
+	void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+				out));
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(size);
+		data.writeInt(length);
+		for (int e = 0; e < length; e++) {
+			data.writeInt(edges.get(e));
+		}
+		data.flush();
+	}
+
+	/**
+	 * Method to build a Dawg from a sorted list of words using incremental
+	 * minimization, so only the path of the last word added is ever left
+	 * unminimized. Duplicate words are ignored.
+	 *
+	 * @param words
+	 *            - the words in ascending order
+	 *
+	 * @return the built {@link Dawg}
+	 */
+	static Dawg build(Iterable<String> words) {
+		Builder builder = new Builder();
+		for (String word : words) {
+			builder.add(word);
+		}
+		return builder.finish();
+	}
+
+	/**
+	 * Method to convert a character into the symbol stored on an edge
+	 *
+	 * @param c
+	 *            - a letter (either case) or {@link #SEPARATOR}
+	 *
+	 * @return the symbol, or -1 if the character has none
+	 */
+	static int toSymbol(char c) {
+		int sym = Character.toLowerCase(c) - 'a';
+		if ((sym < 0) || (sym >= NUM_SYMBOLS)) {
+			return -1;
+		}
+		return sym;
+	}
+
+	/**
+	 * @return the number of words in the graph
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of edges in the graph
+	 */
+	int edgeCount() {
+		return length - 1;
+	}
+
+	/**
+	 * Method to check if a word is in the graph
+	 *
+	 * @param word
+	 *            - the word (either case)
+	 *
+	 * @return true if the word is in the graph
+	 */
+	boolean contains(CharSequence word) {
+		int edge = walk(word);
+		return (edge > 0) && accepts(edge);
+	}
+
+	/**
+	 * Method to check if any word in the graph starts with the given prefix
+	 *
+	 * @param prefix
+	 *            - the prefix (either case)
+	 *
+	 * @return true if at least one word begins with prefix
+	 */
+	boolean hasPrefix(CharSequence prefix) {
+		return (prefix.length() == 0) || (walk(prefix) > 0);
+	}
+
+	/**
+	 * Method to find the node reached after following a prefix from the root.
+	 *
+	 * @param prefix
+	 *            - the prefix (either case)
+	 *
+	 * @return the node reached, {@link #NONE} if the prefix is only a whole
+	 *         word, or -1 if no word starts with prefix
+	 */
+	int nodeFor(CharSequence prefix) {
+		if (prefix.length() == 0) {
+			return ROOT;
+		}
+		int edge = walk(prefix);
+		return (edge > 0) ? target(edge) : -1;
+	}
+
+	/*
+	 * follows the characters of a string from the root and returns the last
+	 * edge taken or -1
+	 */
+	private int walk(CharSequence str) {
+		int node = ROOT;
+		int edge = -1;
+		for (int i = 0; i < str.length(); i++) {
+			int sym = toSymbol(str.charAt(i));
+			if (sym < 0) {
+				return -1;
+			}
+			edge = edge(node, sym);
+			if (edge < 0) {
+				return -1;
+			}
+			node = target(edge);
+		}
+		return edge;
+	}
+
+	/**
+	 * Method to find the edge leaving a node with a given symbol
+	 *
+	 * @param node
+	 *            - the node to search
+	 * @param sym
+	 *            - the symbol to look for
+	 *
+	 * @return the edge index or -1 if there is no such edge
+	 */
+	int edge(int node, int sym) {
+		if ((node == NONE) || (node >= length)) {
+			return -1;
+		}
+		for (int e = node;; e++) {
+			int packed = edges.get(e);
+			int found = (packed >>> SYMBOL_SHIFT) & 0x1F;
+			if (found == sym) {
+				return e;
+			}
+			/* edges are stored in symbol order */
+			if ((found > sym) || (packed < 0)) {
+				return -1;
+			}
+		}
+	}
+
+	/**
+	 * Method to get a bitmask of all symbols leaving a node
+	 *
+	 * @param node
+	 *            - the node to look at
+	 *
+	 * @return bit n is set when symbol n leaves the node
+	 */
+	int symbolMask(int node) {
+		int mask = 0;
+		for (int e = firstEdge(node); e > 0; e = nextEdge(e)) {
+			mask |= 1 << symbol(e);
+		}
+		return mask;
+	}
+
+	/**
+	 * Method to start iterating over the edges of a node
+	 *
+	 * @param node
+	 *            - the node
+	 *
+	 * @return the first edge or -1 if the node has no edges
+	 */
+	int firstEdge(int node) {
+		if ((node == NONE) || (node >= length)) {
+			return -1;
+		}
+		return node;
+	}
+
+	/**
+	 * Method to continue iterating over the edges of a node
+	 *
+	 * @param edge
+	 *            - the current edge
+	 *
+	 * @return the next edge of the same node or -1 if edge was the last
+	 */
+	int nextEdge(int edge) {
+		return (edges.get(edge) < 0) ? -1 : edge + 1;
+	}
+
+	/**
+	 * @return the symbol on an edge
+	 */
+	int symbol(int edge) {
+		return (edges.get(edge) >>> SYMBOL_SHIFT) & 0x1F;
+	}
+
+	/**
+	 * @return the character on an edge (lower case or {@link #SEPARATOR})
+	 */
+	char letter(int edge) {
+		return (char) ('a' + symbol(edge));
+	}
+
+	/**
+	 * @return the node an edge leads to, {@link #NONE} for none
+	 */
+	int target(int edge) {
+		return edges.get(edge) & TARGET_MASK;
+	}
+
+	/**
+	 * @return true if a word ends by taking this edge
+	 */
+	boolean accepts(int edge) {
+		return (edges.get(edge) & TERMINAL) != 0;
+	}
+
+	/**
+	 * Method to list every word in the graph in sorted order
+	 *
+	 * @return the list of words
+	 */
+	List<String> words() {
+		List<String> found = new ArrayList<String>(size);
+		collect(ROOT, new StringBuilder(), found);
+		return found;
+	}
+
+	/*
+	 * depth first walk used by words()
+	 */
+	private void collect(int node, StringBuilder prefix, List<String> found) {
+		for (int e = firstEdge(node); e > 0; e = nextEdge(e)) {
+			prefix.append(letter(e));
+			if (accepts(e)) {
+				found.add(prefix.toString());
+			}
+			collect(target(e), prefix, found);
+			prefix.setLength(prefix.length() - 1);
+		}
+	}
+
+	/*
+	 * A node used only while building. Nodes on the path of the last word added
+	 * are mutable, all others are frozen and registered.
+	 */
+	private static final class Node {
+		private byte[] symbols = new byte[0];
+		private Node[] targets = new Node[0];
+		private boolean terminal;
+		/* index of the first edge once written, NONE for leaves */
+		private int index = -1;
+		private int hash;
+
+		private Node last() {
+			return targets[targets.length - 1];
+		}
+
+		private void add(int sym, Node target) {
+			int n = symbols.length;
+			symbols = Arrays.copyOf(symbols, n + 1);
+			targets = Arrays.copyOf(targets, n + 1);
+			symbols[n] = (byte) sym;
+			targets[n] = target;
+		}
+
+		/* must be called once the node can no longer change */
+		private void seal() {
+			int h = terminal ? 1 : 0;
+			for (int i = 0; i < symbols.length; i++) {
+				h = 31 * h + symbols[i];
+				h = 31 * h + System.identityHashCode(targets[i]);
+			}
+			hash = h;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Node)) {
+				return false;
+			}
+			Node other = (Node) obj;
+			if ((terminal != other.terminal)
+					|| !Arrays.equals(symbols, other.symbols)) {
+				return false;
+			}
+			/* children are already unique so identity is enough */
+			for (int i = 0; i < targets.length; i++) {
+				if (targets[i] != other.targets[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/*
+	 * incremental builder for sorted input (Daciuk et al.)
+	 */
+	private static final class Builder {
+		private final Map<Node, Node> register = new HashMap<Node, Node>();
+		private final Node root = new Node();
+		private String previous = "";
+		private int count = 0;
+
+		private void add(String word) {
+			int cmp = word.compareTo(previous);
+			if (cmp == 0) {
+				return; /* duplicate */
+			}
+			if (cmp < 0) {
+				throw new IllegalArgumentException("words not sorted: "
+						+ previous + " > " + word);
+			}
+			/* find the common prefix with the last word added */
+			int common = 0;
+			int max = Math.min(word.length(), previous.length());
+			while ((common < max)
+					&& (word.charAt(common) == previous.charAt(common))) {
+				common++;
+			}
+			/* walk down the shared prefix */
+			Node node = root;
+			for (int i = 0; i < common; i++) {
+				node = node.last();
+			}
+			/* the rest of the last word can now be minimized */
+			if (node.symbols.length > 0) {
+				node.targets[node.targets.length - 1] = minimize(node.last());
+			}
+			/* add the new suffix */
+			for (int i = common; i < word.length(); i++) {
+				int sym = toSymbol(word.charAt(i));
+				if (sym < 0) {
+					throw new IllegalArgumentException("invalid word: " + word);
+				}
+				Node next = new Node();
+				node.add(sym, next);
+				node = next;
+			}
+			node.terminal = true;
+			previous = word;
+			count++;
+		}
+
+		/* replaces a subtree by its registered equivalent, bottom up */
+		private Node minimize(Node node) {
+			if (node.symbols.length > 0) {
+				int last = node.targets.length - 1;
+				node.targets[last] = minimize(node.targets[last]);
+			}
+			node.seal();
+			Node found = register.get(node);
+			if (found != null) {
+				return found;
+			}
+			register.put(node, node);
+			return node;
+		}
+
+		private Dawg finish() {
+			if (root.symbols.length > 0) {
+				root.targets[root.targets.length - 1] = minimize(root.last());
+			}
+			/* lay out every node with edges, the root first */
+			List<Node> order = new ArrayList<Node>();
+			int next = ROOT;
+			root.index = next;
+			next += root.symbols.length;
+			order.add(root);
+			for (Node node : register.keySet()) {
+				if (node.symbols.length == 0) {
+					node.index = NONE;
+				} else {
+					node.index = next;
+					next += node.symbols.length;
+					order.add(node);
+				}
+			}
+			if ((root.symbols.length == 0) || (next > TARGET_MASK)) {
+				if (root.symbols.length == 0) {
+					return new Dawg(IntBuffer.wrap(new int[1]), 0);
+				}
+				throw new IllegalStateException("word graph too large");
+			}
+			int[] edges = new int[next];
+			for (Node node : order) {
+				for (int i = 0; i < node.symbols.length; i++) {
+					Node target = node.targets[i];
+					int packed = target.index
+							| (node.symbols[i] << SYMBOL_SHIFT);
+					if (target.terminal) {
+						packed |= TERMINAL;
+					}
+					if (i == node.symbols.length - 1) {
+						packed |= LAST;
+					}
+					edges[node.index + i] = packed;
+				}
+			}
+			return new Dawg(IntBuffer.wrap(edges), count);
+		}
+	}
+}
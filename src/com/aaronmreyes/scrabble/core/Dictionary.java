@@ -9,15 +9,10 @@
 
 package com.aaronmreyes.scrabble.core;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
-import java.util.Set;
 
 import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
 import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
-import com.aaronmreyes.scrabble.core.tiles.NormalTile;
 
 /**
  * This class is used to perform validations on a given word that a given play
@@ -28,16 +23,17 @@ import com.aaronmreyes.scrabble.core.tiles.NormalTile;
  * 
  */
 class Dictionary {
-	final private int LETTER_BANK_SIZE;
-	/* the generator to draw tiles from bag */
-	final private Random letterGen = new Random();
-	/* the list containing the tiles in letterBank */
-	private List<AbstractTile> letterBank;
-	/* the set containing the words in dictionary.txt */
-	private Set<String> dictionary;
+	/* the tiles left in the letterBank */
+	private final TileBag letterBank;
+	/* the word graph containing the words in dictionary.txt */
+	private final Dawg lexicon;
+	/* scratch bit sets of squares used while checking and scoring a move */
+	private final long[] stepSquares = new long[(BitBoard.SQUARES + 63) / 64];
+	/* scores the moves played on the board */
+	private final MoveScorer scorer = new MoveScorer();
 
 	/* all the locations for travel on the board */
-	private enum directions {
+	enum directions {
 		NORTH, SOUTH, EAST, WEST
 	};
 
@@ -46,14 +42,12 @@ class Dictionary {
 	 * 
 	 * @param letterBank
 	 *            - the letterBank created by the {@link Board} class
-	 * @param dictionary
-	 *            - the list of words created by the {@link Board} class
+	 * @param lexicon
+	 *            - the word graph created by the {@link Board} class
 	 */
-	public Dictionary(List<AbstractTile> letterBank, HashSet<String> dictionary) {
-		this.dictionary = dictionary;
+	public Dictionary(TileBag letterBank, Dawg lexicon) {
+		this.lexicon = lexicon;
 		this.letterBank = letterBank;
-		/* store original letterBank size */
-		this.LETTER_BANK_SIZE = letterBank.size();
 	}
 
 	/**
@@ -62,15 +56,19 @@ class Dictionary {
 	 * @return an {@link AbstractTile}
 	 */
 	protected AbstractTile draw() {
-		if (letterBank.size() > 0) {
-			/* get a pseudo-random index in the letterBank */
-			int index = letterGen.nextInt(letterBank.size());
-			/* remove and return this tile */
-			AbstractTile tile = letterBank.get(index);
-			letterBank.remove(index);
-			return tile;
-		}
-		return null;
+		return letterBank.draw();
+	}
+
+	/**
+	 * Method to get up to n tiles from the letterBank
+	 * 
+	 * @param n
+	 *            - the number of tiles wanted
+	 * 
+	 * @return the tiles drawn, fewer than n if the letterBank runs out
+	 */
+	protected List<AbstractTile> draw(int n) {
+		return letterBank.draw(n);
 	}
 
 	/**
@@ -80,7 +78,44 @@ class Dictionary {
 	 *            - the tile to place in the {@link letterBank}
 	 */
 	protected void put(AbstractTile tile) {
-		letterBank.add(tile);
+		letterBank.put(tile);
+	}
+
+	/**
+	 * Method to place several tiles back in the letterBank
+	 * 
+	 * @param tiles
+	 *            - the tiles to place in the {@link letterBank}
+	 */
+	protected void putAll(List<AbstractTile> tiles) {
+		letterBank.putAll(tiles);
+	}
+
+	/**
+	 * Method to get how many tiles of a letter are left in the letterBank
+	 * 
+	 * @param letter
+	 *            - the letter to count
+	 */
+	protected int getTilesLeft(char letter) {
+		return letterBank.count(letter);
+	}
+
+	/**
+	 * Method to list the tiles left in the letterBank without drawing them
+	 * 
+	 * @return a new list of the tiles
+	 */
+	protected List<AbstractTile> getTiles() {
+		return letterBank.tiles();
+	}
+
+	/**
+	 * Method to get the state of the generator drawing tiles from the
+	 * letterBank
+	 */
+	protected long getTilesState() {
+		return letterBank.state();
 	}
 
 	/**
@@ -90,143 +125,206 @@ class Dictionary {
 		return letterBank.size();
 	}
 
+	/**
+	 * Method to get the hash of the letters left in the letterBank
+	 */
+	protected long getTilesHash() {
+		return letterBank.hash();
+	}
+
+	/**
+	 * Method to get the word graph used to check words
+	 *
+	 * @return the {@link Dawg} of all words
+	 */
+	protected Dawg getLexicon() {
+		return lexicon;
+	}
+
 	/**
 	 * Checks that the list of moves the player has made so far are valid.
 	 * 
 	 * @param player
 	 *            - The currently playing player
 	 * @param board
-	 *            - the board the move was played on
+	 *            - the packed board the move was played on
 	 * 
 	 * @return true or false if the move is still valid
 	 */
-	protected boolean validateStep(Player player, AbstractTile[][] board) {
-		int row, col;
-		for (AbstractTile tile : player.getMoves()) {
-			row = tile.getLocation().getRow();
-			col = tile.getLocation().getCol();
+	protected boolean validateStep(Player player, BitBoard board) {
+		List<AbstractTile> moves = player.getMoves();
+		/* squares used by the move so far */
+		for (int i = 0; i < stepSquares.length; i++) {
+			stepSquares[i] = 0;
+		}
+		int firstRow = 0;
+		int firstCol = 0;
+		boolean sameRow = true;
+		boolean sameCol = true;
+		for (int i = 0; i < moves.size(); i++) {
+			Location loc = moves.get(i).getLocation();
+			int row = loc.getRow();
+			int col = loc.getCol();
 			/* 1) check that player's move is in one direction only */
-			int targetRow, targetCol;
-			for (AbstractTile check : player.getMoves()) {
-				targetRow = check.getLocation().getRow();
-				targetCol = check.getLocation().getCol();
-				if ((row != targetRow) && (col != targetCol)) {
+			if (i == 0) {
+				firstRow = row;
+				firstCol = col;
+			} else {
+				sameRow &= (row == firstRow);
+				sameCol &= (col == firstCol);
+				if (!sameRow && !sameCol) {
 					return false;
 				}
 			}
 			/* 2) check that placed location is not taken already */
-			AbstractTile selected = board[row][col];
-			if (!(selected instanceof AbilityTile) && (selected != null)) {
+			if (board.isOccupied(row, col)) {
 				return false; // we only care about normal tiles
 			}
 			/* 3) a placed location cannot already be part of the move */
-			int checkRow, checkCol, currIndex, checkIndex;
-			for (AbstractTile check : player.getMoves()) {
-				currIndex = player.getMoves().indexOf(tile);
-				checkIndex = player.getMoves().indexOf(check);
-				checkRow = check.getLocation().getRow();
-				checkCol = check.getLocation().getCol();
-				if ((currIndex != checkIndex) && (row == checkRow)
-						&& (col == checkCol)) {
-					return false;
-				}
+			int square = BitBoard.square(row, col);
+			long bit = 1L << square;
+			if ((stepSquares[square >>> 6] & bit) != 0) {
+				return false;
 			}
+			stepSquares[square >>> 6] |= bit;
 		}
 		return true;
 	}
 
 	/**
-	 * Method to see if a player's move is still valid.
+	 * Method to see if a player's move is still valid. The first move of the
+	 * game must be at least two tiles covering the center square, every
+	 * later one must touch a tile on the board.
 	 * 
 	 * @param player
 	 *            - the player making the move
 	 * @param board
-	 *            - the board the move was played on
-	 * @param numPlayers
-	 *            - the number of players playing the game
+	 *            - the packed board the move was played on
+	 * @param checks
+	 *            - the cross-checks of the board
 	 * 
 	 * @return true of false if the move is valid or not
 	 */
-	protected boolean validateWord(Player player, AbstractTile[][] board,
-			int numPlayers) {
+	protected boolean validateWord(Player player, BitBoard board,
+			CrossChecks checks) {
+		if ((board.count() == 0) && (player.getMoves().size() < 2)) {
+			/* a lone tile on a new board makes no word */
+			return false;
+		}
 		/* check that each tile in player's move is touching another tile */
 		boolean flag = false;
+		int center = Board.BOARD_SIZE / 2;
 		for (AbstractTile move : player.getMoves()) {
-			int row = move.getLocation().getRow();
-			int col = move.getLocation().getCol();
-			/* make sure AT LEAST ONE is next to a tile ON THE BOARD */
-			for (directions dir : directions.values()) {
-				int drow = row;
-				int dcol = col;
-				switch (dir) {
-				case NORTH:
-					drow -= 1;
-					break;
-				case SOUTH:
-					drow += 1;
-					break;
-				case EAST:
-					dcol += 1;
-					break;
-				case WEST:
-					dcol -= 1;
-					break;
-				}
-				/* check out of bounds access */
-				if ((drow < 0) || (drow >= Board.BOARD_SIZE) || (dcol < 0)
-						|| (dcol >= Board.BOARD_SIZE)) {
-					continue;
-				}
-				/* get tile in that direction */
-				AbstractTile next = board[drow][dcol];
-				/* check for non-empty and non-ability tile spaces */
-				if ((next != null) && !(next instanceof AbilityTile)) {
-					flag = true; /* set flag */
-					break;
-				}
+			Location loc = move.getLocation();
+			if (board.count() == 0) {
+				/* the board is new, so the center must be used */
+				flag = (loc.getRow() == center) && (loc.getCol() == center);
+			} else {
+				/* make sure AT LEAST ONE is next to a tile ON THE BOARD */
+				flag = board.hasNeighbor(loc.getRow(), loc.getCol());
 			}
 			if (flag) {
 				break; /* stop looping */
 			}
 		}
-		int check = LETTER_BANK_SIZE - (numPlayers * Game.HAND_LIMIT);
-		/* if flag was not set and board is not new... */
-		if ((!flag) && (letterBank.size() != check)) {
+		if (!flag) {
 			/* then the word was placed randomly */
 			return false;
 		}
-		/* make a new 2d board and, for now, make the player's move */
-		AbstractTile[][] temp = new AbstractTile[Board.BOARD_SIZE][];
-		for (int i = 0; i < Board.BOARD_SIZE; i++) {
-			temp[i] = board[i].clone();
+		/*
+		 * only words running through the new tiles can have changed, so check
+		 * the word in both directions through each placed tile
+		 */
+		List<AbstractTile> moves = player.getMoves();
+		boolean sameRow = true;
+		boolean sameCol = true;
+		Location first = (moves.size() > 0) ? moves.get(0).getLocation() : null;
+		for (int i = 1; i < moves.size(); i++) {
+			Location loc = moves.get(i).getLocation();
+			sameRow &= (loc.getRow() == first.getRow());
+			sameCol &= (loc.getCol() == first.getCol());
 		}
-		/* make move in board copy */
-		int row, col;
-		for (AbstractTile tile : player.getMoves()) {
-			row = tile.getLocation().getRow();
-			col = tile.getLocation().getCol();
-			temp[row][col] = tile;
-		}
-		/* loop through board and check that each word placed is valid */
-		List<String> found = new ArrayList<String>();
-		for (int i = 0; i < Board.BOARD_SIZE; i++) {
-			for (int j = 0; j < Board.BOARD_SIZE; j++) {
-				/* no tile above and/or to left means start of word */
-				if ((i == 0) || (temp[i - 1][j] == null)) {
-					found.add(getWord(i, j, directions.SOUTH, temp));
+		for (int i = 0; i < moves.size(); i++) {
+			AbstractTile tile = moves.get(i);
+			int row = tile.getLocation().getRow();
+			int col = tile.getLocation().getCol();
+			int square = row * Board.BOARD_SIZE + col;
+			/* a word crossing the move holds only this new tile */
+			if (sameRow) {
+				if (!CrossChecks.allows(checks.across(square), tile.getValue())) {
+					return false;
 				}
-				if ((j == 0) || (temp[i][j - 1] == null)) {
-					found.add(getWord(i, j, directions.EAST, temp));
+			} else if (!validateLine(row, col, 1, 0, moves, board)) {
+				return false;
+			}
+			if (sameCol) {
+				if (!CrossChecks.allows(checks.down(square), tile.getValue())) {
+					return false;
 				}
+			} else if (!validateLine(row, col, 0, 1, moves, board)) {
+				return false;
 			}
 		}
-		/* now check that all the words found are in dictionary */
-		for (String word : found) {
-			if ((word != null) && (!dictionary.contains(word))) {
+		return true;
+	}
+
+	/*
+	 * checks the word running through (row, col) in the direction (drow, dcol)
+	 * as if the move was already on the board. a word already checked from an
+	 * earlier tile of the same move is skipped.
+	 */
+	private boolean validateLine(int row, int col, int drow, int dcol,
+			List<AbstractTile> moves, BitBoard board) {
+		/* back up to the first letter of the word */
+		int r = row - drow;
+		int c = col - dcol;
+		int before;
+		while ((before = letterAt(r, c, moves, board)) != 0) {
+			if (before < 0) {
+				return true; /* checked from that tile */
+			}
+			r -= drow;
+			c -= dcol;
+		}
+		/* walk the word through the word graph */
+		int node = Dawg.ROOT;
+		int edge = -1;
+		int length = 0;
+		int letter;
+		r += drow;
+		c += dcol;
+		while ((letter = letterAt(r, c, moves, board)) != 0) {
+			edge = lexicon.edge(node, Dawg.toSymbol((char) Math.abs(letter)));
+			if (edge < 0) {
 				return false;
 			}
+			node = lexicon.target(edge);
+			length++;
+			r += drow;
+			c += dcol;
 		}
-		return true;
+		/* single letters are not words */
+		return (length < 2) || lexicon.accepts(edge);
+	}
+
+	/*
+	 * the letter at (row, col) with the move made: 0 for an empty square,
+	 * negative for a tile of the move and positive for a tile on the board
+	 */
+	private int letterAt(int row, int col, List<AbstractTile> moves,
+			BitBoard board) {
+		if ((row < 0) || (row >= Board.BOARD_SIZE) || (col < 0)
+				|| (col >= Board.BOARD_SIZE)) {
+			return 0;
+		}
+		for (int i = 0; i < moves.size(); i++) {
+			AbstractTile tile = moves.get(i);
+			Location loc = tile.getLocation();
+			if ((loc.getRow() == row) && (loc.getCol() == col)) {
+				return -tile.getValue();
+			}
+		}
+		return board.letter(row * Board.BOARD_SIZE + col);
 	}
 
 	/**
@@ -275,112 +373,23 @@ class Dictionary {
 	}
 
 	/**
-	 * Gets nearby tiles of a players move. Basically all surrounding tiles that
-	 * could be considered in the move.
+	 * Scores a move in one pass before it is placed on the board, using the
+	 * scratch state of this dictionary. See {@link MoveScorer}.
 	 * 
 	 * @param move
-	 *            - player move
-	 * @param board
-	 *            - board move is being played on
-	 * 
-	 * @return the list of abstract tiles nearby in the player's word
-	 */
-	protected List<AbstractTile> getNearbyTiles(List<AbstractTile> move,
-			AbstractTile[][] board) {
-		List<AbstractTile> found = new ArrayList<AbstractTile>();
-		int row, col, drow, dcol;
-		for (AbstractTile tile : move) {
-			/* keep track of what we have seen */
-			if (!found.contains(tile)) {
-				found.add(tile);
-			}
-			row = tile.getLocation().getRow();
-			col = tile.getLocation().getCol();
-			/* loop in all directions */
-			for (directions dir : directions.values()) {
-				drow = row;
-				dcol = col;
-				/* continue in a direction until end of word */
-				while (true) {
-					switch (dir) {
-					case NORTH:
-						drow -= 1;
-						break;
-					case SOUTH:
-						drow += 1;
-						break;
-					case EAST:
-						dcol += 1;
-						break;
-					case WEST:
-						dcol -= 1;
-						break;
-					}
-					/* check out of bounds access */
-					if ((drow < 0) || (drow >= Board.BOARD_SIZE) || (dcol < 0)
-							|| (dcol >= Board.BOARD_SIZE)) {
-						break;
-					}
-					/* get tile in that direction */
-					AbstractTile next = board[drow][dcol];
-					/* ignore empty spaces and ability tiles found */
-					if ((next == null) || (next instanceof AbilityTile)) {
-						break;
-					}
-					/* don't add in tiles we have already seen */
-					if (!found.contains(next)) {
-						found.add(next);
-					}
-				}
-			}
-		}
-		return found;
-	}
-
-	/**
-	 * takes nearby tiles and filters out all traps found.
-	 * 
-	 * @param move
-	 *            - the player move
+	 *            - the tiles of the player move
+	 * @param locations
+	 *            - where each tile of the move goes
 	 * @param board
 	 *            - the board the move is being played on
+	 * @param bits
+	 *            - the packed copy of the board, without the move
 	 * 
-	 * @return the list of trap tiles found nearby
+	 * @return the {@link MoveScore} of the move
 	 */
-	protected List<AbstractTile> findTrapTiles(List<AbstractTile> move,
-			AbstractTile[][] board) {
-		List<AbstractTile> found = getNearbyTiles(move, board);
-		List<AbstractTile> trapsFound = new ArrayList<AbstractTile>();
-		/* find traps in nearby tiles */
-		for (AbstractTile tile : found) {
-			/* check for trap tile */
-			if (!move.contains(tile) && !(tile instanceof AbilityTile)
-					&& !(tile instanceof NormalTile)) {
-				trapsFound.add(tile);
-			}
-		}
-		return trapsFound;
-	}
-
-	/**
-	 * takes all nearby tiles used in move and calculates up base score
-	 * 
-	 * @param move
-	 *            - the player move
-	 * @param board
-	 *            - the board the move is played on
-	 * 
-	 * @return the base score for the move without ability or trap tiles
-	 */
-	protected int calculateMoveScore(List<AbstractTile> move,
-			AbstractTile[][] board) {
-		List<AbstractTile> found = getNearbyTiles(move, board);
-		int score = 0;
-		/* get score of each tile */
-		for (AbstractTile tile : found) {
-			score += tile.getPoints();
-		}
-		return score;
+	protected MoveScore scoreMove(List<AbstractTile> move,
+			List<Location> locations, AbstractTile[][] board, BitBoard bits) {
+		return scorer.score(move, locations, board, bits);
 	}
 
 }
@@ -0,0 +1,737 @@
+/*
+ * EndgameSolver.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * A solver for two player games once the letterBank is empty. Both hands are
+ * then known, so the rest of the game can be searched like a board game: an
+ * alpha-beta (negamax) search over the points the player to move makes less
+ * the points the opponent makes, ending when a player plays out their hand
+ * or both players pass in a row (a rule of the search alone, as a game goes
+ * on until a hand is empty), and counting the deduction of the tiles left in
+ * each hand done by {@link Board#setFinalScores(List)}.
+ * <p>
+ * The search deepens one turn at a time until the whole game has been
+ * searched (the result is exact) or the time budget runs out (the deepest
+ * finished search is used, guessing the hands left at its horizon). Moves are
+ * tried after the best move of the last search, the highest score and the
+ * most points of tiles played first, every move after the first only tested
+ * with a null window, and positions already searched are kept in a
+ * transposition table keyed by the {@link Zobrist} hashes of the board and
+ * hands. A pass is always allowed.
+ * <p>
+ * A node does not generate all the moves of its hand again. A player's moves
+ * from two turns before keep their score unless the two moves played since
+ * put a tile on one of the squares of their words or just past an end, so
+ * only those are dropped, together with the moves whose tiles have been
+ * played, and the only moves generated are the ones using the new tiles,
+ * anchored at the ends of the words through them. On one core many seven
+ * against seven endgames are then solved exactly in about a second, though
+ * some with many ways to go out take ten or more; the solver benchmarks in
+ * {@code Benchmarks} measure both.
+ * <p>
+ * As a {@link Strategy} it solves empty bag positions and leaves every other
+ * position to another strategy.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class EndgameSolver implements Strategy {
+	/* stored depth of a position searched to the end of the game */
+	private static final int COMPLETE = Integer.MAX_VALUE;
+	/* beyond any value, small enough not to overflow when moved by points */
+	private static final int INFINITY = 1 << 24;
+	/* kinds of value in the transposition table */
+	private static final byte EXACT = 0;
+	private static final byte LOWER = 1;
+	private static final byte UPPER = 2;
+	/* the signatures of no best move and of passing as the best move */
+	private static final long NO_MOVE = 0;
+	private static final long PASS = -1;
+	/* how much playing a point of tiles adds to the order of a move, since
+	 * tiles left in a hand are deducted at the end and slow going out */
+	private static final int TILE_WEIGHT = 6;
+	/* nodes searched between checks of the clock */
+	private static final int CLOCK_CHECK = 64;
+	/* log2 of the number of transposition table entries */
+	private static final int TABLE_BITS = 18;
+	private static final long KEY_PASSED = 0x2545F4914F6CDD1DL;
+	/* a rack holds 4 bits of count for each tile code in play */
+	private static final int MAX_CODES = 16;
+	/* the top bit of every count of a rack */
+	private static final long HIGH_BITS = 0x8888888888888888L;
+	private static final int WORDS = (BitBoard.SQUARES + 63) / 64;
+	private static final long[] NO_SQUARES = new long[WORDS];
+	private static final Play[] NO_PLAYS = new Play[0];
+	private final long budgetNanos;
+	private final Strategy fallback;
+	/* the transposition table, made by the first solve as a game that never
+	 * empties the letterBank does not need it */
+	private long[] keys;
+	private int[] values;
+	private int[] depths;
+	private byte[] flags;
+	private long[] bestMoves;
+	/* the state of the search in progress */
+	private MoveGenerator generator;
+	private final MoveScorer scorer = new MoveScorer();
+	/* the tile codes of both hands, each with its own count in a rack */
+	private final int[] slots = new int[TileCodes.CODES];
+	private final int[] codes = new int[MAX_CODES];
+	private final int[] codePoints = new int[MAX_CODES];
+	/* the hash of n copies of each code, and tiles to build hands from */
+	private final long[][] copyHashes = new long[MAX_CODES][];
+	private final AbstractTile[][] samples = new AbstractTile[MAX_CODES][];
+	private int numCodes;
+	/* false if a hand has a letter in two kinds of tile */
+	private boolean incremental;
+	private long deadline;
+	/* false during the first search, which always finishes */
+	private boolean timed;
+	private long nodes;
+
+	/* the result of the last position solved by chooseMove */
+	private volatile Result last;
+	/* true if the search just returned went past its horizon */
+	private boolean horizon;
+
+	/**
+	 * Constructor method for a solver
+	 *
+	 * @param budgetMillis
+	 *            - the time allowed to solve a position, in milliseconds
+	 * @param fallback
+	 *            - the strategy for positions with tiles in the letterBank
+	 */
+	public EndgameSolver(long budgetMillis, Strategy fallback) {
+		if (budgetMillis <= 0) {
+			throw new IllegalArgumentException("the time budget must be > 0");
+		}
+		this.budgetNanos = budgetMillis * 1000000L;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public Move chooseMove(Game game) {
+		if ((game.getNumTilesLeft() != 0) || (game.getPlayers().size() != 2)) {
+			return fallback.chooseMove(game);
+		}
+		last = solve(game);
+		return last.getBestMove();
+	}
+
+	/**
+	 * Getter method for the result of the last position
+	 * {@link #chooseMove(Game)} solved, rather than left to the other strategy
+	 *
+	 * @return the last {@link Result}, or null before the first
+	 */
+	public Result getLastResult() {
+		return last;
+	}
+
+	/**
+	 * Method to solve the position of the current player of a two player game
+	 * with an empty letterBank. Not thread-safe: a solver searches one
+	 * position at a time.
+	 *
+	 * @param game
+	 *            - the game to solve, which is not changed
+	 *
+	 * @return the {@link Result} of the search
+	 */
+	public Result solve(Game game) {
+		if (game.getNumTilesLeft() != 0) {
+			throw new IllegalStateException("the letterBank is not empty");
+		}
+		if (game.getPlayers().size() != 2) {
+			throw new IllegalStateException("only two player games can be"
+					+ " solved");
+		}
+		long start = System.nanoTime();
+		deadline = start + budgetNanos;
+		nodes = 0;
+		if (generator == null) {
+			generator = new MoveGenerator(
+					LexiconRegistry.gaddag(LexiconRegistry.DEFAULT));
+			keys = new long[1 << TABLE_BITS];
+			values = new int[1 << TABLE_BITS];
+			depths = new int[1 << TABLE_BITS];
+			flags = new byte[1 << TABLE_BITS];
+			bestMoves = new long[1 << TABLE_BITS];
+		}
+		Player mover = game.getCurrentPlayer();
+		Player other = game.getPlayers().get(
+				1 - game.getPlayers().indexOf(mover));
+		List<AbstractTile> hand = new ArrayList<AbstractTile>(mover.hand);
+		setCodes(hand, other.hand);
+		long mine = rack(hand);
+		long theirs = rack(other.hand);
+		Position root = game.getPosition();
+		/* the moves of the real tiles, so the best move can be played */
+		Play[] first = plays(root, root.generate(generator, hand));
+		/* the passes in a row are counted from the root on */
+		int passes = 0;
+		int value = 0;
+		int depth = 0;
+		boolean exact = false;
+		/* deepen one turn at a time, keeping the last finished search */
+		timed = false;
+		for (int d = 1; !exact; d++) {
+			try {
+				horizon = false;
+				value = search(root, mine, theirs, passes, d, -INFINITY,
+						INFINITY, first, NO_SQUARES, null, NO_SQUARES);
+			} catch (OutOfTime e) {
+				break;
+			}
+			depth = d;
+			exact = !horizon;
+			timed = true;
+		}
+		List<Move> line = principalVariation(root, first, mine, theirs,
+				passes, depth);
+		Move best = line.isEmpty() ? null : line.get(0);
+		return new Result(best, line, value, depth, exact, nodes,
+				System.nanoTime() - start);
+	}
+
+	/*
+	 * the negamax value for the player holding the rack mine, with alpha-beta
+	 * bounds. passes is 1 if the last turn was a pass. The moves of each
+	 * player are worked out from their moves two turns before: base is the
+	 * list of the player to move, from before the tiles on the squares fresh
+	 * were played (null if there is none), and before is the list of the
+	 * opponent from the turn before, whose move put tiles on the squares last.
+	 */
+	private int search(Position position, long mine, long theirs, int passes,
+			int depth, int alpha, int beta, Play[] base, long[] fresh,
+			Play[] before, long[] last) {
+		if ((++nodes % CLOCK_CHECK == 0) && timed
+				&& (System.nanoTime() - deadline > 0)) {
+			throw new OutOfTime();
+		}
+		long key = key(position, mine, theirs, passes);
+		int slot = (int) key & (keys.length - 1);
+		long tableMove = NO_MOVE;
+		if (keys[slot] == key) {
+			tableMove = bestMoves[slot];
+			if (depths[slot] >= depth) {
+				int stored = values[slot];
+				if (depths[slot] != COMPLETE) {
+					horizon = true;
+				}
+				if (flags[slot] == EXACT) {
+					return stored;
+				} else if (flags[slot] == LOWER) {
+					alpha = Math.max(alpha, stored);
+				} else {
+					beta = Math.min(beta, stored);
+				}
+				if (alpha >= beta) {
+					return stored;
+				}
+			}
+		}
+		int left = points(theirs);
+		if (depth == 0) {
+			/* guess that the hands are left as they are */
+			horizon = true;
+			return left - points(mine);
+		}
+		boolean outer = horizon;
+		horizon = false;
+		int alphaStart = alpha;
+		int best = Integer.MIN_VALUE;
+		long bestMove = NO_MOVE;
+		Play[] plays = update(position, mine, base, fresh);
+		long[] order = order(plays, tableMove);
+		for (int k = order.length - 1; (k >= 0) && (alpha < beta); k--) {
+			Play play = plays[(int) order[k]];
+			long rest = mine - play.need;
+			int value;
+			if (rest == 0) {
+				/* played out: the opponent loses what they hold */
+				value = play.gain + left;
+			} else if (depth == 1) {
+				/* the horizon: guess that the game ends here */
+				horizon = true;
+				value = play.gain + left - points(rest);
+			} else {
+				Position child = position.copy();
+				child.play(play.move);
+				long[] since = last.clone();
+				for (int i = 0; i < WORDS; i++) {
+					since[i] |= play.placed[i];
+				}
+				/* the window moves by the points of the move; after the
+				 * first move a null window only tests for a better one */
+				int bound = (bestMove == NO_MOVE) ? beta : alpha + 1;
+				value = play.gain
+						- search(child, theirs, rest, 0, depth - 1, play.gain
+								- bound, play.gain - alpha, before, since,
+								plays, play.placed);
+				if ((value > alpha) && (value < beta) && (bound != beta)) {
+					value = play.gain
+							- search(child, theirs, rest, 0, depth - 1,
+									play.gain - beta, play.gain - value,
+									before, since, plays, play.placed);
+				}
+			}
+			if (value > best) {
+				best = value;
+				bestMove = play.signature;
+				alpha = Math.max(alpha, value);
+			}
+		}
+		if (alpha < beta) {
+			int value;
+			if (passes == 1) {
+				/* two passes in a row end the game */
+				value = left - points(mine);
+			} else {
+				value = -search(position, theirs, mine, 1, depth - 1, -beta,
+						-alpha, before, last, plays, NO_SQUARES);
+			}
+			if (value > best) {
+				best = value;
+				bestMove = PASS;
+			}
+		}
+		/* keep the result, marking searches that reached the end */
+		keys[slot] = key;
+		values[slot] = best;
+		depths[slot] = horizon ? depth : COMPLETE;
+		bestMoves[slot] = bestMove;
+		if (best <= alphaStart) {
+			flags[slot] = UPPER;
+		} else if (best >= beta) {
+			flags[slot] = LOWER;
+		} else {
+			flags[slot] = EXACT;
+		}
+		horizon |= outer;
+		return best;
+	}
+
+	/*
+	 * the moves of a rack on a position. the moves of base that the tiles
+	 * on the squares fresh did not touch, and that the rack still holds the
+	 * tiles for, are kept as they are; the only moves generated are the moves
+	 * making a word with a fresh tile, which put a tile at an end of a word
+	 * through it.
+	 */
+	private Play[] update(Position position, long rack, Play[] base,
+			long[] fresh) {
+		Play[] kept = keep(rack, base, fresh);
+		if (kept == null) {
+			return plays(position, position.generate(generator, hand(rack)));
+		}
+		Play[] found = found(position, rack, fresh);
+		Play[] plays = Arrays.copyOf(kept, kept.length + found.length);
+		System.arraycopy(found, 0, plays, kept.length, found.length);
+		return plays;
+	}
+
+	/*
+	 * the moves of base still legal for the rack after tiles were put on the
+	 * squares fresh, with the same score, or null if there is no base
+	 */
+	private Play[] keep(long rack, Play[] base, long[] fresh) {
+		if ((base == null) || !incremental) {
+			return null;
+		}
+		List<Play> kept = new ArrayList<Play>(base.length);
+		for (Play play : base) {
+			if ((((rack | HIGH_BITS) - play.need) & HIGH_BITS) == HIGH_BITS
+					&& !intersects(play.footprint, fresh)) {
+				kept.add(play);
+			}
+		}
+		return kept.toArray(NO_PLAYS);
+	}
+
+	/*
+	 * the moves of the rack making a word with a tile on the squares fresh
+	 */
+	private Play[] found(Position position, long rack, long[] fresh) {
+		long[] ends = new long[WORDS];
+		position.ends(fresh, ends);
+		if (Arrays.equals(ends, NO_SQUARES)) {
+			return NO_PLAYS;
+		}
+		return plays(position, position.generate(generator, hand(rack), ends));
+	}
+
+	/*
+	 * scores moves found on a position
+	 */
+	private Play[] plays(Position position, List<Move> moves) {
+		Play[] plays = new Play[moves.size()];
+		for (int i = 0; i < plays.length; i++) {
+			Move move = moves.get(i);
+			long[] footprint = new long[WORDS];
+			position.footprint(move, footprint);
+			MoveScore score = position.score(move, scorer);
+			plays[i] = new Play(move, score.getMoverPoints()
+					- score.getOpponentPoints(), footprint);
+		}
+		return plays;
+	}
+
+	/*
+	 * the indices of plays in the order to try them, from the end: the move
+	 * of the transposition table, then the highest points with the tiles
+	 * played weighted in. each entry is the sort key over the index.
+	 */
+	private static long[] order(Play[] plays, long first) {
+		long[] order = new long[plays.length];
+		for (int i = 0; i < plays.length; i++) {
+			Play play = plays[i];
+			long guess = (play.signature == first) ? INFINITY : play.gain
+					+ TILE_WEIGHT * play.points;
+			order[i] = (guess << 32) | i;
+		}
+		Arrays.sort(order);
+		return order;
+	}
+
+	/*
+	 * true if two sets of squares have a square in common
+	 */
+	private static boolean intersects(long[] a, long[] b) {
+		for (int i = 0; i < WORDS; i++) {
+			if ((a[i] & b[i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * follows the best moves in the transposition table from the root
+	 */
+	private List<Move> principalVariation(Position root, Play[] first,
+			long mine, long theirs, int passes, int depth) {
+		List<Move> line = new ArrayList<Move>();
+		Position position = root;
+		Play[] plays = first;
+		for (int ply = 0; ply < depth; ply++) {
+			long key = key(position, mine, theirs, passes);
+			int slot = (int) key & (keys.length - 1);
+			if ((keys[slot] != key) || (bestMoves[slot] == NO_MOVE)) {
+				break;
+			}
+			if (bestMoves[slot] == PASS) {
+				line.add(null);
+				if (passes == 1) {
+					break;
+				}
+				passes = 1;
+			} else {
+				if (plays == null) {
+					plays = plays(position, position.generate(generator,
+							hand(mine)));
+				}
+				Play play = find(plays, bestMoves[slot]);
+				if (play == null) {
+					break;
+				}
+				line.add(play.move);
+				mine -= play.need;
+				if (mine == 0) {
+					break;
+				}
+				position = position.copy();
+				position.play(play.move);
+				passes = 0;
+			}
+			long swap = mine;
+			mine = theirs;
+			theirs = swap;
+			plays = null;
+		}
+		return line;
+	}
+
+	/*
+	 * the play with a signature, or null
+	 */
+	private static Play find(Play[] plays, long signature) {
+		for (Play play : plays) {
+			if (play.signature == signature) {
+				return play;
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * the hash of a search state: the board, both racks (the player to move
+	 * first) and whether the last turn was a pass
+	 */
+	private long key(Position position, long mine, long theirs, int passes) {
+		return position.hash() ^ Long.rotateLeft(rackHash(mine), 17)
+				^ Long.rotateLeft(rackHash(theirs), 41)
+				^ ((passes == 0) ? 0 : KEY_PASSED);
+	}
+
+	/*
+	 * numbers the tile codes of both hands, so a hand can be packed into a
+	 * rack of counts, and tells whether moves can be worked out from the
+	 * moves of an earlier turn
+	 */
+	private void setCodes(List<AbstractTile> mine, List<AbstractTile> theirs) {
+		List<AbstractTile> all = new ArrayList<AbstractTile>(mine);
+		all.addAll(theirs);
+		Arrays.fill(slots, -1);
+		numCodes = 0;
+		for (AbstractTile tile : all) {
+			int code = TileCodes.code(tile);
+			if (slots[code] < 0) {
+				slots[code] = numCodes;
+				codes[numCodes] = code;
+				codePoints[numCodes] = tile.getPoints();
+				numCodes++;
+			}
+		}
+		for (int i = 0; i < numCodes; i++) {
+			List<AbstractTile> copies = new ArrayList<AbstractTile>();
+			for (AbstractTile tile : all) {
+				if (TileCodes.code(tile) == codes[i]) {
+					copies.add(tile);
+				}
+			}
+			samples[i] = copies.toArray(new AbstractTile[copies.size()]);
+			copyHashes[i] = new long[copies.size() + 1];
+			for (int n = 0; n < copies.size(); n++) {
+				copyHashes[i][n + 1] = copyHashes[i][n]
+						^ Zobrist.copy(codes[i], n);
+			}
+		}
+		/* the move generator tells tiles apart by letter only */
+		incremental = !mixesKinds(mine) && !mixesKinds(theirs);
+	}
+
+	/*
+	 * true if a hand holds two kinds of tile with the same letter
+	 */
+	private static boolean mixesKinds(List<AbstractTile> hand) {
+		for (AbstractTile a : hand) {
+			for (AbstractTile b : hand) {
+				if ((TileCodes.letter(TileCodes.code(a)) == TileCodes
+						.letter(TileCodes.code(b)))
+						&& (TileCodes.code(a) != TileCodes.code(b))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * packs the tiles of a hand into counts of each code
+	 */
+	private long rack(List<AbstractTile> hand) {
+		long rack = 0;
+		for (AbstractTile tile : hand) {
+			rack += 1L << (4 * slots[TileCodes.code(tile)]);
+		}
+		return rack;
+	}
+
+	/*
+	 * tiles making up a rack, to generate its moves with
+	 */
+	private List<AbstractTile> hand(long rack) {
+		List<AbstractTile> hand = new ArrayList<AbstractTile>(7);
+		for (int i = 0; i < numCodes; i++) {
+			int count = (int) (rack >>> (4 * i)) & 0xF;
+			for (int n = 0; n < count; n++) {
+				hand.add(samples[i][n]);
+			}
+		}
+		return hand;
+	}
+
+	/*
+	 * the Zobrist hash of the tiles of a rack
+	 */
+	private long rackHash(long rack) {
+		long hash = 0;
+		for (int i = 0; i < numCodes; i++) {
+			hash ^= copyHashes[i][(int) (rack >>> (4 * i)) & 0xF];
+		}
+		return hash;
+	}
+
+	/*
+	 * the points of the tiles of a rack
+	 */
+	private int points(long rack) {
+		int total = 0;
+		for (int i = 0; i < numCodes; i++) {
+			total += codePoints[i] * ((int) (rack >>> (4 * i)) & 0xF);
+		}
+		return total;
+	}
+
+	/*
+	 * a move with what the search needs to know about it
+	 */
+	private final class Play {
+		final Move move;
+		/* the tiles of the move, counted like a rack */
+		final long need;
+		/* the points of the move less the points it gives the opponent */
+		final int gain;
+		/* the points of the tiles of the move */
+		final int points;
+		/* the tiles and squares of the move, hashed */
+		final long signature;
+		/* the squares the move puts tiles on, and the squares it depends on */
+		final long[] placed = new long[WORDS];
+		final long[] footprint;
+
+		Play(Move move, int gain, long[] footprint) {
+			this.move = move;
+			this.gain = gain;
+			this.footprint = footprint;
+			long need = 0;
+			int points = 0;
+			long signature = 0;
+			for (int i = 0; i < move.getTiles().size(); i++) {
+				AbstractTile tile = move.getTiles().get(i);
+				Location loc = move.getLocations().get(i);
+				int code = TileCodes.code(tile);
+				int sq = BitBoard.square(loc.getRow(), loc.getCol());
+				need += 1L << (4 * slots[code]);
+				points += tile.getPoints();
+				signature ^= Zobrist.tile(sq, code);
+				placed[sq >>> 6] |= 1L << sq;
+			}
+			this.need = need;
+			this.points = points;
+			this.signature = signature;
+		}
+	}
+
+	/*
+	 * thrown to stop a search when the time budget runs out
+	 */
+	private static final class OutOfTime extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		OutOfTime() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * The outcome of solving a position
+	 *
+	 * @author Aaron Reyes
+	 *
+	 */
+	public static final class Result {
+		private final Move bestMove;
+		private final List<Move> line;
+		private final int value;
+		private final int depth;
+		private final boolean exact;
+		private final long nodes;
+		private final long elapsedNanos;
+
+		Result(Move bestMove, List<Move> line, int value, int depth,
+				boolean exact, long nodes, long elapsedNanos) {
+			this.bestMove = bestMove;
+			this.line = Collections.unmodifiableList(line);
+			this.value = value;
+			this.depth = depth;
+			this.exact = exact;
+			this.nodes = nodes;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		/**
+		 * Getter method for the move to play
+		 *
+		 * @return the best {@link Move}, or null if passing is best
+		 */
+		public Move getBestMove() {
+			return bestMove;
+		}
+
+		/**
+		 * Getter method for the best play of both players from the position,
+		 * as far as it was searched
+		 *
+		 * @return the moves in turn order, null for a pass
+		 */
+		public List<Move> getPrincipalVariation() {
+			return line;
+		}
+
+		/**
+		 * Getter method for the value of the position: the points the player
+		 * to move will make less the points the opponent will make, final
+		 * deductions included
+		 *
+		 * @return the value, exact if {@link #isExact()}
+		 */
+		public int getValue() {
+			return value;
+		}
+
+		/**
+		 * Getter method for the number of turns of the deepest finished search
+		 *
+		 * @return the depth in turns
+		 */
+		public int getDepth() {
+			return depth;
+		}
+
+		/**
+		 * Getter method to know if the search reached the end of the game on
+		 * every line
+		 *
+		 * @return true if the value and moves are optimal
+		 */
+		public boolean isExact() {
+			return exact;
+		}
+
+		/**
+		 * Getter method for the number of positions searched
+		 *
+		 * @return the number of nodes
+		 */
+		public long getNodes() {
+			return nodes;
+		}
+
+		/**
+		 * Getter method for the time the search took
+		 *
+		 * @return the time in nanoseconds
+		 */
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Gaddag.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A GADDAG lexicon used by the {@link MoveGenerator}. For every word w and
+ * every split point i the graph stores REV(w[0..i]) + {@link Dawg#SEPARATOR} +
+ * w[i..n] (and REV(w) for the last split), so a word can be grown outwards in
+ * both directions from any one of its letters. The strings are stored in a
+ * minimized {@link Dawg}.
+ * <p>
+ * Finding the edge of a symbol in the {@link Dawg} means scanning the edges of
+ * its node, and move generation does that for every letter it tries. So the
+ * Gaddag also keeps the set of symbols leaving every node, worked out once
+ * when it is made: the edge of a symbol is then found by counting the symbols
+ * before it, and the letters a hand can play from a node are one mask.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class Gaddag {
+	/* the minimized graph of all GADDAG strings */
+	private final Dawg graph;
+	/* bit n set if symbol n leaves the node starting at each edge */
+	private final int[] symbols;
+
+	/**
+	 * Constructor method for a Gaddag
+	 *
+	 * @param graph
+	 *            - the graph holding the GADDAG strings
+	 */
+	private Gaddag(Dawg graph) {
+		this.graph = graph;
+		this.symbols = new int[graph.edgeCount() + 1];
+		/* a node starts right after the last edge of the node before */
+		int node = Dawg.ROOT;
+		for (int e = Dawg.ROOT; e < symbols.length; e++) {
+			symbols[node] |= 1 << graph.symbol(e);
+			if (graph.nextEdge(e) < 0) {
+				node = e + 1;
+			}
+		}
+	}
+
+	/**
+	 * Method to build a Gaddag holding the same words as a {@link Dawg}
+	 *
+	 * @param lexicon
+	 *            - the words to use
+	 *
+	 * @return the built {@link Gaddag}
+	 */
+	static Gaddag build(Dawg lexicon) {
+		List<String> entries = new ArrayList<String>();
+		StringBuilder entry = new StringBuilder();
+		for (String word : lexicon.words()) {
+			int n = word.length();
+			for (int i = 1; i <= n; i++) {
+				entry.setLength(0);
+				/* reversed prefix ending with the letter at the split */
+				for (int j = i - 1; j >= 0; j--) {
+					entry.append(word.charAt(j));
+				}
+				/* the rest of the word after the separator */
+				if (i < n) {
+					entry.append(Dawg.SEPARATOR);
+					entry.append(word, i, n);
+				}
+				entries.add(entry.toString());
+			}
+		}
+		/* SEPARATOR sorts after 'z' so sorted order matches symbol order */
+		Collections.sort(entries);
+		return new Gaddag(Dawg.build(entries));
+	}
+
+	/**
+	 * Method to wrap a graph of GADDAG strings that was already built, such as
+	 * one compiled by {@link LexiconCompiler}
+	 *
+	 * @param graph
+	 *            - the graph holding the GADDAG strings
+	 *
+	 * @return the {@link Gaddag} using that graph
+	 */
+	static Gaddag of(Dawg graph) {
+		return new Gaddag(graph);
+	}
+
+	/**
+	 * @return the graph of GADDAG strings
+	 */
+	Dawg graph() {
+		return graph;
+	}
+
+	/**
+	 * Method to get the symbols leaving a node
+	 *
+	 * @param node
+	 *            - the node, as returned by {@link Dawg#target(int)}
+	 *
+	 * @return bit n set when symbol n leaves the node, 0 for
+	 *         {@link Dawg#NONE}
+	 */
+	int symbols(int node) {
+		return ((node > Dawg.NONE) && (node < symbols.length)) ? symbols[node]
+				: 0;
+	}
+
+	/**
+	 * Method to find the edge leaving a node with a given symbol without
+	 * scanning the edges of the node
+	 *
+	 * @param node
+	 *            - the node, as returned by {@link Dawg#target(int)}
+	 * @param sym
+	 *            - the symbol to look for
+	 *
+	 * @return the edge index or -1 if there is no such edge
+	 */
+	int edge(int node, int sym) {
+		int mask = symbols(node);
+		int bit = 1 << sym;
+		if ((mask & bit) == 0) {
+			return -1;
+		}
+		/* edges are stored in symbol order */
+		return node + Integer.bitCount(mask & (bit - 1));
+	}
+}
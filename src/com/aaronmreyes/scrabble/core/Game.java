@@ -39,6 +39,15 @@ final public class Game {
 	final private List<Player> players = new ArrayList<Player>();
 	private Board board;
 	private Player currPlayer;
+	/* the generator of every random choice, shared with the players */
+	private GameRandom gen;
+	/* true while computer players are taking their turns */
+	private boolean autoPlaying;
+	/* false if the caller plays the computer players' turns itself */
+	private boolean autoPlay = true;
+	/* where the changes to this game are recorded, null for nowhere */
+	private GameJournal journal;
+	private long journalId;
 
 	// **************** TESTING METHODS ****************************
 
@@ -120,18 +129,48 @@ final public class Game {
 	 *            not
 	 */
 	public void setupGame(List<String> playerNames, boolean extra) {
+		setupGame(playerNames, extra, new GameRandom());
+	}
+
+	/**
+	 * The method used to set up/restart a reproducible game. Every random
+	 * choice (special tiles, draws and hand mixing) comes from one generator
+	 * seeded with seed, so the same seed and the same plays give the same
+	 * game.
+	 * 
+	 * @param playerNames
+	 *            - the names of each player
+	 * @param extra
+	 *            - a flag to inform the {@link Board} to use special tiles or
+	 *            not
+	 * @param seed
+	 *            - the seed of the game
+	 */
+	public void setupGame(List<String> playerNames, boolean extra, long seed) {
+		setupGame(playerNames, extra, new GameRandom(seed));
+	}
+
+	/*
+	 * sets up the players and board using gen for all random choices
+	 */
+	private void setupGame(List<String> playerNames, boolean extra,
+			GameRandom gen) {
+		this.gen = gen;
 		/* create players */
 		for (String name : playerNames) {
-			players.add(new Player(name));
+			players.add(new Player(name, gen));
 		}
 		/* set up a new board */
-		board = new Board(extra);
+		board = new Board(extra, gen);
+		if (journal != null) {
+			journal.start(journalId, players, extra, board.getLetterBank());
+		}
 		/* draw 7 tiles for each player's starting hand */
 		for (Player player : players) {
-			int cardsDrawn = 0;
-			while (cardsDrawn < HAND_LIMIT) {
-				player.hand.add(board.getTile());
-				cardsDrawn++;
+			List<AbstractTile> drawn = board.getTiles(HAND_LIMIT);
+			player.hand.addAll(drawn);
+			if (journal != null) {
+				journal.draw(journalId, players.indexOf(player), drawn);
 			}
 		}
 		/* updated selected board/hand tile */
@@ -152,14 +191,197 @@ final public class Game {
 				currPlayer = player;
 			}
 		}
+		if (journal != null) {
+			journal.first(journalId, players.indexOf(currPlayer));
+		}
+		updateHandTile(0);
+		/* computer players going first play straight away */
+		playComputerTurns();
+	}
+
+	/**
+	 * The method used to save this game in the binary format read by
+	 * {@link #load(byte[])}: the board with the ability tiles not covered yet,
+	 * every player's hand, score and turn, and the letterBank with its special
+	 * tiles. The state of the random generators is saved as well, so this
+	 * game and the loaded one go on the same way, and saving changes nothing
+	 * in this game. Computer players and the journal are not saved.
+	 * 
+	 * @return the saved game
+	 */
+	public byte[] save() {
+		if (!currPlayer.getMoves().isEmpty()) {
+			throw new IllegalStateException(
+					"the current player is placing tiles");
+		}
+		return SaveFormat.save(players, currPlayer, board.board,
+				board.getLetterBank(), board.getSnapshot().getVersion(),
+				gen.getState(), board.getLetterBankState());
+	}
+
+	/**
+	 * The method used to load a game saved by {@link #save()}.
+	 * 
+	 * @param data
+	 *            - the saved game
+	 * 
+	 * @return a new game in the saved state
+	 */
+	public static Game load(byte[] data) {
+		return SaveFormat.load(data);
+	}
+
+	/*
+	 * sets up a game in progress from a loaded save
+	 */
+	void restore(List<Player> seated, Player current, Board restored,
+			GameRandom random) {
+		players.addAll(seated);
+		currPlayer = current;
+		board = restored;
+		gen = random;
+		updateBoardTile(Board.BOARD_SIZE / 2, Board.BOARD_SIZE / 2);
 		updateHandTile(0);
 	}
 
+	/**
+	 * The method used to record this game in a journal. Must be called before
+	 * {@link #setupGame(List, boolean)}; from then on every draw, move,
+	 * exchange, pass and change of score is appended to the journal.
+	 * 
+	 * @param journal
+	 *            - the {@link GameJournal} to write to
+	 * @param id
+	 *            - the id of this game in the journal
+	 */
+	public void setJournal(GameJournal journal, long id) {
+		if (board != null) {
+			throw new IllegalStateException("the game has already been set up");
+		}
+		this.journal = journal;
+		this.journalId = id;
+	}
+
+	/**
+	 * The method used to make a player a computer player. Must be called
+	 * before {@link #setStartingPlayer(String)}; from then on the game plays
+	 * that player's turns whenever a person is also playing.
+	 * 
+	 * @param name
+	 *            - the name of the player
+	 * @param strategy
+	 *            - the {@link Strategy} picking the player's moves
+	 */
+	public void setComputerPlayer(String name, Strategy strategy) {
+		for (Player player : players) {
+			if (player.getName().equals(name)) {
+				player.setStrategy(strategy);
+				return;
+			}
+		}
+		throw new IllegalArgumentException("no player named " + name);
+	}
+
 	/**
 	 * Method that ends the current turn and sets the next players turn in the
-	 * list.
+	 * list. If people and computer players are playing together, the turns of
+	 * any computer players that follow are played before this returns, so it
+	 * ends on a person's turn (or the end of the game).
 	 */
 	public void changeTurn() {
+		nextTurn();
+		playComputerTurns();
+	}
+
+	/**
+	 * Method to choose who plays the turns of the computer players in a game
+	 * with people. By default {@link #changeTurn()} plays them before it
+	 * returns; a caller that must not wait for their searches, such as the
+	 * GUI, turns that off and calls {@link #playComputerTurn()} itself.
+	 * 
+	 * @param autoPlay
+	 *            - true if changing turn plays the computer players' turns
+	 */
+	public void setAutoPlay(boolean autoPlay) {
+		this.autoPlay = autoPlay;
+	}
+
+	/**
+	 * The method to play one turn of the current player, who must be a
+	 * computer player: plays the move picked by its {@link Strategy}, or
+	 * passes if it finds none.
+	 * 
+	 * @return true if a move was played, false if the player passed
+	 */
+	public boolean playComputerTurn() {
+		Strategy strategy = currPlayer.getStrategy();
+		if (strategy == null) {
+			throw new IllegalStateException(currPlayer.getName()
+					+ " is not a computer player");
+		}
+		undoMove();
+		Move move = strategy.chooseMove(this);
+		if ((move != null) && playMove(move)) {
+			return true;
+		}
+		passTurn();
+		return false;
+	}
+
+	/*
+	 * plays the turns of the computer players from the current player on,
+	 * only when a person is playing too (games between computer players are
+	 * driven by the caller) and never from inside one of those turns
+	 */
+	private void playComputerTurns() {
+		if (!autoPlay || autoPlaying || !hasPerson()) {
+			return;
+		}
+		autoPlaying = true;
+		try {
+			while (currPlayer.isComputer() && !isOver()) {
+				playComputerTurn();
+			}
+		} finally {
+			autoPlaying = false;
+		}
+	}
+
+	/*
+	 * true if at least one player is not a computer player
+	 */
+	private boolean hasPerson() {
+		for (Player player : players) {
+			if (!player.isComputer()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The method to check if the game has ended, the letterBank and a hand
+	 * being empty. Unlike {@link #checkForWin()} it does not do the final
+	 * scoring, so it can be called any number of times.
+	 * 
+	 * @return true once the game is over
+	 */
+	public boolean isOver() {
+		if (board.getLetterBankTotal() != 0) {
+			return false;
+		}
+		for (Player player : players) {
+			if (player.hand.size() == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * gives the turn to the next player in the list
+	 */
+	private void nextTurn() {
 		/* index of current player in list */
 		int index = players.indexOf(currPlayer);
 		/* go to the next player */
@@ -186,7 +408,9 @@ final public class Game {
 		for (Player player : players) {
 			if (player.hand.size() == 0) {
 				/* update final scores */
+				int[] before = scores();
 				board.setFinalScores(players);
+				journalScores(before);
 				/* now find player with highest score */
 				int max = 0;
 				List<Player> winners = new ArrayList<Player>();
@@ -221,7 +445,7 @@ final public class Game {
 		/* set the default selected board tile to center of board */
 		updateBoardTile(Board.BOARD_SIZE / 2, Board.BOARD_SIZE / 2);
 		/* define this location for the tile we will place */
-		tile.setLocation(new Location(row, col));
+		tile.setLocation(Location.of(row, col));
 		/* add this tile to the moves made list */
 		currPlayer.getMoves().add(tile);
 		/* check if move was not a valid step */
@@ -293,7 +517,7 @@ final public class Game {
 	 *            - the column of the tile selected on the board
 	 */
 	public void updateBoardTile(int row, int col) {
-		board.selectedBoardTile = new Location(row, col);
+		board.selectedBoardTile = Location.of(row, col);
 	}
 
 	/**
@@ -308,23 +532,146 @@ final public class Game {
 	 * list.
 	 */
 	public void playWord() {
+		commitMove();
+	}
+
+	/**
+	 * The headless way to play: validates a complete move by the current
+	 * player, scores it and places it on the board, draws the player back up
+	 * to {@value #HAND_LIMIT} tiles and ends the turn, all in one call. If the
+	 * move is not a valid word the board and hand are left as they were and
+	 * it is still the same player's turn.
+	 * 
+	 * @param move
+	 *            - the tiles from the current player's hand and where to place
+	 *            them
+	 * 
+	 * @return true if the move was played, false if it was invalid
+	 */
+	public boolean playMove(Move move) {
+		List<AbstractTile> tiles = move.getTiles();
+		List<Location> locations = move.getLocations();
+		if (!currPlayer.getMoves().isEmpty()) {
+			throw new IllegalStateException(
+					"the current player is already placing tiles");
+		}
+		if (tiles.isEmpty() || (tiles.size() != locations.size())) {
+			throw new IllegalArgumentException(
+					"a move needs one location per tile");
+		}
+		checkInHand(tiles);
+		/* stage the move as if placed tile by tile */
+		for (int i = 0; i < tiles.size(); i++) {
+			AbstractTile tile = tiles.get(i);
+			tile.setLocation(locations.get(i));
+			currPlayer.getMoves().add(tile);
+			currPlayer.hand.remove(tile);
+		}
+		if (!commitMove()) {
+			return false;
+		}
+		changeTurn();
+		return true;
+	}
+
+	/**
+	 * The headless way to exchange: swaps the given tiles of the current
+	 * player with the letterBank and ends the turn.
+	 * 
+	 * @param tiles
+	 *            - the tiles from the current player's hand to exchange
+	 */
+	public void exchangeTiles(List<AbstractTile> tiles) {
+		checkInHand(tiles);
+		undoMove();
+		exchange.clear();
+		exchange.addAll(tiles);
+		exchangeTiles();
+		changeTurn();
+	}
+
+	/**
+	 * The headless way to pass: takes back any tiles the current player was
+	 * placing and ends the turn.
+	 */
+	public void passTurn() {
+		if (journal != null) {
+			journal.pass(journalId, players.indexOf(currPlayer));
+		}
+		undoMove();
+		changeTurn();
+	}
+
+	/*
+	 * the score of every seat before a change, null when not journaled
+	 */
+	private int[] scores() {
+		if (journal == null) {
+			return null;
+		}
+		int[] scores = new int[players.size()];
+		for (int seat = 0; seat < scores.length; seat++) {
+			scores[seat] = players.get(seat).getScore();
+		}
+		return scores;
+	}
+
+	/*
+	 * journals how every score changed since before
+	 */
+	private void journalScores(int[] before) {
+		if (before == null) {
+			return;
+		}
+		for (int seat = 0; seat < before.length; seat++) {
+			int change = players.get(seat).getScore() - before[seat];
+			if (change != 0) {
+				journal.score(journalId, seat, change);
+			}
+		}
+	}
+
+	/*
+	 * checks that every tile is a different tile of the current player's hand
+	 */
+	private void checkInHand(List<AbstractTile> tiles) {
+		for (int i = 0; i < tiles.size(); i++) {
+			AbstractTile tile = tiles.get(i);
+			if (!currPlayer.hand.contains(tile)
+					|| (tiles.indexOf(tile) != i)) {
+				throw new IllegalArgumentException(tile.getValue()
+						+ " is not a tile in " + currPlayer.getName()
+						+ "'s hand");
+			}
+		}
+	}
+
+	/*
+	 * plays the current player's move list if it is valid or returns the
+	 * tiles to their hand, then clears the move list
+	 */
+	private boolean commitMove() {
+		boolean valid = board.isValidStep(currPlayer)
+				&& board.isValidWord(currPlayer);
 		/* if the player has a valid move, play it */
-		if (board.isValidWord(currPlayer, players.size())
-				&& board.isValidStep(currPlayer)) {
+		if (valid) {
 			/* set the creator of these tiles to be the current player */
 			for (AbstractTile tile : currPlayer.getMoves()) {
 				tile.setCreator(currPlayer.getName());
 			}
 			/* make move from hand onto board */
+			int[] before = scores();
 			board.placeTiles(currPlayer, players);
-			/* draw tiles until player has correct amount in hand */
-			while (currPlayer.hand.size() != HAND_LIMIT) {
-				/* only draw if there are tiles to do so */
-				if (board.getLetterBankTotal() == 0) {
-					break;
-				} else {
-					currPlayer.hand.add(board.getTile());
-				}
+			/* draw tiles until player has correct amount in hand, or as many
+			 * as are left */
+			List<AbstractTile> drawn = board.getTiles(HAND_LIMIT
+					- currPlayer.hand.size());
+			currPlayer.hand.addAll(drawn);
+			if (journal != null) {
+				int seat = players.indexOf(currPlayer);
+				journal.play(journalId, seat, currPlayer.getMoves());
+				journalScores(before);
+				journal.draw(journalId, seat, drawn);
 			}
 		} else {
 			/* undo player each move */
@@ -340,6 +687,7 @@ final public class Game {
 		}
 		/* clear player moves */
 		currPlayer.getMoves().clear();
+		return valid;
 	}
 
 	/**
@@ -372,22 +720,22 @@ final public class Game {
 	/**
 	 * This method is used when the player is done adding tiles to be exchanged
 	 * and wishes to exchange all selected tiles with the letterBank. If the
-	 * letterBank is empty, then all selected tiles are just returned to the
-	 * current player's hand. Lastly, this method clears the exchanges list upon
-	 * exit.
+	 * letterBank has fewer tiles than were selected, only that many are
+	 * exchanged and the rest stay in the current player's hand. Lastly, this
+	 * method clears the exchanges list upon exit.
 	 */
 	public void exchangeTiles() {
-		for (AbstractTile tile : exchange) {
-			currPlayer.hand.remove(tile);
-			/* make sure letter bank has enough tiles */
-			if (board.getLetterBankTotal() > 0) {
-				currPlayer.hand.add(board.getTile());
-				board.putTile(tile);
-			} else {
-				/* just add the tile back to the player hand */
-				currPlayer.hand.add(tile);
-			}
+		/* draw the new tiles before the old ones go back in the bag */
+		List<AbstractTile> drawn = board.getTiles(exchange.size());
+		List<AbstractTile> returned = exchange.subList(0, drawn.size());
+		if (journal != null) {
+			int seat = players.indexOf(currPlayer);
+			journal.exchange(journalId, seat, returned);
+			journal.draw(journalId, seat, drawn);
 		}
+		currPlayer.hand.removeAll(returned);
+		currPlayer.hand.addAll(drawn);
+		board.putTiles(returned);
 		/* reset the exchange list */
 		exchange.clear();
 		/* update selected hand tile */
@@ -421,6 +769,36 @@ final public class Game {
 		return board.board;
 	}
 
+	/**
+	 * Getter method for an immutable snapshot of the current board. Unlike
+	 * {@link #getBoard()} the snapshot never changes, so it can be handed to
+	 * other threads while the game goes on.
+	 * 
+	 * @return the {@link BoardSnapshot} after the last move
+	 */
+	public BoardSnapshot getSnapshot() {
+		return board.getSnapshot();
+	}
+
+	/**
+	 * Getter method for a hash of the whole game state: the board, the
+	 * letterBank, every hand (by seat) and whose turn it is. Two games in the
+	 * same state have the same hash, so it can key caches of evaluated
+	 * positions or spot repeated states without comparing boards.
+	 * 
+	 * @return the 64 bit hash of the state
+	 */
+	public long getStateHash() {
+		long hash = board.getHash()
+				^ Long.rotateLeft(board.getLetterBankHash(), 7);
+		for (int seat = 0; seat < players.size(); seat++) {
+			/* rotate so equal hands in different seats do not cancel */
+			hash ^= Long.rotateLeft(players.get(seat).getHandHash(),
+					13 * (seat + 1));
+		}
+		return hash ^ (players.indexOf(currPlayer) * 0x9E3779B97F4A7C15L);
+	}
+
 	/**
 	 * getter method to get the current list of player in the game.
 	 * 
@@ -439,6 +817,89 @@ final public class Game {
 		return board.getLetterBankTotal();
 	}
 
+	/**
+	 * getter method to count the tiles the current player cannot see, the
+	 * letterBank and the other players' hands, by letter.
+	 * 
+	 * @return the number of unseen tiles of each letter, 'A' at index 0
+	 */
+	public int[] getUnseenTiles() {
+		int[] unseen = new int[26];
+		for (char letter = 'A'; letter <= 'Z'; letter++) {
+			unseen[letter - 'A'] = board.getLetterBankTotal(letter);
+		}
+		for (Player player : players) {
+			if (player == currPlayer) {
+				continue;
+			}
+			for (AbstractTile tile : player.hand) {
+				int index = Character.toUpperCase(tile.getValue()) - 'A';
+				if ((index >= 0) && (index < unseen.length)) {
+					unseen[index]++;
+				}
+			}
+		}
+		return unseen;
+	}
+
+	/**
+	 * getter method to list every move the current player could play with the
+	 * tiles left in their hand (used for hints and computer players).
+	 * 
+	 * @return the list of legal {@link Move}s
+	 */
+	public List<Move> getPossibleMoves() {
+		return board.generateMoves(currPlayer);
+	}
+
+	/**
+	 * Method to work out what a move by the current player would score, and
+	 * what any trap tiles it hits would do, without playing it.
+	 * 
+	 * @param move
+	 *            - a valid move, such as one from {@link #getPossibleMoves()}
+	 * 
+	 * @return the {@link MoveScore} of the move
+	 */
+	public MoveScore evaluateMove(Move move) {
+		return board.evaluate(move);
+	}
+
+	/**
+	 * Method to work out what a move by the current player would score with
+	 * the caller's own {@link MoveScorer}, so moves can be scored on several
+	 * threads at once while the game is not changing.
+	 * 
+	 * @param move
+	 *            - a valid move, such as one from {@link #getPossibleMoves()}
+	 * @param scorer
+	 *            - the scorer of the calling thread
+	 * 
+	 * @return the {@link MoveScore} of the move
+	 */
+	MoveScore evaluateMove(Move move, MoveScorer scorer) {
+		return board.evaluate(move, scorer);
+	}
+
+	/**
+	 * Method to copy the tiles on the board for search code to play on.
+	 * 
+	 * @return a new {@link Position} of the current board
+	 */
+	Position getPosition() {
+		return new Position(board);
+	}
+
+	/**
+	 * getter method to list the tiles left in the letterBank, for search code
+	 * that deals the tiles the current player cannot see.
+	 * 
+	 * @return a new list of the tiles
+	 */
+	List<AbstractTile> getLetterBankTiles() {
+		return board.getLetterBank();
+	}
+
 	/**
 	 * getter method to get the current player making their move.
 	 * 
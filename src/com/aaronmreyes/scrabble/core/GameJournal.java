@@ -0,0 +1,325 @@
+/*
+ * GameJournal.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * An append-only file of everything that changes the state of games: the
+ * start of a game with its letterBank, who goes first, every draw, play,
+ * exchange and pass, and every change of a score (from a move, the ability of
+ * a special tile or the final scoring). Many games, on any number of threads,
+ * can write to one journal; {@link JournalReplayer} rebuilds any of them at
+ * any turn.
+ * <p>
+ * Events are encoded in a few bytes into a buffer that is written to the file
+ * channel in one call when it fills up, on {@link #flush()} and on
+ * {@link #close()}. The file starts with MAGIC and VERSION; each event is the
+ * game id (a varint), the type byte and the fields of the type, tiles as
+ * {@link TileCodes} and squares as row * 15 + col:
+ *
+ * <pre>
+ * START    players, name (length, UTF-8) per player, special, bag size, tiles
+ * FIRST    seat
+ * DRAW     seat, count, tiles
+ * PLAY     seat, count, (tile, square) per tile
+ * EXCHANGE seat, count, tiles put back (the tiles taken follow as a DRAW)
+ * PASS     seat
+ * SCORE    seat, change (zig-zag varint)
+ * </pre>
+ *
+ * A game's turn starts with its PLAY, EXCHANGE or PASS event and takes in the
+ * SCORE and DRAW events after it.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class GameJournal implements Closeable {
+	static final int MAGIC = 0x4A524E4C; /* "JRNL" */
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 8;
+	/* event types */
+	static final byte START = 1;
+	static final byte FIRST = 2;
+	static final byte DRAW = 3;
+	static final byte PLAY = 4;
+	static final byte EXCHANGE = 5;
+	static final byte PASS = 6;
+	static final byte SCORE = 7;
+	/* events are gathered into writes of this size */
+	private static final int BUFFER_BYTES = 1 << 16;
+	/* room kept for the largest event but a START */
+	private static final int MAX_EVENT = 64;
+	private final FileChannel channel;
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+	/*
+	 * appends to channel, writing the header first if it is empty
+	 */
+	private GameJournal(FileChannel channel) throws IOException {
+		this.channel = channel;
+		if (channel.size() == 0) {
+			buffer.putInt(MAGIC).putInt(VERSION);
+		}
+	}
+
+	/**
+	 * Method to open a journal for appending, creating it if needed
+	 *
+	 * @param path
+	 *            - the journal file
+	 *
+	 * @return the {@link GameJournal}
+	 */
+	public static GameJournal open(Path path) throws IOException {
+		if (Files.exists(path) && (Files.size(path) > 0)) {
+			checkHeader(path);
+		}
+		return new GameJournal(FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND));
+	}
+
+	/*
+	 * only appends to a journal of this version
+	 */
+	private static void checkHeader(Path path) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			while (header.hasRemaining() && (channel.read(header) >= 0)) {
+				/* read the whole header */
+			}
+		} finally {
+			channel.close();
+		}
+		if ((header.getInt(0) != MAGIC) || (header.getInt(4) != VERSION)) {
+			throw new IllegalStateException("not a version " + VERSION
+					+ " game journal");
+		}
+	}
+
+	/**
+	 * Method to write the events gathered so far to the file
+	 */
+	public synchronized void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Method to write the events gathered so far and close the file
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel.isOpen()) {
+			flush();
+			channel.close();
+		}
+	}
+
+	/**
+	 * Records the start of a game, before any tile is drawn
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param players
+	 *            - the players in seat order
+	 * @param special
+	 *            - true if the game has special tiles
+	 * @param bag
+	 *            - the tiles of the letterBank
+	 */
+	synchronized void start(long id, List<Player> players, boolean special,
+			List<AbstractTile> bag) {
+		byte[][] names = new byte[players.size()][];
+		int bytes = 0;
+		for (int seat = 0; seat < names.length; seat++) {
+			names[seat] = players.get(seat).getName()
+					.getBytes(StandardCharsets.UTF_8);
+			if (names[seat].length > 0xFF) {
+				throw new IllegalArgumentException("name too long to journal");
+			}
+			bytes += names[seat].length + 1;
+		}
+		ensure(bytes + bag.size() + MAX_EVENT);
+		header(id, START);
+		buffer.put((byte) names.length);
+		for (byte[] name : names) {
+			buffer.put((byte) name.length).put(name);
+		}
+		buffer.put((byte) (special ? 1 : 0));
+		buffer.putShort((short) bag.size());
+		for (AbstractTile tile : bag) {
+			buffer.put((byte) TileCodes.code(tile));
+		}
+	}
+
+	/**
+	 * Records who plays first
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param seat
+	 *            - the seat of the first player
+	 */
+	synchronized void first(long id, int seat) {
+		ensure(MAX_EVENT);
+		header(id, FIRST);
+		buffer.put((byte) seat);
+	}
+
+	/**
+	 * Records tiles taken from the letterBank into a hand
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param seat
+	 *            - the seat of the player
+	 * @param tiles
+	 *            - the tiles drawn
+	 */
+	synchronized void draw(long id, int seat, List<AbstractTile> tiles) {
+		tiles(id, DRAW, seat, tiles);
+	}
+
+	/**
+	 * Records a move placed on the board
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param seat
+	 *            - the seat of the player
+	 * @param tiles
+	 *            - the tiles placed, each with its location set
+	 */
+	synchronized void play(long id, int seat, List<AbstractTile> tiles) {
+		ensure(MAX_EVENT);
+		header(id, PLAY);
+		buffer.put((byte) seat).put((byte) tiles.size());
+		for (AbstractTile tile : tiles) {
+			Location loc = tile.getLocation();
+			buffer.put((byte) TileCodes.code(tile));
+			buffer.put((byte) (loc.getRow() * Board.BOARD_SIZE + loc.getCol()));
+		}
+	}
+
+	/**
+	 * Records tiles put back in the letterBank by an exchange
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param seat
+	 *            - the seat of the player
+	 * @param tiles
+	 *            - the tiles put back
+	 */
+	synchronized void exchange(long id, int seat,
+			List<AbstractTile> tiles) {
+		tiles(id, EXCHANGE, seat, tiles);
+	}
+
+	/**
+	 * Records a pass
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param seat
+	 *            - the seat of the player
+	 */
+	synchronized void pass(long id, int seat) {
+		ensure(MAX_EVENT);
+		header(id, PASS);
+		buffer.put((byte) seat);
+	}
+
+	/**
+	 * Records a change of a player's score
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param seat
+	 *            - the seat of the player
+	 * @param change
+	 *            - the points added, negative for points lost
+	 */
+	synchronized void score(long id, int seat, int change) {
+		ensure(MAX_EVENT);
+		header(id, SCORE);
+		buffer.put((byte) seat);
+		putVarint(((change << 1) ^ (change >> 31)) & 0xFFFFFFFFL);
+	}
+
+	/*
+	 * an event of a seat and a list of tiles
+	 */
+	private void tiles(long id, byte type, int seat, List<AbstractTile> tiles) {
+		ensure(MAX_EVENT);
+		header(id, type);
+		buffer.put((byte) seat).put((byte) tiles.size());
+		for (AbstractTile tile : tiles) {
+			buffer.put((byte) TileCodes.code(tile));
+		}
+	}
+
+	/*
+	 * the game id and type of every event
+	 */
+	private void header(long id, byte type) {
+		putVarint(id);
+		buffer.put(type);
+	}
+
+	/*
+	 * writes the buffer out unless it has room for bytes more. the game
+	 * cannot go on without its journal, so a failed write aborts it with an
+	 * IllegalStateException.
+	 */
+	private void ensure(int bytes) {
+		if (!channel.isOpen()) {
+			throw new IllegalStateException("the game journal is closed");
+		}
+		if (buffer.remaining() < bytes) {
+			try {
+				flush();
+			} catch (IOException e) {
+				throw new IllegalStateException("cannot write the game journal",
+						e);
+			}
+			if (buffer.capacity() < bytes) {
+				buffer = ByteBuffer.allocateDirect(bytes);
+			}
+		}
+	}
+
+	/*
+	 * seven bits a byte, low bits first, high bit set on all but the last
+	 */
+	private void putVarint(long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+}
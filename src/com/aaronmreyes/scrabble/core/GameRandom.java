@@ -0,0 +1,83 @@
+/*
+ * GameRandom.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.Random;
+
+/**
+ * The random generator of a game: the same generator as {@link Random}, and
+ * giving the same numbers for the same seed, but with a state that can be
+ * read and set. A game is saved with the state of its generators, so saving
+ * does not change what the game draws next and the loaded game draws the
+ * same. Only {@link #next(int)} is kept in the state, so
+ * {@link #nextGaussian()} is not used by the game. Not thread-safe, like the
+ * rest of a game.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class GameRandom extends Random {
+	private static final long serialVersionUID = 1L;
+	/* the linear congruential generator of java.util.Random */
+	private static final long MULTIPLIER = 0x5DEECE66DL;
+	private static final long ADDEND = 0xBL;
+	private static final long MASK = (1L << 48) - 1;
+	/* set by setSeed from the constructor of Random, so not initialized */
+	private long state;
+
+	/**
+	 * Constructor method for a generator with a seed of its own
+	 */
+	GameRandom() {
+		super();
+	}
+
+	/**
+	 * Constructor method for a generator giving the numbers new Random(seed)
+	 * gives
+	 *
+	 * @param seed
+	 *            - the seed
+	 */
+	GameRandom(long seed) {
+		super(seed);
+	}
+
+	@Override
+	public synchronized void setSeed(long seed) {
+		super.setSeed(seed);
+		state = (seed ^ MULTIPLIER) & MASK;
+	}
+
+	@Override
+	protected int next(int bits) {
+		state = (state * MULTIPLIER + ADDEND) & MASK;
+		return (int) (state >>> (48 - bits));
+	}
+
+	/**
+	 * Getter method for the state of the generator
+	 *
+	 * @return the state, which {@link #setState(long)} goes back to
+	 */
+	long getState() {
+		return state;
+	}
+
+	/**
+	 * Method to put the generator in a state read by {@link #getState()}
+	 *
+	 * @param state
+	 *            - the state
+	 */
+	void setState(long state) {
+		this.state = state & MASK;
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * JournalReplayer.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rebuilds games from a {@link GameJournal}. The journal is memory-mapped and
+ * read once from the start, applying each event to a {@link ReplayedGame};
+ * nothing is validated or scored again, so replaying is a matter of decoding
+ * a few bytes per event. An event cut short at the end of the file (by a
+ * crash while writing) is ignored.
+ *
+ * <pre>
+ * java com.aaronmreyes.scrabble.core.JournalReplayer journal [id [turn]]
+ * </pre>
+ *
+ * replays every game and prints how long it took, or prints one game at a
+ * turn.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class JournalReplayer {
+	private final ByteBuffer data;
+	/* the number of events read by the last replay */
+	private long events;
+
+	/*
+	 * reads the journal in data, after checking its header
+	 */
+	private JournalReplayer(ByteBuffer data) {
+		if ((data.limit() < GameJournal.HEADER_BYTES)
+				|| (data.getInt(0) != GameJournal.MAGIC)) {
+			throw new IllegalStateException("not a game journal");
+		}
+		if (data.getInt(4) != GameJournal.VERSION) {
+			throw new IllegalStateException("game journal version "
+					+ data.getInt(4) + " not supported");
+		}
+		this.data = data;
+	}
+
+	/**
+	 * Method to open a journal for replaying, memory-mapping it
+	 *
+	 * @param path
+	 *            - the journal file
+	 *
+	 * @return the {@link JournalReplayer}
+	 */
+	public static JournalReplayer open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new JournalReplayer(channel.map(
+					FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Entry point of the replayer
+	 *
+	 * @param args
+	 *            - the journal, then the id and turn of a game to print
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("usage: JournalReplayer journal [id [turn]]");
+			System.exit(1);
+		}
+		JournalReplayer replayer = open(Paths.get(args[0]));
+		if (args.length > 1) {
+			int turn = (args.length > 2) ? Integer.parseInt(args[2])
+					: Integer.MAX_VALUE;
+			ReplayedGame game = replayer.replay(Long.parseLong(args[1]), turn);
+			if (game == null) {
+				System.out.println("no game " + args[1]);
+				return;
+			}
+			print(game);
+			return;
+		}
+		long start = System.nanoTime();
+		Map<Long, ReplayedGame> games = replayer.replayAll();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%d games, %d events in %.2f s (%.0f events/s)%n",
+				games.size(), replayer.getEvents(), seconds,
+				replayer.getEvents() / seconds);
+	}
+
+	/*
+	 * prints the board, hands and scores of a game
+	 */
+	private static void print(ReplayedGame game) {
+		for (int row = 0; row < Board.BOARD_SIZE; row++) {
+			StringBuilder line = new StringBuilder();
+			for (int col = 0; col < Board.BOARD_SIZE; col++) {
+				char letter = game.getLetter(row, col);
+				line.append((letter == '\0') ? '.' : letter);
+			}
+			System.out.println(line);
+		}
+		for (int seat = 0; seat < game.getNames().size(); seat++) {
+			System.out.println(game.getNames().get(seat) + " "
+					+ game.getScore(seat) + " " + game.getHand(seat)
+					+ ((seat == game.getCurrentSeat()) ? " (to play)" : ""));
+		}
+		System.out.println("turn " + game.getTurn() + ", "
+				+ game.getTilesLeft() + " tiles left");
+	}
+
+	/**
+	 * Method to rebuild one game as it was after a number of turns
+	 *
+	 * @param id
+	 *            - the id of the game
+	 * @param turn
+	 *            - the number of turns (plays, exchanges and passes) to
+	 *            replay, Integer.MAX_VALUE for the whole game
+	 *
+	 * @return the {@link ReplayedGame}, or null if the journal has no such
+	 *         game
+	 */
+	public ReplayedGame replay(long id, int turn) {
+		Map<Long, ReplayedGame> games = new HashMap<Long, ReplayedGame>();
+		run(games, false, id, turn);
+		return games.get(id);
+	}
+
+	/**
+	 * Method to rebuild every game in the journal as it was at its last
+	 * event
+	 *
+	 * @return the {@link ReplayedGame}s by id
+	 */
+	public Map<Long, ReplayedGame> replayAll() {
+		Map<Long, ReplayedGame> games = new HashMap<Long, ReplayedGame>();
+		run(games, true, 0, Integer.MAX_VALUE);
+		return games;
+	}
+
+	/**
+	 * Getter method for the number of events read by the last replay
+	 *
+	 * @return the number of events
+	 */
+	public long getEvents() {
+		return events;
+	}
+
+	/*
+	 * applies the events of every game, or of only, until that game has
+	 * played turn turns
+	 */
+	private void run(Map<Long, ReplayedGame> games, boolean all, long only,
+			int turn) {
+		ByteBuffer in = data.duplicate();
+		in.position(GameJournal.HEADER_BYTES);
+		events = 0;
+		try {
+			while (in.hasRemaining()) {
+				long id = getVarint(in);
+				byte type = in.get();
+				ReplayedGame game = games.get(id);
+				boolean wanted = all || (id == only);
+				if (wanted && (game != null) && (game.getTurn() == turn)
+						&& isTurn(type)) {
+					/* only the one game can reach its turn */
+					return;
+				}
+				events++;
+				if (type == GameJournal.START) {
+					game = start(in, id);
+					if (wanted) {
+						games.put(id, game);
+					}
+					continue;
+				}
+				if (!wanted) {
+					game = null;
+				} else if (game == null) {
+					throw new IllegalStateException("game " + id
+							+ " has no start");
+				}
+				apply(in, type, game);
+			}
+		} catch (BufferUnderflowException e) {
+			/* the last event was not written out completely */
+		}
+	}
+
+	/*
+	 * true for the events that start a turn
+	 */
+	private static boolean isTurn(byte type) {
+		return (type == GameJournal.PLAY) || (type == GameJournal.EXCHANGE)
+				|| (type == GameJournal.PASS);
+	}
+
+	/*
+	 * reads a START event into a new game
+	 */
+	private static ReplayedGame start(ByteBuffer in, long id) {
+		String[] names = new String[in.get()];
+		for (int seat = 0; seat < names.length; seat++) {
+			byte[] name = new byte[in.get() & 0xFF];
+			in.get(name);
+			names[seat] = new String(name, StandardCharsets.UTF_8);
+		}
+		ReplayedGame game = new ReplayedGame(id, names, in.get() != 0);
+		int size = in.getShort() & 0xFFFF;
+		for (int i = 0; i < size; i++) {
+			game.putInBag(in.get() & 0xFF);
+		}
+		return game;
+	}
+
+	/*
+	 * reads any other event, applying it to game unless game is null
+	 */
+	private static void apply(ByteBuffer in, byte type, ReplayedGame game) {
+		int seat = in.get();
+		switch (type) {
+		case GameJournal.FIRST:
+			if (game != null) {
+				game.setCurrentSeat(seat);
+			}
+			break;
+		case GameJournal.DRAW:
+			for (int n = in.get(); n > 0; n--) {
+				int code = in.get() & 0xFF;
+				if (game != null) {
+					game.draw(seat, code);
+				}
+			}
+			break;
+		case GameJournal.PLAY:
+			for (int n = in.get(); n > 0; n--) {
+				int code = in.get() & 0xFF;
+				int square = in.get() & 0xFF;
+				if (game != null) {
+					game.place(seat, code, square);
+				}
+			}
+			if (game != null) {
+				game.endTurn(seat);
+			}
+			break;
+		case GameJournal.EXCHANGE:
+			for (int n = in.get(); n > 0; n--) {
+				int code = in.get() & 0xFF;
+				if (game != null) {
+					game.takeFromHand(seat, code);
+					game.putInBag(code);
+				}
+			}
+			if (game != null) {
+				game.endTurn(seat);
+			}
+			break;
+		case GameJournal.PASS:
+			if (game != null) {
+				game.endTurn(seat);
+			}
+			break;
+		case GameJournal.SCORE:
+			int zigzag = (int) getVarint(in);
+			if (game != null) {
+				game.score(seat, (zigzag >>> 1) ^ -(zigzag & 1));
+			}
+			break;
+		default:
+			throw new IllegalStateException("bad event type " + type);
+		}
+	}
+
+	/*
+	 * seven bits a byte, low bits first, as written by the journal
+	 */
+	private static long getVarint(ByteBuffer in) {
+		long value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		return value;
+	}
+}
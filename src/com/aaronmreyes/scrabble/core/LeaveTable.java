@@ -0,0 +1,310 @@
+/*
+ * LeaveTable.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * The value of the tiles left in a hand after a move (the leave), for every
+ * multiset of up to {@value #MAX_LEAVE} letters. A leave is worth the points
+ * it is expected to add to (or take from) the player's next move compared to
+ * an average hand, so a computer player can prefer a move keeping good tiles
+ * over a slightly higher scoring one that keeps bad ones.
+ * <p>
+ * The values sit in one float array indexed by a perfect hash of the
+ * multiset: its rank in the combinatorial number system (the letters sorted,
+ * the i-th moved up by i to make them distinct), after all the smaller
+ * multisets. Looking a leave up is a walk over 26 letter counts and at most
+ * six additions from a small table of binomials. The array is stored in a
+ * compiled file made by {@link LeaveTableBuilder} that is memory-mapped when
+ * it is opened, with a header of MAGIC, VERSION, the largest leave and the
+ * number of values.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class LeaveTable {
+	/* the largest leave kept, a hand less the one tile a move must use */
+	static final int MAX_LEAVE = Game.HAND_LIMIT - 1;
+	static final int LETTERS = 26;
+	private static final int MAGIC = 0x4C454156; /* "LEAV" */
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 16;
+	/* the compiled table shipped with the game, if it was built */
+	private static final String ASSET = "/assets/leaves.bin";
+	/* CHOOSE[n * (MAX_LEAVE + 1) + k] is n choose k */
+	private static final int[] CHOOSE = new int[(LETTERS + MAX_LEAVE)
+			* (MAX_LEAVE + 1)];
+	/* BASE[k] is the number of multisets smaller than k letters */
+	private static final int[] BASE = new int[MAX_LEAVE + 2];
+	/* the number of multisets of up to MAX_LEAVE letters */
+	static final int SIZE;
+	static {
+		for (int n = 0; n < LETTERS + MAX_LEAVE; n++) {
+			for (int k = 0; k <= MAX_LEAVE; k++) {
+				CHOOSE[n * (MAX_LEAVE + 1) + k] = (k == 0) ? 1 : (n == 0) ? 0
+						: CHOOSE[(n - 1) * (MAX_LEAVE + 1) + k - 1]
+								+ CHOOSE[(n - 1) * (MAX_LEAVE + 1) + k];
+			}
+		}
+		/* there are (25 + k) choose k multisets of exactly k letters */
+		for (int k = 0; k <= MAX_LEAVE; k++) {
+			BASE[k + 1] = BASE[k]
+					+ CHOOSE[(LETTERS - 1 + k) * (MAX_LEAVE + 1) + k];
+		}
+		SIZE = BASE[MAX_LEAVE + 1];
+	}
+	private final FloatBuffer values;
+
+	/*
+	 * wraps the values, on or off the heap
+	 */
+	private LeaveTable(FloatBuffer values) {
+		this.values = values;
+	}
+
+	/**
+	 * Method to make a table from computed values
+	 *
+	 * @param values
+	 *            - {@link #SIZE} values in {@link #index(int[])} order
+	 *
+	 * @return the {@link LeaveTable}
+	 */
+	static LeaveTable of(float[] values) {
+		if (values.length != SIZE) {
+			throw new IllegalArgumentException("a leave table has " + SIZE
+					+ " values");
+		}
+		return new LeaveTable(FloatBuffer.wrap(values));
+	}
+
+	/**
+	 * Method to open the compiled table shipped in assets, once
+	 *
+	 * @return the {@link LeaveTable}, or null if it was not built
+	 */
+	public static LeaveTable getDefault() {
+		return Default.TABLE;
+	}
+
+	/*
+	 * loads the default table the first time it is asked for
+	 */
+	private static final class Default {
+		private static final LeaveTable TABLE = load();
+
+		private static LeaveTable load() {
+			URL url = LeaveTable.class.getResource(ASSET);
+			if (url == null) {
+				return null;
+			}
+			try {
+				return open(url);
+			} catch (IOException e) {
+				throw new IllegalStateException("cannot read " + ASSET, e);
+			}
+		}
+	}
+
+	/**
+	 * Method to open a compiled table, memory-mapping it when it is a file
+	 *
+	 * @param url
+	 *            - where the compiled table is
+	 *
+	 * @return the {@link LeaveTable}
+	 */
+	public static LeaveTable open(URL url) throws IOException {
+		if ("file".equals(url.getProtocol())) {
+			try {
+				return map(Paths.get(url.toURI()));
+			} catch (URISyntaxException e) {
+				throw new IOException(e);
+			}
+		}
+		InputStream in = url.openStream();
+		try {
+			return read(in);
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Method to memory-map a compiled table
+	 *
+	 * @param path
+	 *            - the compiled file
+	 *
+	 * @return the {@link LeaveTable} backed by the mapped file
+	 */
+	static LeaveTable map(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			/* the mapping stays valid once the channel is closed */
+			return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					channel.size()));
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Method to read a compiled table from a stream into a direct buffer
+	 *
+	 * @param in
+	 *            - the stream holding the compiled table
+	 *
+	 * @return the {@link LeaveTable} read
+	 */
+	static LeaveTable read(InputStream in) throws IOException {
+		ReadableByteChannel channel = Channels.newChannel(in);
+		ByteBuffer data = ByteBuffer.allocateDirect(HEADER_BYTES + 4 * SIZE);
+		while (data.hasRemaining()) {
+			if (channel.read(data) < 0) {
+				throw new IllegalStateException("leave table: truncated");
+			}
+		}
+		data.flip();
+		return wrap(data);
+	}
+
+	/*
+	 * checks the header of a compiled table and wraps its values
+	 */
+	private static LeaveTable wrap(ByteBuffer data) {
+		if ((data.limit() < HEADER_BYTES) || (data.getInt(0) != MAGIC)) {
+			throw new IllegalStateException("leave table: bad header");
+		}
+		if (data.getInt(4) != VERSION) {
+			throw new IllegalStateException("leave table: version "
+					+ data.getInt(4) + " not supported");
+		}
+		if ((data.getInt(8) != MAX_LEAVE) || (data.getInt(12) != SIZE)) {
+			throw new IllegalStateException("leave table: wrong size");
+		}
+		if (data.limit() != HEADER_BYTES + 4L * SIZE) {
+			throw new IllegalStateException("leave table: truncated");
+		}
+		data.position(HEADER_BYTES);
+		return new LeaveTable(data.slice().asFloatBuffer());
+	}
+
+	/**
+	 * Method to write this table in the compiled format read by
+	 * {@link #open(URL)}
+	 *
+	 * @param out
+	 *            - the stream to write to
+	 */
+	void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+				out));
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(MAX_LEAVE);
+		data.writeInt(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			data.writeFloat(values.get(i));
+		}
+		data.flush();
+	}
+
+	/**
+	 * Method to find the place of a leave in the table
+	 *
+	 * @param counts
+	 *            - how many of each letter ('A' at 0) the leave holds, at
+	 *            most {@value #MAX_LEAVE} in all
+	 *
+	 * @return the index of the leave, from 0 to {@link #SIZE} - 1
+	 */
+	static int index(int[] counts) {
+		int rank = 0;
+		int i = 0;
+		for (int letter = 0; letter < LETTERS; letter++) {
+			for (int c = counts[letter]; c > 0; c--) {
+				/* the i-th smallest letter, moved up by i */
+				rank += CHOOSE[(letter + i) * (MAX_LEAVE + 1) + i + 1];
+				i++;
+			}
+		}
+		return BASE[i] + rank;
+	}
+
+	/**
+	 * Method to look up the value of a leave given by letter counts
+	 *
+	 * @param counts
+	 *            - how many of each letter ('A' at 0) the leave holds, at
+	 *            most {@value #MAX_LEAVE} in all
+	 *
+	 * @return the value in points
+	 */
+	float value(int[] counts) {
+		return values.get(index(counts));
+	}
+
+	/**
+	 * Method to look up the value of the tiles left in a hand. Tiles that are
+	 * not letters are left out.
+	 *
+	 * @param leave
+	 *            - the tiles kept, at most {@value #MAX_LEAVE}
+	 *
+	 * @return the value in points
+	 */
+	public float value(List<AbstractTile> leave) {
+		if (leave.size() > MAX_LEAVE) {
+			throw new IllegalArgumentException("a leave has at most "
+					+ MAX_LEAVE + " tiles");
+		}
+		int[] counts = new int[LETTERS];
+		count(leave, counts, 1);
+		return value(counts);
+	}
+
+	/**
+	 * Method to add the letters of some tiles to letter counts
+	 *
+	 * @param tiles
+	 *            - the tiles, those that are not letters are left out
+	 * @param counts
+	 *            - the counts to change, 'A' at 0
+	 * @param sign
+	 *            - 1 to add the tiles, -1 to take them away
+	 */
+	static void count(List<AbstractTile> tiles, int[] counts, int sign) {
+		for (AbstractTile tile : tiles) {
+			int index = Zobrist.index(tile.getValue());
+			if (index < LETTERS) {
+				counts[index] += sign;
+			}
+		}
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * LeaveTableBuilder.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Build time tool that works out the {@link LeaveTable} from self-play. Two
+ * {@link BestMoveStrategy} players play many seeded games; after every move
+ * the letters kept are noted together with the points the same player makes
+ * on their next turn. A leave is then worth how much more than the average
+ * that next move scored. Most of the 900,000 leaves are never seen, or seen
+ * only a few times, so every leave starts from a prior, the sum of a value
+ * for each of its letters fitted by least squares over all the games, and
+ * moves towards its own average the more often it was seen.
+ *
+ * <pre>
+ * java com.aaronmreyes.scrabble.core.LeaveTableBuilder [games] [out file]
+ * </pre>
+ *
+ * The defaults are 2000 games written to assets/leaves.bin.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class LeaveTableBuilder {
+	private static final int LETTERS = 26;
+	/* games played by one task before it stops splitting */
+	private static final int BATCH = 16;
+	/* how many times a leave must be seen to count as much as the prior */
+	private static final double SHRINK = 20;
+	/* the budget of the players, enough to score every move */
+	private static final long BUDGET = 10000;
+
+	/**
+	 * Entry point of the builder
+	 *
+	 * @param args
+	 *            - the number of games and the file to write
+	 */
+	public static void main(String[] args) throws IOException {
+		int games = (args.length > 0) ? Integer.parseInt(args[0]) : 2000;
+		File file = new File((args.length > 1) ? args[1] : "assets/leaves.bin");
+		long start = System.nanoTime();
+		Tally tally = ForkJoinPool.commonPool().invoke(new Games(0, games));
+		LeaveTable table = tally.table();
+		OutputStream out = new FileOutputStream(file);
+		try {
+			table.write(out);
+		} finally {
+			out.close();
+		}
+		System.out.printf("%d games, %d leaves seen (%d distinct),"
+				+ " average next move %.2f, in %d s%n", games, tally.samples,
+				tally.distinct(), tally.mean(),
+				(System.nanoTime() - start) / 1000000000L);
+	}
+
+	/**
+	 * Method to play one seeded game and note every leave and the points of
+	 * the next move of the same player
+	 *
+	 * @param seed
+	 *            - the seed of the game
+	 * @param tally
+	 *            - where the leaves are added up
+	 */
+	static void playGame(long seed, Tally tally) {
+		List<String> names = new ArrayList<String>();
+		names.add("P1");
+		names.add("P2");
+		Game game = new Game();
+		game.setupGame(names, false, seed);
+		Strategy strategy = new BestMoveStrategy(BUDGET);
+		game.setStartingPlayer(names.get(0));
+		List<Player> players = game.getPlayers();
+		int[] pending = { -1, -1 };
+		int passes = 0;
+		while ((passes < 2 * players.size()) && (game.checkForWin() == null)) {
+			Player player = game.getCurrentPlayer();
+			int seat = players.indexOf(player);
+			Move move = strategy.chooseMove(game);
+			int points = (move == null) ? 0 : game.evaluateMove(move)
+					.getMoverPoints();
+			if (pending[seat] >= 0) {
+				tally.add(pending[seat], points);
+			}
+			pending[seat] = -1;
+			/* the tiles kept, counted before the hand is refilled */
+			int leave = (move == null) ? -1 : leaveIndex(player.hand, move);
+			if ((move != null) && game.playMove(move)) {
+				passes = 0;
+				/* only leaves followed by a full draw are typical */
+				if (game.getNumTilesLeft() > 0) {
+					pending[seat] = leave;
+				}
+			} else {
+				game.passTurn();
+				passes++;
+			}
+		}
+	}
+
+	/*
+	 * the table index of the hand less the tiles of the move
+	 */
+	private static int leaveIndex(List<AbstractTile> hand, Move move) {
+		int[] counts = new int[LETTERS];
+		LeaveTable.count(hand, counts, 1);
+		LeaveTable.count(move.getTiles(), counts, -1);
+		return LeaveTable.index(counts);
+	}
+
+	/*
+	 * plays the games [from, to) by splitting them over the pool
+	 */
+	private static final class Games extends RecursiveTask<Tally> {
+		private static final long serialVersionUID = 1L;
+		private final int from;
+		private final int to;
+
+		Games(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Tally compute() {
+			if (to - from > BATCH) {
+				int mid = (from + to) >>> 1;
+				Games left = new Games(from, mid);
+				left.fork();
+				Tally tally = new Games(mid, to).compute();
+				tally.merge(left.join());
+				return tally;
+			}
+			Tally tally = new Tally();
+			for (int i = from; i < to; i++) {
+				playGame(0x1EAFL * (i + 1), tally);
+			}
+			return tally;
+		}
+	}
+
+	/**
+	 * The points of the next move added up by leave
+	 *
+	 * @author Aaron Reyes
+	 *
+	 */
+	static final class Tally {
+		private final double[] sums = new double[LeaveTable.SIZE];
+		private final int[] seen = new int[LeaveTable.SIZE];
+		private long samples;
+		private double total;
+
+		/*
+		 * notes one leave and the points of the next move
+		 */
+		void add(int index, int points) {
+			sums[index] += points;
+			seen[index]++;
+			samples++;
+			total += points;
+		}
+
+		/*
+		 * adds the totals of other to this
+		 */
+		void merge(Tally other) {
+			for (int i = 0; i < sums.length; i++) {
+				sums[i] += other.sums[i];
+				seen[i] += other.seen[i];
+			}
+			samples += other.samples;
+			total += other.total;
+		}
+
+		/*
+		 * the average points of a next move
+		 */
+		double mean() {
+			return (samples == 0) ? 0 : total / samples;
+		}
+
+		/*
+		 * the number of different leaves seen
+		 */
+		int distinct() {
+			int count = 0;
+			for (int n : seen) {
+				if (n > 0) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/*
+		 * fits the letter values and blends every leave with its prior
+		 */
+		LeaveTable table() {
+			double mean = mean();
+			double[] letter = fitLetters(mean);
+			float[] values = new float[LeaveTable.SIZE];
+			fill(values, letter, mean, new int[LETTERS], 0, 0);
+			return LeaveTable.of(values);
+		}
+
+		/*
+		 * visits every multiset of up to MAX_LEAVE letters from letter on
+		 */
+		private void fill(float[] values, double[] letter, double mean,
+				int[] counts, int from, int size) {
+			int index = LeaveTable.index(counts);
+			double prior = 0;
+			for (int l = 0; l < LETTERS; l++) {
+				prior += counts[l] * letter[l];
+			}
+			double excess = sums[index] - seen[index] * mean;
+			values[index] = (float) ((excess + SHRINK * prior) / (seen[index] + SHRINK));
+			if (size == LeaveTable.MAX_LEAVE) {
+				return;
+			}
+			for (int l = from; l < LETTERS; l++) {
+				counts[l]++;
+				fill(values, letter, mean, counts, l, size + 1);
+				counts[l]--;
+			}
+		}
+
+		/*
+		 * least squares value of each letter, so that the letter values of a
+		 * leave add up to how much its next move beat the average. the
+		 * normal equations are summed over the distinct leaves seen and
+		 * solved by Gaussian elimination, with a little ridge so letters
+		 * never seen get 0.
+		 */
+		private double[] fitLetters(double mean) {
+			double[][] a = new double[LETTERS][LETTERS + 1];
+			visit(a, mean, new int[LETTERS], 0, 0);
+			for (int l = 0; l < LETTERS; l++) {
+				a[l][l] += 1;
+			}
+			for (int col = 0; col < LETTERS; col++) {
+				int pivot = col;
+				for (int row = col + 1; row < LETTERS; row++) {
+					if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+						pivot = row;
+					}
+				}
+				double[] swap = a[col];
+				a[col] = a[pivot];
+				a[pivot] = swap;
+				for (int row = 0; row < LETTERS; row++) {
+					if (row != col) {
+						double f = a[row][col] / a[col][col];
+						for (int k = col; k <= LETTERS; k++) {
+							a[row][k] -= f * a[col][k];
+						}
+					}
+				}
+			}
+			double[] letter = new double[LETTERS];
+			for (int l = 0; l < LETTERS; l++) {
+				letter[l] = a[l][LETTERS] / a[l][l];
+			}
+			return letter;
+		}
+
+		/*
+		 * adds every leave seen to the normal equations
+		 */
+		private void visit(double[][] a, double mean, int[] counts, int from,
+				int size) {
+			int index = LeaveTable.index(counts);
+			if (seen[index] > 0) {
+				double excess = sums[index] - seen[index] * mean;
+				for (int l = 0; l < LETTERS; l++) {
+					if (counts[l] == 0) {
+						continue;
+					}
+					for (int m = 0; m < LETTERS; m++) {
+						a[l][m] += seen[index] * counts[l] * counts[m];
+					}
+					a[l][LETTERS] += counts[l] * excess;
+				}
+			}
+			if (size == LeaveTable.MAX_LEAVE) {
+				return;
+			}
+			for (int l = from; l < LETTERS; l++) {
+				counts[l]++;
+				visit(a, mean, counts, l, size + 1);
+				counts[l]--;
+			}
+		}
+	}
+}
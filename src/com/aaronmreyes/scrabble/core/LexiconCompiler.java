@@ -0,0 +1,74 @@
+/*
+ * LexiconCompiler.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Build time tool that turns a word list into the compiled lexicon files
+ * loaded by the {@link LexiconRegistry}: a {@link Dawg} of the words (name.dawg)
+ * and the {@link Gaddag} used to generate moves (name.gaddag), where name.txt
+ * is the word list. Run it again whenever assets/dictionary.txt changes:
+ *
+ * <pre>
+ * java com.aaronmreyes.scrabble.core.LexiconCompiler assets/dictionary.txt assets
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class LexiconCompiler {
+	/**
+	 * Entry point of the compiler
+	 *
+	 * @param args
+	 *            - the word list and the directory to write the files to
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("usage: LexiconCompiler <words.txt> <output dir>");
+			System.exit(1);
+		}
+		long start = System.nanoTime();
+		InputStream in = new FileInputStream(args[0]);
+		Dawg lexicon;
+		try {
+			lexicon = Dawg.load(in);
+		} finally {
+			in.close();
+		}
+		Gaddag gaddag = Gaddag.build(lexicon);
+		File dir = new File(args[1]);
+		String name = new File(args[0]).getName().replaceFirst("\\.txt$", "");
+		write(lexicon, new File(dir, name + ".dawg"));
+		write(gaddag.graph(), new File(dir, name + ".gaddag"));
+		System.out.println(lexicon.size() + " words, " + lexicon.edgeCount()
+				+ " dawg edges, " + gaddag.graph().edgeCount()
+				+ " gaddag edges in " + (System.nanoTime() - start) / 1000000
+				+ " ms");
+	}
+
+	/*
+	 * writes one compiled graph to a file
+	 */
+	private static void write(Dawg graph, File file) throws IOException {
+		OutputStream out = new FileOutputStream(file);
+		try {
+			graph.write(out);
+		} finally {
+			out.close();
+		}
+	}
+}
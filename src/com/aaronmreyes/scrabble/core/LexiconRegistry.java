@@ -0,0 +1,106 @@
+/*
+ * LexiconRegistry.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of the lexicons used by the game. A lexicon is named after
+ * its files in assets (the default "dictionary" is made of dictionary.dawg,
+ * dictionary.gaddag and dictionary.txt), is loaded the first time any
+ * {@link Board} asks for it and is then shared by every game in the JVM, since
+ * {@link Dawg}s and {@link Gaddag}s are immutable. Loading is thread-safe and
+ * happens at most once per name.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class LexiconRegistry {
+	/* the lexicon used by the game */
+	static final String DEFAULT = "dictionary";
+	/* loaded lexicons by name, separate maps as a GADDAG may need its words */
+	private static final ConcurrentHashMap<String, Dawg> words =
+			new ConcurrentHashMap<String, Dawg>();
+	private static final ConcurrentHashMap<String, Gaddag> gaddags =
+			new ConcurrentHashMap<String, Gaddag>();
+
+	private LexiconRegistry() {
+	}
+
+	/**
+	 * Method to get the word graph of a lexicon, loading it on first use
+	 *
+	 * @param name
+	 *            - the name of the lexicon in assets
+	 *
+	 * @return the shared {@link Dawg}
+	 */
+	static Dawg lexicon(String name) {
+		return words.computeIfAbsent(name, LexiconRegistry::loadLexicon);
+	}
+
+	/**
+	 * Method to get the move generation graph of a lexicon, loading it on
+	 * first use
+	 *
+	 * @param name
+	 *            - the name of the lexicon in assets
+	 *
+	 * @return the shared {@link Gaddag}
+	 */
+	static Gaddag gaddag(String name) {
+		return gaddags.computeIfAbsent(name, LexiconRegistry::loadGaddag);
+	}
+
+	/*
+	 * maps the compiled graph, or builds it from the word list if missing
+	 */
+	private static Dawg loadLexicon(String name) {
+		try {
+			URL compiled = LexiconRegistry.class.getResource("/assets/" + name
+					+ ".dawg");
+			if (compiled != null) {
+				return Dawg.open(compiled);
+			}
+			InputStream file = LexiconRegistry.class.getResourceAsStream(
+					"/assets/" + name + ".txt");
+			if (file == null) {
+				throw new IllegalArgumentException("no lexicon named " + name);
+			}
+			try {
+				/* read in each word and minimize into a word graph */
+				return Dawg.load(file);
+			} finally {
+				file.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("cannot load lexicon " + name, e);
+		}
+	}
+
+	/*
+	 * maps the compiled GADDAG, or builds it from the word graph if missing
+	 */
+	private static Gaddag loadGaddag(String name) {
+		try {
+			URL compiled = LexiconRegistry.class.getResource("/assets/" + name
+					+ ".gaddag");
+			if (compiled != null) {
+				return Gaddag.of(Dawg.open(compiled));
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("cannot load lexicon " + name, e);
+		}
+		return Gaddag.build(lexicon(name));
+	}
+}
@@ -9,18 +9,28 @@
 
 package com.aaronmreyes.scrabble.core;
 
-import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
-
 /**
  * Class that acts as a struct to contain a given (row, col) coordinate on the
- * scrabble board.
+ * scrabble board. Locations are immutable and there is only ever one instance
+ * per square, so they can be handed out and compared freely without copying.
+ * Use {@link #of(int, int)} to get the Location of a square.
  * 
  * @author Aaron Reyes
  * 
  */
 public final class Location implements Cloneable {
-	private int row;
-	private int col;
+	/* the one Location of every square, indexed by row * BOARD_SIZE + col */
+	private static final Location[] SQUARES = new Location[Board.BOARD_SIZE
+			* Board.BOARD_SIZE];
+	static {
+		for (int row = 0; row < Board.BOARD_SIZE; row++) {
+			for (int col = 0; col < Board.BOARD_SIZE; col++) {
+				SQUARES[row * Board.BOARD_SIZE + col] = new Location(row, col);
+			}
+		}
+	}
+	private final int row;
+	private final int col;
 
 	/**
 	 * Constructor method to set up the information of a Location
@@ -29,14 +39,31 @@ public final class Location implements Cloneable {
 	 *            - Row on the board
 	 * @param col
 	 *            - Column on the board
-	 * @param tile
-	 *            - the {@link AbstractTile} at (row, column) on the board
 	 */
-	protected Location(int row, int col) {
+	private Location(int row, int col) {
 		this.row = row;
 		this.col = col;
 	}
 
+	/**
+	 * Method to get the shared Location of a square on the board
+	 * 
+	 * @param row
+	 *            - Row on the board
+	 * @param col
+	 *            - Column on the board
+	 * 
+	 * @return the Location of (row, col)
+	 */
+	public static Location of(int row, int col) {
+		if ((row < 0) || (row >= Board.BOARD_SIZE) || (col < 0)
+				|| (col >= Board.BOARD_SIZE)) {
+			throw new IllegalArgumentException("(" + row + ", " + col
+					+ ") is not on the board");
+		}
+		return SQUARES[row * Board.BOARD_SIZE + col];
+	}
+
 	/**
 	 * Used by GUI: Getter method for the row of a location
 	 * 
@@ -56,14 +83,10 @@ public final class Location implements Cloneable {
 	}
 
 	/**
-	 * Method to clone a given location.
+	 * Method to clone a given location. Locations are immutable and shared, so
+	 * this returns the same instance.
 	 */
 	public Object clone() {
-		try {
-			return super.clone();
-		} catch (CloneNotSupportedException e) {
-			/* This should never happen */
-			throw new InternalError(e.toString());
-		}
+		return this;
 	}
 }
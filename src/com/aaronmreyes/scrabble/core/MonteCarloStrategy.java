@@ -0,0 +1,355 @@
+/*
+ * MonteCarloStrategy.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * A computer player that picks its move by simulation. The moves of the hand
+ * are ranked by their score and the best few (the candidates) are each played
+ * out many times: a rollout plays the candidate on a private copy of the
+ * board, deals the opponents random hands and refills the player's hand from
+ * the tiles the player cannot see (the letterBank and the opponents' hands),
+ * then lets every player in turn play its best scoring move for a few turns.
+ * A rollout is worth the points the player made less the points the
+ * opponents made, so a candidate keeping good tiles or not opening the board
+ * does better than its own score says. The candidate with the best average is
+ * played; a candidate no rollout finished for before the deadline has no
+ * average and is not compared with those that do, and if none has one the
+ * best scoring move is played.
+ * <p>
+ * Rollouts run on a fork-join pool, one task per worker thread, each with its
+ * own random generator, scorer, move generator and board copies, until the
+ * deadline. The number of rollouts and the rate of the last search are kept
+ * for reporting.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class MonteCarloStrategy implements Strategy {
+	/* moves simulated unless told otherwise */
+	public static final int DEFAULT_CANDIDATES = 10;
+	/* turns played after the candidate: the reply and the player's next move */
+	public static final int DEFAULT_PLIES = 2;
+	private final long budgetNanos;
+	private final int candidates;
+	private final int plies;
+	private final ForkJoinPool pool;
+	/* splits off the generator of every rollout task */
+	private final SplittableRandom gen;
+	/* the statistics of the last search */
+	private volatile long rollouts;
+	private volatile long elapsedNanos;
+
+	/**
+	 * Constructor method for a strategy with the default number of candidates
+	 * and turns, simulating on the common fork-join pool
+	 *
+	 * @param budgetMillis
+	 *            - the time allowed to pick a move, in milliseconds
+	 */
+	public MonteCarloStrategy(long budgetMillis) {
+		this(budgetMillis, DEFAULT_CANDIDATES, DEFAULT_PLIES, ForkJoinPool
+				.commonPool(), new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Constructor method for a strategy
+	 *
+	 * @param budgetMillis
+	 *            - the time allowed to pick a move, in milliseconds
+	 * @param candidates
+	 *            - the number of best scoring moves to simulate
+	 * @param plies
+	 *            - the number of turns played after a candidate in a rollout
+	 * @param pool
+	 *            - the pool the rollouts run on
+	 * @param seed
+	 *            - the seed of the random tiles dealt in the rollouts
+	 */
+	public MonteCarloStrategy(long budgetMillis, int candidates, int plies,
+			ForkJoinPool pool, long seed) {
+		if ((budgetMillis <= 0) || (candidates <= 0) || (plies < 0)) {
+			throw new IllegalArgumentException(
+					"budget and candidates must be > 0 and plies >= 0");
+		}
+		this.budgetNanos = budgetMillis * 1000000L;
+		this.candidates = candidates;
+		this.plies = plies;
+		this.pool = pool;
+		this.gen = new SplittableRandom(seed);
+	}
+
+	@Override
+	public Move chooseMove(Game game) {
+		long start = System.nanoTime();
+		List<Move> moves = game.getPossibleMoves();
+		rollouts = 0;
+		if (moves.isEmpty()) {
+			elapsedNanos = System.nanoTime() - start;
+			return null;
+		}
+		Player mover = game.getCurrentPlayer();
+		List<Player> players = game.getPlayers();
+		int opponents = players.size() - 1;
+		/* rank the moves by score, keeping the best candidates in order */
+		int count = Math.min(candidates, moves.size());
+		Move[] top = new Move[count];
+		int[] values = new int[count];
+		int found = 0;
+		for (Move move : moves) {
+			MoveScore score = game.evaluateMove(move);
+			int value = score.getMoverPoints() - opponents
+					* score.getOpponentPoints();
+			if ((found == count) && (value <= values[count - 1])) {
+				continue;
+			}
+			int j = (found < count) ? found++ : count - 1;
+			while ((j > 0) && (values[j - 1] < value)) {
+				top[j] = top[j - 1];
+				values[j] = values[j - 1];
+				j--;
+			}
+			top[j] = move;
+			values[j] = value;
+		}
+		if ((count == 1) || (plies == 0)) {
+			elapsedNanos = System.nanoTime() - start;
+			return top[0];
+		}
+		/* what the player cannot see, opponents' hands in turn order */
+		List<AbstractTile> unseen = new ArrayList<AbstractTile>();
+		int[] handSizes = new int[opponents];
+		int seat = players.indexOf(mover);
+		for (int i = 0; i < opponents; i++) {
+			Player opponent = players.get((seat + 1 + i) % players.size());
+			handSizes[i] = opponent.hand.size();
+			unseen.addAll(opponent.hand);
+		}
+		unseen.addAll(game.getLetterBankTiles());
+		Rollouts shared = new Rollouts(game.getPosition(), top, values,
+				new ArrayList<AbstractTile>(mover.hand), unseen, handSizes,
+				start + budgetNanos);
+		/* one task per worker, each with its own generator */
+		List<RolloutTask> tasks = new ArrayList<RolloutTask>();
+		for (int i = 0; i < pool.getParallelism(); i++) {
+			tasks.add(new RolloutTask(shared, i, gen.split()));
+		}
+		pool.invoke(new RecursiveAction() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void compute() {
+				ForkJoinTask.invokeAll(tasks);
+			}
+		});
+		/* the best average of the simulated candidates */
+		double[] sums = new double[count];
+		long[] runs = new long[count];
+		long total = 0;
+		for (RolloutTask task : tasks) {
+			for (int c = 0; c < count; c++) {
+				sums[c] += task.sums[c];
+				runs[c] += task.runs[c];
+				total += task.runs[c];
+			}
+		}
+		int best = 0;
+		double bestValue = Double.NEGATIVE_INFINITY;
+		for (int c = 0; c < count; c++) {
+			if (runs[c] == 0) {
+				continue;
+			}
+			double value = sums[c] / runs[c];
+			/* strictly better, so ties go to the higher scoring move */
+			if (value > bestValue) {
+				best = c;
+				bestValue = value;
+			}
+		}
+		rollouts = total;
+		elapsedNanos = System.nanoTime() - start;
+		return top[best];
+	}
+
+	/**
+	 * Getter method for the number of rollouts played by the last search
+	 *
+	 * @return the number of rollouts
+	 */
+	public long getRollouts() {
+		return rollouts;
+	}
+
+	/**
+	 * Getter method for the time taken by the last search
+	 *
+	 * @return the time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Getter method for the speed of the last search
+	 *
+	 * @return the rollouts played per second, 0 before the first search
+	 */
+	public double getRolloutsPerSecond() {
+		long elapsed = elapsedNanos;
+		return (elapsed == 0) ? 0 : rollouts * 1e9 / elapsed;
+	}
+
+	/*
+	 * the read-only state shared by the rollout tasks of one search
+	 */
+	private static final class Rollouts {
+		private final Position position;
+		private final Move[] candidates;
+		private final int[] values;
+		private final List<AbstractTile> hand;
+		private final AbstractTile[] unseen;
+		private final int[] handSizes;
+		private final long deadline;
+
+		Rollouts(Position position, Move[] candidates, int[] values,
+				List<AbstractTile> hand, List<AbstractTile> unseen,
+				int[] handSizes, long deadline) {
+			this.position = position;
+			this.candidates = candidates;
+			this.values = values;
+			this.hand = hand;
+			this.unseen = unseen.toArray(new AbstractTile[unseen.size()]);
+			this.handSizes = handSizes;
+			this.deadline = deadline;
+		}
+	}
+
+	/*
+	 * plays rollouts of the candidates in turn until the deadline
+	 */
+	private final class RolloutTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Rollouts shared;
+		private final int first;
+		private final SplittableRandom random;
+		/* the totals of this task, by candidate */
+		private final double[] sums;
+		private final long[] runs;
+		/* the tiles dealt in a rollout, shuffled in place */
+		private final AbstractTile[] deck;
+		private int dealt;
+
+		RolloutTask(Rollouts shared, int first, SplittableRandom random) {
+			this.shared = shared;
+			this.first = first;
+			this.random = random;
+			this.sums = new double[shared.candidates.length];
+			this.runs = new long[shared.candidates.length];
+			this.deck = shared.unseen.clone();
+		}
+
+		@Override
+		protected void compute() {
+			MoveScorer scorer = new MoveScorer();
+			MoveGenerator generator = new MoveGenerator(
+					LexiconRegistry.gaddag(LexiconRegistry.DEFAULT));
+			int numCandidates = shared.candidates.length;
+			for (int i = first; System.nanoTime() - shared.deadline < 0; i++) {
+				int c = i % numCandidates;
+				double value = rollout(c, scorer, generator);
+				if (!Double.isNaN(value)) {
+					sums[c] += value;
+					runs[c]++;
+				}
+			}
+		}
+
+		/*
+		 * one random play-out of candidate c, NaN if the deadline passed
+		 */
+		private double rollout(int c, MoveScorer scorer, MoveGenerator generator) {
+			Move candidate = shared.candidates[c];
+			int opponents = shared.handSizes.length;
+			Position position = shared.position.copy();
+			position.play(candidate);
+			/* shuffle what the player cannot see and deal it */
+			for (int i = deck.length - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				AbstractTile tile = deck[i];
+				deck[i] = deck[j];
+				deck[j] = tile;
+			}
+			dealt = 0;
+			List<List<AbstractTile>> hands = new ArrayList<List<AbstractTile>>();
+			for (int i = 0; i < opponents; i++) {
+				List<AbstractTile> hand = new ArrayList<AbstractTile>();
+				deal(hand, shared.handSizes[i]);
+				hands.add(hand);
+			}
+			List<AbstractTile> mine = new ArrayList<AbstractTile>(shared.hand);
+			mine.removeAll(candidate.getTiles());
+			deal(mine, candidate.getTiles().size());
+			hands.add(mine);
+			double value = shared.values[c];
+			for (int ply = 0; ply < plies; ply++) {
+				if (System.nanoTime() - shared.deadline > 0) {
+					return Double.NaN;
+				}
+				int who = ply % (opponents + 1);
+				List<AbstractTile> hand = hands.get(who);
+				Move best = null;
+				MoveScore bestScore = null;
+				int bestValue = Integer.MIN_VALUE;
+				for (Move move : position.generate(generator, hand)) {
+					MoveScore score = position.score(move, scorer);
+					int moveValue = score.getMoverPoints() - opponents
+							* score.getOpponentPoints();
+					if (moveValue > bestValue) {
+						best = move;
+						bestScore = score;
+						bestValue = moveValue;
+					}
+				}
+				if (best == null) {
+					/* no play, so a pass */
+					continue;
+				}
+				if (who == opponents) {
+					value += bestValue;
+				} else {
+					/* the player is one of the opponents of this move */
+					value += bestScore.getOpponentPoints()
+							- bestScore.getMoverPoints();
+				}
+				position.play(best);
+				hand.removeAll(best.getTiles());
+				deal(hand, best.getTiles().size());
+			}
+			return value;
+		}
+
+		/*
+		 * adds up to n tiles from the shuffled deck to hand
+		 */
+		private void deal(List<AbstractTile> hand, int n) {
+			for (int i = 0; (i < n) && (dealt < deck.length); i++) {
+				hand.add(deck[dealt++]);
+			}
+		}
+	}
+}
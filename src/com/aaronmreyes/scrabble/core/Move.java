@@ -0,0 +1,132 @@
+/*
+ * Move.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Class that acts as a struct to contain one complete play: the tiles taken
+ * from a player's hand, the {@link Location} each one is placed at and the
+ * main word they form on the board. Moves are listed by
+ * {@link Game#getPossibleMoves()} or built by hand and played with
+ * {@link Game#playMove(Move)}.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class Move {
+	private final List<AbstractTile> tiles;
+	private final List<Location> locations;
+	private final String word;
+	private final boolean across;
+
+	/**
+	 * Constructor method for a Move built outside the move generator. The main
+	 * word is not known until the move is played.
+	 *
+	 * @param tiles
+	 *            - the hand tiles placed
+	 * @param locations
+	 *            - where each tile is placed (same order as tiles)
+	 */
+	public Move(List<AbstractTile> tiles, List<Location> locations) {
+		this(new ArrayList<AbstractTile>(tiles), new ArrayList<Location>(
+				locations), null, isAcross(locations));
+	}
+
+	/**
+	 * Constructor method to set up the information of a Move
+	 *
+	 * @param tiles
+	 *            - the hand tiles placed, in board order
+	 * @param locations
+	 *            - where each tile is placed (same order as tiles)
+	 * @param word
+	 *            - the main word formed by the move
+	 * @param across
+	 *            - true if the main word reads left to right
+	 */
+	Move(List<AbstractTile> tiles, List<Location> locations, String word,
+			boolean across) {
+		this.tiles = Collections.unmodifiableList(tiles);
+		this.locations = Collections.unmodifiableList(locations);
+		this.word = word;
+		this.across = across;
+	}
+
+	/*
+	 * true unless the locations are all in one column and not one row
+	 */
+	private static boolean isAcross(List<Location> locations) {
+		for (Location loc : locations) {
+			if (loc.getRow() != locations.get(0).getRow()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Getter method for the tiles placed by this move
+	 *
+	 * @return the list of hand tiles
+	 */
+	public List<AbstractTile> getTiles() {
+		return tiles;
+	}
+
+	/**
+	 * Getter method for the locations of the tiles placed by this move
+	 *
+	 * @return the list of {@link Location}s, matching {@link #getTiles()}
+	 */
+	public List<Location> getLocations() {
+		return locations;
+	}
+
+	/**
+	 * Getter method for the main word formed by this move
+	 *
+	 * @return the main word in lower case, or null for a move that was not
+	 *         generated
+	 */
+	public String getWord() {
+		return word;
+	}
+
+	/**
+	 * Getter method for the direction of the main word
+	 *
+	 * @return true if the word reads across, false if it reads down
+	 */
+	public boolean isAcross() {
+		return across;
+	}
+
+	@Override
+	public String toString() {
+		Location first = locations.get(0);
+		String name = word;
+		if (name == null) {
+			/* just the letters placed */
+			StringBuilder letters = new StringBuilder();
+			for (AbstractTile tile : tiles) {
+				letters.append(Character.toLowerCase(tile.getValue()));
+			}
+			name = letters.toString();
+		}
+		return name + " at (" + first.getRow() + ", " + first.getCol() + ") "
+				+ (across ? "across" : "down");
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * MoveGenerator.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * This class lists every legal play a hand can make on a board. It uses the
+ * anchor based GADDAG algorithm: every empty square touching a tile on the
+ * board is an anchor, and words are grown leftwards from the anchor and then
+ * rightwards past it, using the {@link Gaddag} to prune letters that cannot
+ * lead to a word and per-square cross-checks to prune letters that would form
+ * an invalid perpendicular word. Down plays are generated the same way on the
+ * transposed board. A MoveGenerator keeps scratch state between calls and is
+ * not thread-safe; use one per thread.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class MoveGenerator {
+	private static final int SIZE = Board.BOARD_SIZE;
+	private final Dawg gaddag;
+	private final Gaddag lexicon;
+	private final int separator = Dawg.toSymbol(Dawg.SEPARATOR);
+	/* the letters on the board, row major, 0 for an empty square */
+	private final char[] letters = new char[SIZE * SIZE];
+	private final boolean[] anchors = new boolean[SIZE * SIZE];
+	/* the line being generated on, with the tiles placed so far */
+	private final char[] line = new char[SIZE];
+	/* how many of each letter are left in the hand */
+	private final int[] rack = new int[26];
+	/* bit n set while the hand still holds letter n */
+	private int held;
+	/* the squares (index in line) used so far by the current play */
+	private final int[] placed = new int[SIZE];
+	private int numPlaced;
+	private int lineIndex;
+	private int anchor;
+	private boolean across;
+	private CrossChecks checks;
+	private List<AbstractTile> hand;
+	private List<Move> found;
+
+	/**
+	 * Constructor method to set up a move generator
+	 *
+	 * @param gaddag
+	 *            - the words to play as a {@link Gaddag}
+	 */
+	MoveGenerator(Gaddag gaddag) {
+		this.gaddag = gaddag.graph();
+		this.lexicon = gaddag;
+	}
+
+	/**
+	 * Method to find all legal plays of a hand on a board
+	 *
+	 * @param board
+	 *            - the packed board to play on
+	 * @param checks
+	 *            - the {@link CrossChecks} of the board
+	 * @param hand
+	 *            - the tiles that can be played
+	 *
+	 * @return every legal {@link Move}, each one exactly once
+	 */
+	List<Move> generate(BitBoard board, CrossChecks checks,
+			List<AbstractTile> hand) {
+		return generate(board, checks, hand, null);
+	}
+
+	/**
+	 * Method to find the legal plays of a hand that put a tile on at least one
+	 * of some squares, for search code that knows the other plays did not
+	 * change
+	 *
+	 * @param board
+	 *            - the packed board to play on
+	 * @param checks
+	 *            - the {@link CrossChecks} of the board
+	 * @param hand
+	 *            - the tiles that can be played
+	 * @param squares
+	 *            - a bit set of empty squares next to a tile on the board
+	 *
+	 * @return every legal {@link Move} covering one of the squares, each one
+	 *         exactly once, in the order {@link #generate(BitBoard,
+	 *         CrossChecks, List)} finds them
+	 */
+	List<Move> generate(BitBoard board, CrossChecks checks,
+			List<AbstractTile> hand, long[] squares) {
+		this.checks = checks;
+		this.hand = hand;
+		this.found = new ArrayList<Move>();
+		/* copy the board letters and count the hand */
+		for (int sq = 0; sq < letters.length; sq++) {
+			letters[sq] = Character.toLowerCase(board.letter(sq));
+		}
+		for (int i = 0; i < rack.length; i++) {
+			rack[i] = 0;
+		}
+		held = 0;
+		for (AbstractTile tile : hand) {
+			int sym = Dawg.toSymbol(tile.getValue());
+			if ((sym >= 0) && (sym < 26)) {
+				rack[sym]++;
+				held |= 1 << sym;
+			}
+		}
+		/* find anchors, empty squares next to a tile */
+		for (int row = 0; row < SIZE; row++) {
+			for (int col = 0; col < SIZE; col++) {
+				int sq = row * SIZE + col;
+				anchors[sq] = (letters[sq] == 0)
+						&& (isLetter(row - 1, col) || isLetter(row + 1, col)
+								|| isLetter(row, col - 1) || isLetter(row,
+									col + 1));
+			}
+		}
+		if (board.count() == 0) {
+			/* the first move goes through the center */
+			anchors[(SIZE / 2) * SIZE + (SIZE / 2)] = true;
+		}
+		if (squares != null) {
+			/* each play is found from the leftmost (or topmost) anchor it
+			 * covers, so only the squares asked for are anchors */
+			for (int sq = 0; sq < anchors.length; sq++) {
+				anchors[sq] &= (squares[sq >>> 6] & (1L << sq)) != 0;
+			}
+		}
+		/* generate across plays then down plays */
+		for (int dir = 0; dir < 2; dir++) {
+			across = (dir == 0);
+			for (lineIndex = 0; lineIndex < SIZE; lineIndex++) {
+				for (int i = 0; i < SIZE; i++) {
+					line[i] = letters[square(i)];
+				}
+				for (anchor = 0; anchor < SIZE; anchor++) {
+					if (anchors[square(anchor)]) {
+						numPlaced = 0;
+						gen(anchor, Dawg.ROOT, true, anchor);
+					}
+				}
+			}
+		}
+		this.checks = null;
+		this.hand = null;
+		return found;
+	}
+
+	/*
+	 * the board index of position i on the current line
+	 */
+	private int square(int i) {
+		return across ? (lineIndex * SIZE + i) : (i * SIZE + lineIndex);
+	}
+
+	/*
+	 * true if (row, col) is on the board and holds a letter
+	 */
+	private boolean isLetter(int row, int col) {
+		return (row >= 0) && (row < SIZE) && (col >= 0) && (col < SIZE)
+				&& (letters[row * SIZE + col] != 0);
+	}
+
+	/*
+	 * grow the play at position i of the line. left is true while the play is
+	 * still growing towards the start of the line, start is the leftmost
+	 * position once growing right.
+	 */
+	private void gen(int i, int node, boolean left, int start) {
+		char letter = line[i];
+		if (letter != 0) {
+			/* a tile on the board must be used */
+			int edge = lexicon.edge(node, letter - 'a');
+			if (edge > 0) {
+				goOn(i, edge, left, start);
+			}
+			return;
+		}
+		if (numPlaced == hand.size()) {
+			return;
+		}
+		int sq = square(i);
+		/* a square that is another anchor is handled by that anchor */
+		if (left && (i != anchor) && anchors[sq]) {
+			return;
+		}
+		int allowed = across ? checks.across(sq) : checks.down(sq);
+		/* only the letters of the hand that fit the square and the graph */
+		for (int fits = lexicon.symbols(node) & allowed & held; fits != 0;
+				fits &= fits - 1) {
+			int sym = Integer.numberOfTrailingZeros(fits);
+			/* place the tile */
+			if (--rack[sym] == 0) {
+				held &= ~(1 << sym);
+			}
+			line[i] = (char) ('a' + sym);
+			placed[numPlaced++] = i;
+			goOn(i, lexicon.edge(node, sym), left, start);
+			/* and take it back */
+			numPlaced--;
+			line[i] = 0;
+			rack[sym]++;
+			held |= 1 << sym;
+		}
+	}
+
+	/*
+	 * continue a play after the letter at position i was matched by edge
+	 */
+	private void goOn(int i, int edge, boolean left, int start) {
+		int next = gaddag.target(edge);
+		if (left) {
+			boolean leftFree = (i == 0) || (line[i - 1] == 0);
+			boolean rightFree = (anchor == SIZE - 1) || (line[anchor + 1] == 0);
+			if (gaddag.accepts(edge) && leftFree && rightFree) {
+				record(i, anchor);
+			}
+			if (next == Dawg.NONE) {
+				return;
+			}
+			if (i > 0) {
+				gen(i - 1, next, true, start);
+			}
+			/* switch direction and grow to the right of the anchor */
+			int sep = lexicon.edge(next, separator);
+			if ((sep > 0) && leftFree && (anchor < SIZE - 1)) {
+				gen(anchor + 1, gaddag.target(sep), false, i);
+			}
+		} else {
+			boolean rightFree = (i == SIZE - 1) || (line[i + 1] == 0);
+			if (gaddag.accepts(edge) && rightFree) {
+				record(start, i);
+			}
+			if ((next != Dawg.NONE) && (i < SIZE - 1)) {
+				gen(i + 1, next, false, start);
+			}
+		}
+	}
+
+	/*
+	 * save the play covering positions [from, to] of the current line
+	 */
+	private void record(int from, int to) {
+		if (!across && (numPlaced == 1)) {
+			/* a single tile joining an across word was found going across */
+			int sq = square(placed[0]);
+			if (checks.down(sq) != CrossChecks.ALL) {
+				return;
+			}
+		}
+		/* sort the placed squares into board order */
+		int[] order = new int[numPlaced];
+		int n = 0;
+		for (int i = from; i <= to; i++) {
+			for (int j = 0; j < numPlaced; j++) {
+				if (placed[j] == i) {
+					order[n++] = i;
+				}
+			}
+		}
+		/* match every placed letter to a tile in the hand */
+		boolean[] used = new boolean[hand.size()];
+		List<AbstractTile> tiles = new ArrayList<AbstractTile>(numPlaced);
+		List<Location> locations = new ArrayList<Location>(numPlaced);
+		for (int k = 0; k < n; k++) {
+			int i = order[k];
+			char value = Character.toUpperCase(line[i]);
+			for (int t = 0; t < used.length; t++) {
+				AbstractTile tile = hand.get(t);
+				if (!used[t] && (Character.toUpperCase(tile.getValue()) == value)) {
+					used[t] = true;
+					tiles.add(tile);
+					break;
+				}
+			}
+			int sq = square(i);
+			locations.add(Location.of(sq / SIZE, sq % SIZE));
+		}
+		found.add(new Move(tiles, locations, new String(line, from, to - from
+				+ 1), across));
+	}
+}
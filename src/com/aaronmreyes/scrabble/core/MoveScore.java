@@ -0,0 +1,142 @@
+/*
+ * MoveScore.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Class that acts as a struct to contain the score of a move, as worked out
+ * in one pass over the lines through its tiles: the points of the tiles in
+ * the main word and in the cross words (each tile counted once), the points
+ * added by the ability tiles the move covers, and any trap tiles the move
+ * touches, whose abilities replace the score going to the player, along with
+ * what those traps do to the scores of the players.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class MoveScore {
+	private final int mainWord;
+	private final int crossWords;
+	private final int score;
+	private final int moverPoints;
+	private final int opponentPoints;
+	private final List<AbstractTile> traps;
+
+	/**
+	 * Constructor method to set up the information of a MoveScore
+	 *
+	 * @param mainWord
+	 *            - the points of the tiles in the main word
+	 * @param crossWords
+	 *            - the points of the other tiles in the cross words
+	 * @param score
+	 *            - the score after the ability tiles
+	 * @param moverPoints
+	 *            - the change to the score of the player making the move
+	 * @param opponentPoints
+	 *            - the change to the score of each other player
+	 * @param traps
+	 *            - the trap tiles touched by the move, or null if none
+	 */
+	MoveScore(int mainWord, int crossWords, int score, int moverPoints,
+			int opponentPoints, List<AbstractTile> traps) {
+		this.mainWord = mainWord;
+		this.crossWords = crossWords;
+		this.score = score;
+		this.moverPoints = moverPoints;
+		this.opponentPoints = opponentPoints;
+		this.traps = (traps == null) ? Collections.<AbstractTile> emptyList()
+				: Collections.unmodifiableList(traps);
+	}
+
+	/**
+	 * Getter method for the points of the tiles in the main word
+	 *
+	 * @return the main word points
+	 */
+	public int getMainWord() {
+		return mainWord;
+	}
+
+	/**
+	 * Getter method for the points of the tiles only in cross words
+	 *
+	 * @return the cross word points
+	 */
+	public int getCrossWords() {
+		return crossWords;
+	}
+
+	/**
+	 * Getter method for the score before the ability tiles
+	 *
+	 * @return the base score of the move
+	 */
+	public int getBase() {
+		return mainWord + crossWords;
+	}
+
+	/**
+	 * Getter method for the points added by the ability tiles covered
+	 *
+	 * @return the premium points (0 if no ability tile was covered)
+	 */
+	public int getPremium() {
+		return score - getBase();
+	}
+
+	/**
+	 * Getter method for the score of the move after the ability tiles
+	 *
+	 * @return the score the move is worth if no trap is touched
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Getter method for what the move does to the score of the player making
+	 * it, the score itself unless a trap is hit
+	 *
+	 * @return the points gained (or lost) by the player
+	 */
+	public int getMoverPoints() {
+		return moverPoints;
+	}
+
+	/**
+	 * Getter method for what the move does to the score of every other player
+	 *
+	 * @return the points gained by each opponent, 0 unless a trap is hit
+	 */
+	public int getOpponentPoints() {
+		return opponentPoints;
+	}
+
+	/**
+	 * Getter method for the trap tiles the move touches
+	 *
+	 * @return the list of trap tiles, empty if none
+	 */
+	public List<AbstractTile> getTraps() {
+		return traps;
+	}
+
+	@Override
+	public String toString() {
+		return moverPoints + " (" + mainWord + " + " + crossWords + " + "
+				+ getPremium() + " premium" + (traps.isEmpty() ? "" : ", "
+				+ traps.size() + " traps, score " + score) + ")";
+	}
+}
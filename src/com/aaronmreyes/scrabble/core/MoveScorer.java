@@ -0,0 +1,190 @@
+/*
+ * MoveScorer.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * This class scores moves against a board without changing it. It keeps
+ * scratch bit sets and arrays between calls so scoring does not allocate, which
+ * makes it not thread-safe: the {@link Dictionary} has one for the moves that
+ * are played and code scoring candidate moves on several threads uses one per
+ * thread.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class MoveScorer {
+	/* squares already added to the score of the move */
+	private final long[] counted = new long[(BitBoard.SQUARES + 63) / 64];
+	/* scratch state of the move being scored */
+	private final long[] moveSquares = new long[(BitBoard.SQUARES + 63) / 64];
+	private final int[] movePoints = new int[BitBoard.SQUARES];
+	private final AbilityTile[] premiums = new AbilityTile[BitBoard.SIZE];
+	private final AbstractTile[] placedOn = new AbstractTile[BitBoard.SIZE];
+	private List<AbstractTile> traps;
+
+	/**
+	 * Scores a move in one pass before it is placed on the board. Walks the
+	 * line through each placed tile in the direction of the move (the main
+	 * word) and then across it (the cross words), adding up the points of
+	 * every tile seen once and noting any trap tiles on the way, then applies
+	 * the ability tiles the move covers in priority order and works out what
+	 * any traps hit would do with that score. Does not change the board or any
+	 * player.
+	 *
+	 * @param move
+	 *            - the tiles of the player move
+	 * @param locations
+	 *            - where each tile of the move goes
+	 * @param board
+	 *            - the board the move is being played on
+	 * @param bits
+	 *            - the packed copy of the board, without the move
+	 *
+	 * @return the {@link MoveScore} of the move
+	 */
+	MoveScore score(List<AbstractTile> move,
+			List<Location> locations, AbstractTile[][] board, BitBoard bits) {
+		/* mark the squares of the move and clear the squares counted */
+		for (int i = 0; i < counted.length; i++) {
+			counted[i] = 0;
+			moveSquares[i] = 0;
+		}
+		boolean across = true;
+		int firstRow = locations.get(0).getRow();
+		for (int i = 0; i < move.size(); i++) {
+			AbstractTile tile = move.get(i);
+			Location loc = locations.get(i);
+			int square = BitBoard.square(loc.getRow(), loc.getCol());
+			moveSquares[square >>> 6] |= 1L << square;
+			movePoints[square] = tile.getPoints();
+			if (loc.getRow() != firstRow) {
+				across = false;
+			}
+		}
+		traps = null;
+		int mainWord = 0;
+		int crossWords = 0;
+		for (int i = 0; i < move.size(); i++) {
+			Location loc = locations.get(i);
+			mainWord += countLine(bits, board, loc.getRow(), loc.getCol(),
+					across ? 0 : 1, across ? 1 : 0);
+		}
+		for (int i = 0; i < move.size(); i++) {
+			Location loc = locations.get(i);
+			crossWords += countLine(bits, board, loc.getRow(), loc.getCol(),
+					across ? 1 : 0, across ? 0 : 1);
+		}
+		/* ability tiles under the move, sorted by priority */
+		int numPremiums = 0;
+		for (int i = 0; i < move.size(); i++) {
+			Location loc = locations.get(i);
+			if (bits.isPremium(BitBoard.square(loc.getRow(), loc.getCol()))) {
+				AbilityTile premium = (AbilityTile) board[loc.getRow()][loc
+						.getCol()];
+				/* insertion sort keeps tiles of equal priority in order */
+				int j = numPremiums++;
+				while ((j > 0)
+						&& (premiums[j - 1].getPriority() > premium.getPriority())) {
+					premiums[j] = premiums[j - 1];
+					placedOn[j] = placedOn[j - 1];
+					j--;
+				}
+				premiums[j] = premium;
+				placedOn[j] = move.get(i);
+			}
+		}
+		int score = mainWord + crossWords;
+		for (int i = 0; i < numPremiums; i++) {
+			score = premiums[i].applyAbility(score, placedOn[i]);
+			premiums[i] = null;
+			placedOn[i] = null;
+		}
+		/* the traps hit get the score instead of the player */
+		int moverPoints = score;
+		int opponentPoints = 0;
+		if (traps != null) {
+			moverPoints = 0;
+			for (AbstractTile trap : traps) {
+				moverPoints += trap.getMoverPoints(score, move);
+				opponentPoints += trap.getOpponentPoints(score);
+			}
+		}
+		MoveScore result = new MoveScore(mainWord, crossWords, score,
+				moverPoints, opponentPoints, traps);
+		traps = null;
+		return result;
+	}
+
+	/*
+	 * adds up the tiles not counted yet on the line through (row, col), which
+	 * is a square of the move, in the direction (drow, dcol)
+	 */
+	private int countLine(BitBoard bits, AbstractTile[][] board, int row,
+			int col, int drow, int dcol) {
+		int score = count(bits, board, row, col);
+		/* back to the start of the line, then forward to its end */
+		int r = row - drow;
+		int c = col - dcol;
+		while (isTile(bits, r, c)) {
+			score += count(bits, board, r, c);
+			r -= drow;
+			c -= dcol;
+		}
+		r = row + drow;
+		c = col + dcol;
+		while (isTile(bits, r, c)) {
+			score += count(bits, board, r, c);
+			r += drow;
+			c += dcol;
+		}
+		return score;
+	}
+
+	/*
+	 * true if (row, col) holds a tile on the board or a tile of the move
+	 */
+	private boolean isTile(BitBoard bits, int row, int col) {
+		if (!BitBoard.onBoard(row, col)) {
+			return false;
+		}
+		int square = BitBoard.square(row, col);
+		return bits.isOccupied(square)
+				|| ((moveSquares[square >>> 6] & (1L << square)) != 0);
+	}
+
+	/*
+	 * the points on (row, col) the first time the square is seen, 0 after. a
+	 * trap on the board is noted the first time it is seen.
+	 */
+	private int count(BitBoard bits, AbstractTile[][] board, int row, int col) {
+		int square = BitBoard.square(row, col);
+		long bit = 1L << square;
+		if ((counted[square >>> 6] & bit) != 0) {
+			return 0;
+		}
+		counted[square >>> 6] |= bit;
+		if ((moveSquares[square >>> 6] & bit) != 0) {
+			return movePoints[square];
+		}
+		if (bits.isTrap(square)) {
+			if (traps == null) {
+				traps = new ArrayList<AbstractTile>();
+			}
+			traps.add(board[row][col]);
+		}
+		return bits.points(square);
+	}
+}
@@ -10,6 +10,7 @@
 package com.aaronmreyes.scrabble.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -29,7 +30,7 @@ final public class Player {
 	/* used by Game: the list of moves the player has made during their turn */
 	protected final List<AbstractTile> moves = new ArrayList<AbstractTile>();
 	/* used by Game: the list of tiles in the player's hand */
-	protected final List<AbstractTile> hand = new ArrayList<AbstractTile>();
+	protected final Rack hand = new Rack();
 	/* is it this player's turn? */
 	private boolean turn;
 	/* what is the player's name? */
@@ -37,20 +38,64 @@ final public class Player {
 	/* what is this player's score */
 	private int score;
 	/* a generator used to mix the player's hand tiles */
-	private final Random gen = new Random();
+	private final Random gen;
+	/* picks the moves of a computer player, null for a person */
+	private Strategy strategy;
 
 	/**
 	 * The constructor method for a given player.
 	 * 
 	 * @param name
 	 *            - the String containing the player's name
+	 * @param gen
+	 *            - the random generator of the game
 	 */
-	protected Player(String name) {
+	protected Player(String name, Random gen) {
 		this.name = name;
+		this.gen = gen;
 		this.score = 0;
 		this.turn = false;
 	}
 
+	/**
+	 * Getter method for the hash of the tiles in the player's hand, by kind
+	 * and letter, which only changes when the tiles do (not their order)
+	 * 
+	 * @return the Zobrist hash of the hand
+	 */
+	public long getHandHash() {
+		return hand.hash();
+	}
+
+	/**
+	 * USED BY GUI: getter method to figure out if the game plays for this
+	 * player.
+	 * 
+	 * @return true if the player has a {@link Strategy}
+	 */
+	public boolean isComputer() {
+		return strategy != null;
+	}
+
+	/**
+	 * Getter method for the strategy of a computer player.
+	 * 
+	 * @return the {@link #strategy}, null for a person
+	 */
+	protected Strategy getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * This method makes the player a computer player, or a person again.
+	 * 
+	 * @param strategy
+	 *            - the {@link Strategy} picking the player's moves, or null
+	 */
+	protected void setStrategy(Strategy strategy) {
+		this.strategy = strategy;
+	}
+
 	/**
 	 * USED BY GUI: getter method for a player's name.
 	 * 
@@ -78,6 +123,16 @@ final public class Player {
 		return turn;
 	}
 
+	/**
+	 * getter method for the tiles in a player's hand, whether or not it is
+	 * their turn.
+	 * 
+	 * @return a read-only view of {@link #hand}
+	 */
+	public List<AbstractTile> getHand() {
+		return Collections.unmodifiableList(hand);
+	}
+
 	/**
 	 * USED BY GUI: getter method to get current player move-set.
 	 * 
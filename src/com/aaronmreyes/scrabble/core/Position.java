@@ -0,0 +1,222 @@
+/*
+ * Position.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * A private copy of the tiles on a {@link Board} for search code to play
+ * moves on. It holds its own tile array, {@link BitBoard} and
+ * {@link CrossChecks}, so moves can be generated, scored and played on it
+ * without touching the game, and a thread can copy it again for every
+ * look-ahead. Only the board is copied: hands, scores and the letterBank are
+ * kept by the search itself. Like the Board it is not thread-safe.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class Position {
+	private static final int SIZE = Board.BOARD_SIZE;
+	private final AbstractTile[][] board = new AbstractTile[SIZE][SIZE];
+	private final BitBoard bits;
+	private final CrossChecks checks;
+
+	/**
+	 * Constructor method for a copy of the current tiles of a board
+	 *
+	 * @param from
+	 *            - the board of the game
+	 */
+	Position(Board from) {
+		this(from.board, from.getBits(), from.getChecks());
+	}
+
+	/*
+	 * copies the tile array, packed board and cross-checks
+	 */
+	private Position(AbstractTile[][] tiles, BitBoard bits, CrossChecks checks) {
+		for (int row = 0; row < SIZE; row++) {
+			System.arraycopy(tiles[row], 0, board[row], 0, SIZE);
+		}
+		this.bits = new BitBoard(bits);
+		this.checks = new CrossChecks(checks);
+	}
+
+	/**
+	 * Method to copy this position
+	 *
+	 * @return a new position with the same tiles
+	 */
+	Position copy() {
+		return new Position(board, bits, checks);
+	}
+
+	/**
+	 * Method to list every legal play of a hand on this position
+	 *
+	 * @param generator
+	 *            - the move generator of the calling thread
+	 * @param hand
+	 *            - the tiles that can be played
+	 *
+	 * @return every legal {@link Move}
+	 */
+	List<Move> generate(MoveGenerator generator, List<AbstractTile> hand) {
+		return generator.generate(bits, checks, hand);
+	}
+
+	/**
+	 * Method to list the legal plays of a hand that put a tile on one of some
+	 * squares
+	 *
+	 * @param generator
+	 *            - the move generator of the calling thread
+	 * @param hand
+	 *            - the tiles that can be played
+	 * @param squares
+	 *            - a bit set of empty squares next to a tile
+	 *
+	 * @return every legal {@link Move} covering one of the squares
+	 */
+	List<Move> generate(MoveGenerator generator, List<AbstractTile> hand,
+			long[] squares) {
+		return generator.generate(bits, checks, hand, squares);
+	}
+
+	/**
+	 * Method to mark the squares a move depends on: every square of the words
+	 * it makes and the empty squares at both ends of each of them. A tile put
+	 * on any other square leaves the move legal and its score the same.
+	 *
+	 * @param move
+	 *            - a legal move, not played yet
+	 * @param squares
+	 *            - a bit set of squares to add the squares to
+	 */
+	void footprint(Move move, long[] squares) {
+		long[] placed = new long[squares.length];
+		for (Location loc : move.getLocations()) {
+			int sq = BitBoard.square(loc.getRow(), loc.getCol());
+			placed[sq >>> 6] |= 1L << sq;
+		}
+		for (Location loc : move.getLocations()) {
+			int row = loc.getRow();
+			int col = loc.getCol();
+			/* the line across and the line down through the tile */
+			for (int dir = 0; dir < 2; dir++) {
+				int drow = dir;
+				int dcol = 1 - dir;
+				mark(squares, placed, row, col, -drow, -dcol);
+				mark(squares, placed, row, col, drow, dcol);
+			}
+		}
+	}
+
+	/*
+	 * marks the squares from (row, col) in the direction (drow, dcol) while
+	 * they hold a tile, and the square after them
+	 */
+	private void mark(long[] squares, long[] placed, int row, int col,
+			int drow, int dcol) {
+		while (BitBoard.onBoard(row, col)) {
+			int sq = BitBoard.square(row, col);
+			squares[sq >>> 6] |= 1L << sq;
+			if (!bits.isOccupied(sq) && ((placed[sq >>> 6] & (1L << sq)) == 0)) {
+				return;
+			}
+			row += drow;
+			col += dcol;
+		}
+	}
+
+	/**
+	 * Method to find the squares a play must put a tile on to make a word with
+	 * a tile on some squares: the empty squares at both ends of the word
+	 * across and the word down through each of those tiles
+	 *
+	 * @param squares
+	 *            - a bit set of squares holding tiles
+	 * @param ends
+	 *            - a bit set to add the squares to
+	 */
+	void ends(long[] squares, long[] ends) {
+		for (int i = 0; i < squares.length; i++) {
+			for (long rest = squares[i]; rest != 0; rest &= rest - 1) {
+				int sq = (i << 6) + Long.numberOfTrailingZeros(rest);
+				int row = sq / SIZE;
+				int col = sq % SIZE;
+				end(ends, row, col, 0, -1);
+				end(ends, row, col, 0, 1);
+				end(ends, row, col, -1, 0);
+				end(ends, row, col, 1, 0);
+			}
+		}
+	}
+
+	/*
+	 * marks the first empty square from (row, col) in the direction
+	 * (drow, dcol), if it is on the board
+	 */
+	private void end(long[] ends, int row, int col, int drow, int dcol) {
+		do {
+			row += drow;
+			col += dcol;
+		} while (bits.isOccupied(row, col));
+		if (BitBoard.onBoard(row, col)) {
+			int sq = BitBoard.square(row, col);
+			ends[sq >>> 6] |= 1L << sq;
+		}
+	}
+
+	/**
+	 * Method to work out what a move would score on this position
+	 *
+	 * @param move
+	 *            - a legal move
+	 * @param scorer
+	 *            - the scorer of the calling thread
+	 *
+	 * @return the {@link MoveScore} of the move
+	 */
+	MoveScore score(Move move, MoveScorer scorer) {
+		return scorer.score(move.getTiles(), move.getLocations(), board, bits);
+	}
+
+	/**
+	 * Method to place the tiles of a move, the same way
+	 * {@link Board#placeTiles(Player, List)} does but without scoring
+	 *
+	 * @param move
+	 *            - a legal move
+	 */
+	void play(Move move) {
+		List<AbstractTile> tiles = move.getTiles();
+		List<Location> locations = move.getLocations();
+		for (int i = 0; i < tiles.size(); i++) {
+			AbstractTile tile = tiles.get(i);
+			Location loc = locations.get(i);
+			board[loc.getRow()][loc.getCol()] = tile;
+			bits.place(BitBoard.square(loc.getRow(), loc.getCol()),
+					tile.getValue(), tile.getPoints(), TileCodes.code(tile));
+		}
+		for (Location loc : locations) {
+			checks.update(bits, loc.getRow(), loc.getCol());
+		}
+	}
+
+	/**
+	 * @return the {@link Zobrist} hash of the tiles on this position
+	 */
+	long hash() {
+		return bits.hash();
+	}
+}
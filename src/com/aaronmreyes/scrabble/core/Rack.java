@@ -0,0 +1,83 @@
+/*
+ * Rack.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * The list of tiles in a {@link Player}'s hand. It behaves like any other
+ * list, but every change goes through {@link #add(int, AbstractTile)},
+ * {@link #set(int, AbstractTile)} or {@link #remove(int)}, which keep a
+ * Zobrist hash of the tiles in the hand up to date. The hash only depends
+ * on how many tiles of each kind and letter the hand holds, not on their
+ * order.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class Rack extends AbstractList<AbstractTile> implements RandomAccess {
+	private final List<AbstractTile> tiles = new ArrayList<AbstractTile>();
+	/* how many tiles of each TileCodes code are in the hand */
+	private final int[] counts = new int[TileCodes.CODES];
+	private long hash;
+
+	@Override
+	public AbstractTile get(int index) {
+		return tiles.get(index);
+	}
+
+	@Override
+	public int size() {
+		return tiles.size();
+	}
+
+	@Override
+	public void add(int index, AbstractTile tile) {
+		tiles.add(index, tile);
+		added(tile);
+	}
+
+	@Override
+	public AbstractTile set(int index, AbstractTile tile) {
+		AbstractTile old = tiles.set(index, tile);
+		removed(old);
+		added(tile);
+		return old;
+	}
+
+	@Override
+	public AbstractTile remove(int index) {
+		AbstractTile old = tiles.remove(index);
+		removed(old);
+		return old;
+	}
+
+	/**
+	 * @return the hash of the tiles in the hand
+	 */
+	long hash() {
+		return hash;
+	}
+
+	private void added(AbstractTile tile) {
+		int code = TileCodes.code(tile);
+		hash ^= Zobrist.copy(code, counts[code]++);
+	}
+
+	private void removed(AbstractTile tile) {
+		int code = TileCodes.code(tile);
+		hash ^= Zobrist.copy(code, --counts[code]);
+	}
+}
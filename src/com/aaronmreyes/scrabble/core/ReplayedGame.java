@@ -0,0 +1,240 @@
+/*
+ * ReplayedGame.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The state of a game rebuilt from a {@link GameJournal} by the
+ * {@link JournalReplayer}: the tiles on the board, every hand and score, the
+ * letterBank, whose turn it is and how many turns were played. Tiles are kept
+ * as {@link TileCodes} in small arrays, so a replayer can hold many thousands
+ * of games at once.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class ReplayedGame {
+	private static final int SIZE = Board.BOARD_SIZE;
+	private final long id;
+	private final List<String> names;
+	private final boolean special;
+	/* the code + 1 of the tile on each square, 0 for none */
+	private final byte[] board = new byte[SIZE * SIZE];
+	private final byte[][] hands;
+	private final int[] handSizes;
+	private final int[] scores;
+	/* how many tiles of each code are in the letterBank */
+	private final byte[] bag = new byte[TileCodes.CODES];
+	private int bagSize;
+	private int turn;
+	private int currentSeat = -1;
+
+	/**
+	 * Constructor method for a game as it starts, before any tile is drawn
+	 *
+	 * @param id
+	 *            - the id of the game in the journal
+	 * @param names
+	 *            - the names of the players in seat order
+	 * @param special
+	 *            - true if the game has special tiles
+	 */
+	ReplayedGame(long id, String[] names, boolean special) {
+		this.id = id;
+		this.names = Collections.unmodifiableList(Arrays.asList(names));
+		this.special = special;
+		this.hands = new byte[names.length][Game.HAND_LIMIT];
+		this.handSizes = new int[names.length];
+		this.scores = new int[names.length];
+	}
+
+	/*
+	 * a tile goes into the letterBank
+	 */
+	void putInBag(int code) {
+		bag[code]++;
+		bagSize++;
+	}
+
+	/*
+	 * a tile goes from the letterBank into a hand
+	 */
+	void draw(int seat, int code) {
+		if (bag[code] == 0) {
+			throw new IllegalStateException("game " + id + ": drew "
+					+ TileCodes.letter(code) + " not in the letterBank");
+		}
+		bag[code]--;
+		bagSize--;
+		hands[seat][handSizes[seat]++] = (byte) code;
+	}
+
+	/*
+	 * a tile leaves a hand, for the board or the letterBank
+	 */
+	void takeFromHand(int seat, int code) {
+		byte[] hand = hands[seat];
+		for (int i = 0; i < handSizes[seat]; i++) {
+			if (hand[i] == (byte) code) {
+				hand[i] = hand[--handSizes[seat]];
+				return;
+			}
+		}
+		throw new IllegalStateException("game " + id + ": "
+				+ TileCodes.letter(code) + " not in " + names.get(seat)
+				+ "'s hand");
+	}
+
+	/*
+	 * a tile from a hand is placed on the board
+	 */
+	void place(int seat, int code, int square) {
+		takeFromHand(seat, code);
+		board[square] = (byte) (code + 1);
+	}
+
+	/*
+	 * a score changes
+	 */
+	void score(int seat, int change) {
+		scores[seat] += change;
+	}
+
+	/*
+	 * a PLAY, EXCHANGE or PASS by seat is over
+	 */
+	void endTurn(int seat) {
+		turn++;
+		currentSeat = (seat + 1) % names.size();
+	}
+
+	/*
+	 * the first player is known
+	 */
+	void setCurrentSeat(int seat) {
+		currentSeat = seat;
+	}
+
+	/**
+	 * Getter method for the id of the game in the journal
+	 *
+	 * @return the id
+	 */
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * Getter method for the names of the players
+	 *
+	 * @return the names in seat order
+	 */
+	public List<String> getNames() {
+		return names;
+	}
+
+	/**
+	 * Getter method for the rule variant
+	 *
+	 * @return true if the game has special tiles
+	 */
+	public boolean isSpecial() {
+		return special;
+	}
+
+	/**
+	 * Getter method for the number of turns played (plays, exchanges and
+	 * passes)
+	 *
+	 * @return the number of turns
+	 */
+	public int getTurn() {
+		return turn;
+	}
+
+	/**
+	 * Getter method for whose turn it is
+	 *
+	 * @return the seat of the player to play, -1 before the first player is
+	 *         known
+	 */
+	public int getCurrentSeat() {
+		return currentSeat;
+	}
+
+	/**
+	 * Getter method for the score of a player
+	 *
+	 * @param seat
+	 *            - the seat of the player
+	 *
+	 * @return the score
+	 */
+	public int getScore(int seat) {
+		return scores[seat];
+	}
+
+	/**
+	 * Getter method for the letters in a player's hand
+	 *
+	 * @param seat
+	 *            - the seat of the player
+	 *
+	 * @return the letters in alphabetical order
+	 */
+	public String getHand(int seat) {
+		char[] letters = new char[handSizes[seat]];
+		for (int i = 0; i < letters.length; i++) {
+			letters[i] = TileCodes.letter(hands[seat][i] & 0xFF);
+		}
+		Arrays.sort(letters);
+		return new String(letters);
+	}
+
+	/**
+	 * Getter method for the letter on a square
+	 *
+	 * @param row
+	 *            - the row of the square
+	 * @param col
+	 *            - the column of the square
+	 *
+	 * @return the upper case letter, or '\0' for an empty square
+	 */
+	public char getLetter(int row, int col) {
+		int code = board[row * SIZE + col] & 0xFF;
+		return (code == 0) ? '\0' : TileCodes.letter(code - 1);
+	}
+
+	/**
+	 * Getter method for the number of tiles in the letterBank
+	 *
+	 * @return the number of tiles left
+	 */
+	public int getTilesLeft() {
+		return bagSize;
+	}
+
+	/**
+	 * Getter method for the number of special tiles in the letterBank
+	 *
+	 * @return the number of tiles left that are not normal tiles
+	 */
+	public int getSpecialTilesLeft() {
+		int count = 0;
+		for (int code = 1 << 5; code < bag.length; code++) {
+			count += bag[code];
+		}
+		return count;
+	}
+}
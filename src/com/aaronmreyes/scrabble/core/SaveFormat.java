@@ -0,0 +1,228 @@
+/*
+ * SaveFormat.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * The binary format of a saved {@link Game}, written by {@link Game#save()}
+ * and read by {@link Game#load(byte[])}. A save is a few hundred bytes:
+ *
+ * <pre>
+ * MAGIC, VERSION (short), state of the game's generator (long), state of
+ * the letterBank's generator (long), moves played (int)
+ * players, seat to play
+ * per player: name (length, UTF-8), score (int), turn, hand size, tiles
+ * per square: 0 for empty, 1 to 4 for an ability tile, or 5 then the tile
+ *             and the seat of the player who placed it
+ * letterBank size (short), tiles in order
+ * </pre>
+ *
+ * Tiles are their {@link TileCodes} and points. Nothing is read from the
+ * assets or checked against the lexicon, so loading costs little more than
+ * making the objects.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class SaveFormat {
+	static final int MAGIC = 0x53415645; /* "SAVE" */
+	static final short VERSION = 1;
+	private static final int SIZE = Board.BOARD_SIZE;
+	/* a square holding a letter tile */
+	private static final int LETTER = 5;
+	/* the seat of a tile placed by no player */
+	private static final int NO_SEAT = 0xFF;
+
+	private SaveFormat() {
+	}
+
+	/**
+	 * Method to write a game
+	 *
+	 * @param players
+	 *            - the players in seat order
+	 * @param current
+	 *            - the player to play
+	 * @param board
+	 *            - the tiles on each square
+	 * @param bag
+	 *            - the tiles of the letterBank, in order
+	 * @param version
+	 *            - the number of moves played
+	 * @param state
+	 *            - the state of the game's generator
+	 * @param bagState
+	 *            - the state of the letterBank's generator
+	 *
+	 * @return the saved game
+	 */
+	static byte[] save(List<Player> players, Player current,
+			AbstractTile[][] board, List<AbstractTile> bag, int version,
+			long state, long bagState) {
+		byte[][] names = new byte[players.size()][];
+		int bytes = 38 + 3 * SIZE * SIZE + 2 * bag.size();
+		for (int seat = 0; seat < names.length; seat++) {
+			Player player = players.get(seat);
+			names[seat] = player.getName().getBytes(StandardCharsets.UTF_8);
+			if (names[seat].length > 0xFF) {
+				throw new IllegalArgumentException("name too long to save");
+			}
+			bytes += names[seat].length + 8 + 2 * player.hand.size();
+		}
+		ByteBuffer out = ByteBuffer.allocate(bytes);
+		out.putInt(MAGIC).putShort(VERSION).putLong(state).putLong(bagState);
+		out.putInt(version);
+		out.put((byte) players.size()).put((byte) players.indexOf(current));
+		for (int seat = 0; seat < names.length; seat++) {
+			Player player = players.get(seat);
+			out.put((byte) names[seat].length).put(names[seat]);
+			out.putInt(player.getScore());
+			out.put((byte) (player.getTurn() ? 1 : 0));
+			out.put((byte) player.hand.size());
+			for (AbstractTile tile : player.hand) {
+				putTile(out, tile);
+			}
+		}
+		for (int row = 0; row < SIZE; row++) {
+			for (int col = 0; col < SIZE; col++) {
+				AbstractTile tile = board[row][col];
+				int ability = (tile == null) ? 0 : TileCodes.ability(tile);
+				if ((tile == null) || (ability != 0)) {
+					out.put((byte) ability);
+					continue;
+				}
+				out.put((byte) LETTER);
+				putTile(out, tile);
+				out.put((byte) seatOf(players, tile.getCreator()));
+			}
+		}
+		out.putShort((short) bag.size());
+		for (AbstractTile tile : bag) {
+			putTile(out, tile);
+		}
+		return Arrays.copyOf(out.array(), out.position());
+	}
+
+	/**
+	 * Method to read a game
+	 *
+	 * @param data
+	 *            - the saved game
+	 *
+	 * @return a new {@link Game} in the saved state
+	 */
+	static Game load(byte[] data) {
+		ByteBuffer in = ByteBuffer.wrap(data);
+		try {
+			if (in.getInt() != MAGIC) {
+				throw new IllegalArgumentException("not a saved game");
+			}
+			short version = in.getShort();
+			if (version != VERSION) {
+				throw new IllegalArgumentException("saved game version "
+						+ version + " not supported");
+			}
+			GameRandom gen = new GameRandom();
+			gen.setState(in.getLong());
+			GameRandom bagGen = new GameRandom();
+			bagGen.setState(in.getLong());
+			int moves = in.getInt();
+			int numPlayers = in.get();
+			int currentSeat = in.get();
+			if ((numPlayers < 1) || (numPlayers > Game.MAX_PLAYERS)
+					|| (currentSeat < 0) || (currentSeat >= numPlayers)) {
+				throw new IllegalArgumentException("bad players in saved game");
+			}
+			List<Player> players = new ArrayList<Player>(numPlayers);
+			for (int seat = 0; seat < numPlayers; seat++) {
+				byte[] name = new byte[in.get() & 0xFF];
+				in.get(name);
+				Player player = new Player(new String(name,
+						StandardCharsets.UTF_8), gen);
+				player.changeScore(in.getInt());
+				if (in.get() != 0) {
+					player.changeTurn();
+				}
+				for (int n = in.get(); n > 0; n--) {
+					player.hand.add(getTile(in));
+				}
+				players.add(player);
+			}
+			AbstractTile[][] board = new AbstractTile[SIZE][SIZE];
+			for (int row = 0; row < SIZE; row++) {
+				for (int col = 0; col < SIZE; col++) {
+					int square = in.get();
+					if (square == 0) {
+						continue;
+					}
+					Location loc = Location.of(row, col);
+					if (square != LETTER) {
+						board[row][col] = TileCodes.newAbility(square, loc);
+						continue;
+					}
+					AbstractTile tile = getTile(in);
+					int seat = in.get() & 0xFF;
+					tile.setLocation(loc);
+					tile.setCreator((seat == NO_SEAT) ? null : players.get(seat)
+							.getName());
+					board[row][col] = tile;
+				}
+			}
+			int size = in.getShort() & 0xFFFF;
+			List<AbstractTile> bag = new ArrayList<AbstractTile>(size);
+			for (int i = 0; i < size; i++) {
+				bag.add(getTile(in));
+			}
+			Game game = new Game();
+			game.restore(players, players.get(currentSeat), new Board(board,
+					bag, bagGen, moves), gen);
+			return game;
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("saved game is truncated");
+		} catch (IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("bad seat in saved game");
+		}
+	}
+
+	/*
+	 * the seat of the player called name, NO_SEAT if there is none
+	 */
+	private static int seatOf(List<Player> players, String name) {
+		for (int seat = 0; seat < players.size(); seat++) {
+			if (players.get(seat).getName().equals(name)) {
+				return seat;
+			}
+		}
+		return NO_SEAT;
+	}
+
+	/*
+	 * a tile as its code and points
+	 */
+	private static void putTile(ByteBuffer out, AbstractTile tile) {
+		out.put((byte) TileCodes.code(tile)).put((byte) tile.getPoints());
+	}
+
+	/*
+	 * a new tile from its code and points
+	 */
+	private static AbstractTile getTile(ByteBuffer in) {
+		int code = in.get() & 0xFF;
+		return TileCodes.newTile(code, in.get());
+	}
+}
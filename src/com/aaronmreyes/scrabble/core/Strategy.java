@@ -0,0 +1,32 @@
+/*
+ * Strategy.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+/**
+ * The way a computer player picks its moves. A {@link Player} with a Strategy
+ * is played by the {@link Game} itself: when its turn comes the game asks the
+ * strategy for a move and plays it, or passes if there is none.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public interface Strategy {
+
+	/**
+	 * Method to pick the move of the current player of a game. Must not change
+	 * the game.
+	 *
+	 * @param game
+	 *            - the game, with the computer player as the current player
+	 *
+	 * @return the {@link Move} to play, or null to pass
+	 */
+	Move chooseMove(Game game);
+}
@@ -0,0 +1,181 @@
+/*
+ * TileBag.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * The bag of letter tiles not yet drawn (the letterBank). Tiles are kept in an
+ * array in no particular order, so a random draw just moves the last tile
+ * into the hole left by the drawn one, and returning tiles appends them. The
+ * number of tiles of each letter in the bag, and a {@link Zobrist} hash of
+ * them, are kept up to date for the computer players.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class TileBag {
+	/* the tiles in the bag, only the first size are used */
+	private AbstractTile[] tiles;
+	private int size;
+	/* how many tiles of each letter ('A' is 0) are in the bag */
+	private final int[] counts = new int[Zobrist.OTHER + 1];
+	/* how many tiles of each TileCodes code are in the bag, for the hash */
+	private final int[] codes = new int[TileCodes.CODES];
+	private long hash;
+	/* the generator used to pick tiles */
+	private final GameRandom gen;
+
+	/**
+	 * Constructor method for a bag holding the given tiles
+	 *
+	 * @param tiles
+	 *            - the tiles to put in the bag
+	 * @param gen
+	 *            - the seeded generator used to draw tiles
+	 */
+	TileBag(Collection<AbstractTile> tiles, GameRandom gen) {
+		this.tiles = new AbstractTile[tiles.size()];
+		this.gen = gen;
+		putAll(tiles);
+	}
+
+	/**
+	 * Method to take a random tile out of the bag
+	 *
+	 * @return an {@link AbstractTile} or null if the bag is empty
+	 */
+	AbstractTile draw() {
+		if (size == 0) {
+			return null;
+		}
+		int index = gen.nextInt(size);
+		AbstractTile tile = tiles[index];
+		/* fill the hole with the last tile */
+		tiles[index] = tiles[--size];
+		tiles[size] = null;
+		count(tile, -1);
+		return tile;
+	}
+
+	/**
+	 * Method to take up to n random tiles out of the bag
+	 *
+	 * @param n
+	 *            - the number of tiles wanted
+	 *
+	 * @return the tiles drawn, fewer than n if the bag runs out
+	 */
+	List<AbstractTile> draw(int n) {
+		int drawn = Math.min(n, size);
+		List<AbstractTile> hand = new ArrayList<AbstractTile>(drawn);
+		for (int i = 0; i < drawn; i++) {
+			hand.add(draw());
+		}
+		return hand;
+	}
+
+	/**
+	 * Method to put a tile back in the bag
+	 *
+	 * @param tile
+	 *            - the tile to return
+	 */
+	void put(AbstractTile tile) {
+		if (size == tiles.length) {
+			AbstractTile[] bigger = new AbstractTile[Math.max(16, size * 2)];
+			System.arraycopy(tiles, 0, bigger, 0, size);
+			tiles = bigger;
+		}
+		tiles[size++] = tile;
+		count(tile, 1);
+	}
+
+	/**
+	 * Method to put several tiles back in the bag
+	 *
+	 * @param returned
+	 *            - the tiles to return
+	 */
+	void putAll(Collection<AbstractTile> returned) {
+		for (AbstractTile tile : returned) {
+			put(tile);
+		}
+	}
+
+	/**
+	 * Method to list the tiles in the bag without drawing them
+	 *
+	 * @return a new list of the tiles, in no particular order
+	 */
+	List<AbstractTile> tiles() {
+		List<AbstractTile> copy = new ArrayList<AbstractTile>(size);
+		for (int i = 0; i < size; i++) {
+			copy.add(tiles[i]);
+		}
+		return copy;
+	}
+
+	/**
+	 * Getter method for the state of the generator used to pick tiles, for
+	 * saving the bag without changing the draws that follow
+	 *
+	 * @return the state of the generator
+	 */
+	long state() {
+		return gen.getState();
+	}
+
+	/**
+	 * @return the number of tiles in the bag
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Method to get how many tiles of a letter are in the bag
+	 *
+	 * @param letter
+	 *            - the letter (either case)
+	 *
+	 * @return the number of those tiles left
+	 */
+	int count(char letter) {
+		int index = Zobrist.index(letter);
+		return (index < Zobrist.OTHER) ? counts[index] : 0;
+	}
+
+	/**
+	 * @return the hash of the tiles in the bag, by kind and letter, whatever
+	 *         their order
+	 */
+	long hash() {
+		return hash;
+	}
+
+	/*
+	 * adds one to (delta 1) or takes one from (delta -1) the counts of the
+	 * tile's letter and code, and the matching key to the hash
+	 */
+	private void count(AbstractTile tile, int delta) {
+		int code = TileCodes.code(tile);
+		counts[Zobrist.index(tile.getValue())] += delta;
+		if (delta > 0) {
+			hash ^= Zobrist.copy(code, codes[code]++);
+		} else {
+			hash ^= Zobrist.copy(code, --codes[code]);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * TileCodes.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+import com.aaronmreyes.scrabble.core.tiles.DoubleLetter;
+import com.aaronmreyes.scrabble.core.tiles.DoubleWord;
+import com.aaronmreyes.scrabble.core.tiles.LetterBombTile;
+import com.aaronmreyes.scrabble.core.tiles.LoseWordTile;
+import com.aaronmreyes.scrabble.core.tiles.NegativePointTile;
+import com.aaronmreyes.scrabble.core.tiles.NormalTile;
+import com.aaronmreyes.scrabble.core.tiles.StealWordTile;
+import com.aaronmreyes.scrabble.core.tiles.TripleLetter;
+import com.aaronmreyes.scrabble.core.tiles.TripleWord;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile.color;
+
+/**
+ * The one byte code of a letter tile used by the binary formats: the letter
+ * ({@link Zobrist#index(char)}) in the low five bits and the kind of tile,
+ * normal or one of the special tiles, in the high three. The ability tiles
+ * of the board have codes of their own.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class TileCodes {
+	static final int NORMAL = 0;
+	static final int NEGATIVE_POINT = 1;
+	static final int STEAL_WORD = 2;
+	static final int LOSE_WORD = 3;
+	static final int LETTER_BOMB = 4;
+	/* codes are below this */
+	static final int CODES = (LETTER_BOMB + 1) << 5;
+	/* the ability tiles, 0 for none */
+	static final int TRIPLE_WORD = 1;
+	static final int DOUBLE_WORD = 2;
+	static final int TRIPLE_LETTER = 3;
+	static final int DOUBLE_LETTER = 4;
+
+	private TileCodes() {
+	}
+
+	/**
+	 * Method to get the code of a tile
+	 *
+	 * @param tile
+	 *            - a letter tile
+	 *
+	 * @return the code, from 0 to {@link #CODES} - 1
+	 */
+	static int code(AbstractTile tile) {
+		int kind = NORMAL;
+		if (tile instanceof NegativePointTile) {
+			kind = NEGATIVE_POINT;
+		} else if (tile instanceof StealWordTile) {
+			kind = STEAL_WORD;
+		} else if (tile instanceof LoseWordTile) {
+			kind = LOSE_WORD;
+		} else if (tile instanceof LetterBombTile) {
+			kind = LETTER_BOMB;
+		}
+		return (kind << 5) | Zobrist.index(tile.getValue());
+	}
+
+	/**
+	 * Method to get the letter of a code
+	 *
+	 * @param code
+	 *            - the code of a tile
+	 *
+	 * @return the upper case letter, or '?' for a tile that is not a letter
+	 */
+	static char letter(int code) {
+		int index = code & 0x1F;
+		return (index < Zobrist.OTHER) ? (char) ('A' + index) : '?';
+	}
+
+	/**
+	 * Method to get the kind of tile of a code
+	 *
+	 * @param code
+	 *            - the code of a tile
+	 *
+	 * @return {@link #NORMAL} or the kind of special tile
+	 */
+	static int kind(int code) {
+		return code >>> 5;
+	}
+
+	/**
+	 * Method to make a new tile from its code, as it is before being placed
+	 *
+	 * @param code
+	 *            - the code of the tile
+	 * @param points
+	 *            - the points of the tile
+	 *
+	 * @return a tile of the right kind, letter and points
+	 */
+	static AbstractTile newTile(int code, int points) {
+		char value = letter(code);
+		switch (kind(code)) {
+		case NORMAL:
+			return new NormalTile(value, points, null, color.BLACK);
+		case NEGATIVE_POINT:
+			return new NegativePointTile(value, points, null, color.RED);
+		case STEAL_WORD:
+			return new StealWordTile(value, points, null, color.CYAN);
+		case LOSE_WORD:
+			return new LoseWordTile(value, points, null, color.GREEN);
+		case LETTER_BOMB:
+			return new LetterBombTile(value, points, null, color.MAGENTA);
+		default:
+			throw new IllegalArgumentException("bad tile code " + code);
+		}
+	}
+
+	/**
+	 * Method to get the code of an ability tile
+	 *
+	 * @param tile
+	 *            - a tile on the board
+	 *
+	 * @return the code of the ability, or 0 if tile is not an ability tile
+	 */
+	static int ability(AbstractTile tile) {
+		if (tile instanceof TripleWord) {
+			return TRIPLE_WORD;
+		} else if (tile instanceof DoubleWord) {
+			return DOUBLE_WORD;
+		} else if (tile instanceof TripleLetter) {
+			return TRIPLE_LETTER;
+		} else if (tile instanceof DoubleLetter) {
+			return DOUBLE_LETTER;
+		}
+		return 0;
+	}
+
+	/**
+	 * Method to make a new ability tile from its code, the same way the
+	 * {@link Board} sets them up from assets/ability.txt
+	 *
+	 * @param ability
+	 *            - the code of the ability
+	 * @param loc
+	 *            - the square of the tile
+	 *
+	 * @return the ability tile
+	 */
+	static AbstractTile newAbility(int ability, Location loc) {
+		switch (ability) {
+		case TRIPLE_WORD:
+			return new TripleWord(loc, Board.LOW_PRIORITY, color.RED);
+		case DOUBLE_WORD:
+			return new DoubleWord(loc, Board.LOW_PRIORITY, color.MAGENTA);
+		case TRIPLE_LETTER:
+			return new TripleLetter(loc, Board.HIGH_PRIORITY, color.BLUE);
+		case DOUBLE_LETTER:
+			return new DoubleLetter(loc, Board.HIGH_PRIORITY, color.CYAN);
+		default:
+			throw new IllegalArgumentException("bad ability code " + ability);
+		}
+	}
+}
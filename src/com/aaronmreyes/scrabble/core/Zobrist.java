@@ -0,0 +1,95 @@
+/*
+ * Zobrist.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * The random keys used to hash game states (Zobrist hashing). A state is
+ * hashed by XORing one key for every fact about it: a tile on a square, an
+ * unused ability tile on a square, or the n-th copy of a tile in a hand or in
+ * the letterBank. Tiles are told apart by their {@link TileCodes} code, the
+ * kind of tile as well as the letter, so a special tile and a normal tile of
+ * the same letter never hash the same. Adding or removing a fact XORs
+ * its key in or out, so the hashes are kept up to date as tiles move instead
+ * of being recomputed. The keys come from a fixed seed, so a hash means the
+ * same thing in every run.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class Zobrist {
+	/* index used for anything that is not a letter 'A' to 'Z' */
+	static final int OTHER = 26;
+	/* copies of one letter that get their own key */
+	private static final int COPIES = 16;
+	private static final int SQUARES = BitBoard.SQUARES;
+	private static final int CODES = TileCodes.CODES;
+	private static final long[] tiles = new long[SQUARES * CODES];
+	private static final long[] premiums = new long[SQUARES];
+	private static final long[] copies = new long[CODES * COPIES];
+	static {
+		SplittableRandom gen = new SplittableRandom(0x5CA3B1EL);
+		fill(tiles, gen);
+		fill(premiums, gen);
+		fill(copies, gen);
+	}
+
+	private Zobrist() {
+	}
+
+	private static void fill(long[] keys, SplittableRandom gen) {
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = gen.nextLong();
+		}
+	}
+
+	/**
+	 * Method to get the index of a letter in the key tables
+	 *
+	 * @param letter
+	 *            - the letter (either case)
+	 *
+	 * @return 0 for 'A' to 25 for 'Z', {@link #OTHER} for anything else
+	 */
+	static int index(char letter) {
+		int index = Character.toUpperCase(letter) - 'A';
+		return ((index >= 0) && (index < OTHER)) ? index : OTHER;
+	}
+
+	/**
+	 * @return the key of a tile, by its {@link TileCodes} code, on a square
+	 */
+	static long tile(int square, int code) {
+		return tiles[square * CODES + code];
+	}
+
+	/**
+	 * @return the key of an unused ability tile on a square
+	 */
+	static long premium(int square) {
+		return premiums[square];
+	}
+
+	/**
+	 * Method to get the key of one copy of a tile in a multiset of tiles (a
+	 * hand or the letterBank)
+	 *
+	 * @param code
+	 *            - the tile, from {@link TileCodes#code(AbstractTile)}
+	 * @param copy
+	 *            - which copy, 0 for the first tile with that code
+	 *
+	 * @return the key
+	 */
+	static long copy(int code, int copy) {
+		return copies[code * COPIES + (copy % COPIES)];
+	}
+}
@@ -51,4 +51,17 @@ public abstract class AbilityTile extends AbstractTile {
 	public int getPriority() {
 		return priority;
 	}
+
+	/**
+	 * Method to apply this ability to the score of a move without looking at
+	 * or changing any {@link Player}. Used to score moves that are not (or
+	 * not yet) played.
+	 * 
+	 * @param score
+	 *            - the running score of the move
+	 * @param placed
+	 *            - the tile of the move placed on this ability tile
+	 * @return the changed score of the move
+	 */
+	public abstract int applyAbility(int score, AbstractTile placed);
 }
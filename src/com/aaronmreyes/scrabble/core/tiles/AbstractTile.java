@@ -72,12 +72,13 @@ public abstract class AbstractTile {
 	}
 
 	/**
-	 * USED BY GUI: Getter method for the {@link Location} of a tile
+	 * USED BY GUI: Getter method for the {@link Location} of a tile.
+	 * Locations are immutable so the shared instance is returned.
 	 * 
 	 * @return the location
 	 */
 	public Location getLocation() {
-		return (Location) loc.clone();
+		return loc;
 	}
 	
 	/**
@@ -134,4 +135,33 @@ public abstract class AbstractTile {
 	 * @return the changed score of the move, if applicable
 	 */
 	public abstract int doAbility(List<Player> players, int score);
+
+	/**
+	 * Method to work out, without changing any {@link Player}, the points
+	 * {@link #doAbility(List, int)} would give the player who made the move
+	 * when this tile is hit as a trap. Tiles without a trap ability give
+	 * nothing.
+	 * 
+	 * @param score
+	 *            - the final score of the move
+	 * @param move
+	 *            - the tiles placed by the move
+	 * @return the points for the player who made the move
+	 */
+	public int getMoverPoints(int score, List<AbstractTile> move) {
+		return 0;
+	}
+
+	/**
+	 * Method to work out, without changing any {@link Player}, the points
+	 * {@link #doAbility(List, int)} would give each of the other players when
+	 * this tile is hit as a trap. Tiles without a trap ability give nothing.
+	 * 
+	 * @param score
+	 *            - the final score of the move
+	 * @return the points for every player who did not make the move
+	 */
+	public int getOpponentPoints(int score) {
+		return 0;
+	}
 }
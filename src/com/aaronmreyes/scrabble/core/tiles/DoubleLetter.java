@@ -52,7 +52,7 @@ public class DoubleLetter extends AbilityTile {
 					colCheck = tile.getLocation().getCol();
 					if ((row == rowCheck) && (col == colCheck)) {
 						/* add point value of this tile to the score */
-						return score + tile.getPoints();
+						return applyAbility(score, tile);
 					}
 				}
 			}
@@ -60,4 +60,10 @@ public class DoubleLetter extends AbilityTile {
 		/* error occurred, just return the same score */
 		return score;
 	}
+
+	@Override
+	public int applyAbility(int score, AbstractTile placed) {
+		/* add another point value of the placed tile to the total score */
+		return score + placed.getPoints();
+	}
 }
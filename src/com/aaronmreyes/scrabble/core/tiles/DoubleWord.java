@@ -38,6 +38,11 @@ public class DoubleWord extends AbilityTile {
 
 	@Override
 	public int doAbility(List<Player> players, int score) {
+		return applyAbility(score, null);
+	}
+
+	@Override
+	public int applyAbility(int score, AbstractTile placed) {
 		/* just return the score times 2 */
 		return 2 * score;
 	}
@@ -41,24 +41,23 @@ public class LetterBombTile extends AbstractTile {
 
 	@Override
 	public int doAbility(List<Player> players, int score) {
-		/* find current player */
+		/* find current player and change their score */
 		for (Player player : players) {
 			if (player.getTurn()) {
-				/* loop through tiles in move */
-				for (AbstractTile tile : player.getMoves()) {
-					if ((int) tile.getValue() == (int) this.getValue()) {
-						score = score / 2;
-					}
-				}
-			}
-		}
-		/* change their score */
-		for (Player player : players) {
-			if (player.getTurn()) {
-				player.changeScore(score);
+				player.changeScore(getMoverPoints(score, player.getMoves()));
 			}
 		}
 		return 0;
 	}
 
+	@Override
+	public int getMoverPoints(int score, List<AbstractTile> move) {
+		/* loop through tiles in move */
+		for (AbstractTile tile : move) {
+			if ((int) tile.getValue() == (int) this.getValue()) {
+				score = score / 2;
+			}
+		}
+		return score;
+	}
 }
@@ -45,9 +45,14 @@ public class NegativePointTile extends AbstractTile {
 		/* find the player's score and subtract it */
 		for (Player player : players) {
 			if (player.getTurn()) {
-				player.changeScore(-score);
+				player.changeScore(getMoverPoints(score, player.getMoves()));
 			}
 		}
 		return 0;
 	}
+
+	@Override
+	public int getMoverPoints(int score, List<AbstractTile> move) {
+		return -score;
+	}
 }
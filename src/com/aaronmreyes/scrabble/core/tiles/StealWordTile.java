@@ -44,10 +44,15 @@ public class StealWordTile extends AbstractTile {
 		/* if it is not a given player's turn, give them points */
 		for (Player player : players) {
 			if (!player.getTurn()) {
-				player.changeScore(score);
+				player.changeScore(getOpponentPoints(score));
 			}
 		}
 		return 0;
 	}
 
+	@Override
+	public int getOpponentPoints(int score) {
+		return score;
+	}
+
 }
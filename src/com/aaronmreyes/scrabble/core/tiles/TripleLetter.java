@@ -52,7 +52,7 @@ public class TripleLetter extends AbilityTile {
 					colCheck = tile.getLocation().getCol();
 					if ((row == rowCheck) && (col == colCheck)) {
 						/* add point value of this tile to the score */
-						return score + (2 * tile.getPoints());
+						return applyAbility(score, tile);
 					}
 				}
 			}
@@ -60,4 +60,10 @@ public class TripleLetter extends AbilityTile {
 		/* error occurred, just return the same score */
 		return score;
 	}
+
+	@Override
+	public int applyAbility(int score, AbstractTile placed) {
+		/* add twice the point value of the placed tile to the total score */
+		return score + (2 * placed.getPoints());
+	}
 }
@@ -12,14 +12,19 @@ package com.aaronmreyes.scrabble.gui;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.MouseAdapter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -30,11 +35,15 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextArea;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
 
 import com.aaronmreyes.scrabble.Main;
+import com.aaronmreyes.scrabble.core.BestMoveStrategy;
+import com.aaronmreyes.scrabble.core.EndgameSolver;
 import com.aaronmreyes.scrabble.core.Game;
+import com.aaronmreyes.scrabble.core.LeaveTable;
 import com.aaronmreyes.scrabble.core.Player;
 import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
 import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
@@ -55,6 +64,8 @@ public class GamePanel extends JPanel {
 	private static final int BUTTON_SPACING = 30;
 	private static final int TILE_BORDER = 10;
 	private static final int TILE_SPACING = 3;
+	/* the time a computer player gets to pick its move, in milliseconds */
+	private static final long COMPUTER_BUDGET = 2000;
 	static final int TILE_SIZE = 40;
 	/* A custom default color for wooden-looking tiles: R:222 G:184 B:135 */
 	static final Color BROWN = new Color(222, 184, 135);
@@ -79,9 +90,6 @@ public class GamePanel extends JPanel {
 	private JPanel board;
 	private JPanel options;
 	private JPanel stats;
-	/* simple flag to make sure the first move is done correctly */
-	private boolean firstMove = true;
-
 	/**
 	 * Constructor method used to initialize the game panel screen
 	 * 
@@ -96,10 +104,38 @@ public class GamePanel extends JPanel {
 	 */
 	public GamePanel(Game match, List<String> players, boolean extra,
 			String startingPlayer) {
+		this(match, players, extra, startingPlayer, new ArrayList<String>());
+	}
+
+	/**
+	 * Constructor method used to initialize the game panel screen with some
+	 * computer players
+	 * 
+	 * @param match
+	 *            - the {@link Game} created during {@link GameSetup}
+	 * @param players
+	 *            - the list of player names from {@link GameSetup}
+	 * @param extra
+	 *            - the flag received from {@link GameSetup}
+	 * @param startingPlayer
+	 *            - the selected starting player from {@link GameSetup}
+	 * @param computers
+	 *            - the names of the players the game plays for
+	 */
+	public GamePanel(Game match, List<String> players, boolean extra,
+			String startingPlayer, List<String> computers) {
 
 		/* store game info and set up game */
 		this.game = match;
 		game.setupGame(players, extra);
+		for (String name : computers) {
+			/* once the letterBank is empty the endgame is searched instead */
+			game.setComputerPlayer(name, new EndgameSolver(COMPUTER_BUDGET,
+					new BestMoveStrategy(COMPUTER_BUDGET, ForkJoinPool
+							.commonPool(), LeaveTable.getDefault())));
+		}
+		/* the panel plays the computer players' turns, off the event thread */
+		game.setAutoPlay(false);
 		game.setStartingPlayer(startingPlayer);
 
 		/* Initialize board button array */
@@ -108,6 +144,16 @@ public class GamePanel extends JPanel {
 
 		/* arrange the GUI */
 		arrangeGUI();
+
+		/* computer players going first play once the panel is on screen */
+		if (game.getCurrentPlayer().isComputer()) {
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					nextTurn((JFrame) SwingUtilities.getRoot(GamePanel.this));
+				}
+			});
+		}
 	}
 
 	/*
@@ -371,29 +417,9 @@ public class GamePanel extends JPanel {
 	 * Method called when a player wants to pass/end their turn abruptly
 	 */
 	private void passTurn(JFrame frame) {
-		/* undo any old move made */
-		while ((game.getPlayerHand().size() != Game.HAND_LIMIT)
-				&& (game.getNumTilesLeft() != 0)) {
-			game.removeTilefromBoard();
-		}
-		/* change turn */
-		game.changeTurn();
-		String name = game.getCurrentPlayer().getName();
-		Main.showDialog(frame, "Results", "It is now " + name + "'s turn");
-		/* change view for new player */
-		JPanel next = new JPanel(new BorderLayout());
-		/* assign references */
-		player = currentPlayerInfo();
-		board = createBoardPanel();
-		stats = gameInfo();
-		/* fill GUI */
-		next.add(player, BorderLayout.SOUTH);
-		next.add(board, BorderLayout.WEST);
-		next.add(stats, BorderLayout.EAST);
-		frame.setContentPane(next);
-		/* update GUI */
-		frame.getContentPane().revalidate();
-		frame.getContentPane().repaint();
+		/* undo any old move made and change turn */
+		game.passTurn();
+		nextTurn(frame);
 	}
 
 	/*
@@ -406,51 +432,14 @@ public class GamePanel extends JPanel {
 			int oldNumLeft = game.getNumTilesLeft();
 			/* get player's old score */
 			int oldScore = game.getCurrentPlayer().getScore();
-			/* make sure the first move uses center tile */
-			if (firstMove) {
-				int row, col;
-				int limit = squares.length / 2;
-				boolean flag = false;
-				for (AbstractTile tile : game.getCurrentMove()) {
-					row = tile.getLocation().getRow();
-					col = tile.getLocation().getCol();
-					if ((row == limit) && (col == limit)) {
-						flag = true;
-						break;
-					}
-				}
-				if (!flag) {
-					/* if we make it here, then invalid move */
-					String err = "First move must use center tile.";
-					Main.showDialog(frame, "ERROR", err);
-					game.undoMove();
-					/* change view for player */
-					JPanel next = new JPanel(new BorderLayout());
-					/* assign references */
-					player = currentPlayerInfo();
-					board = createBoardPanel();
-					stats = gameInfo();
-					/* fill GUI */
-					next.add(player, BorderLayout.SOUTH);
-					next.add(board, BorderLayout.WEST);
-					next.add(stats, BorderLayout.EAST);
-					frame.setContentPane(next);
-					/* update the view of the GUI */
-					frame.getContentPane().revalidate();
-					frame.getContentPane().repaint();
-					return; // exit
-				}
-			}
+			/* the first move must also use the center tile */
+			boolean first = (game.getSnapshot().getVersion() == 0);
 			game.playWord(); // PLAY THE WORD!
 			/* check if tiles were drawn */
 			if ((game.getNumTilesLeft() != oldNumLeft)
 					|| (game.getNumTilesLeft() == 0)) {
 				/* check for game over */
 				List<Player> winners = game.checkForWin();
-				/* clear first move flag */
-				if (firstMove) {
-					firstMove = false;
-				}
 				if (winners == null) {
 					/* inform player of score for move */
 					int score = game.getCurrentPlayer().getScore() - oldScore;
@@ -460,51 +449,15 @@ public class GamePanel extends JPanel {
 					Main.showDialog(frame, "Results", msg);
 					/* change turns */
 					game.changeTurn();
-					String name = game.getCurrentPlayer().getName();
-					Main.showDialog(frame, "Results", "It is now " + name
-							+ "'s turn");
-					/* change view for new player */
-					JPanel next = new JPanel(new BorderLayout());
-					/* assign references */
-					player = currentPlayerInfo();
-					board = createBoardPanel();
-					stats = gameInfo();
-					/* fill GUI */
-					next.add(player, BorderLayout.SOUTH);
-					next.add(board, BorderLayout.WEST);
-					next.add(stats, BorderLayout.EAST);
-					frame.setContentPane(next);
+					nextTurn(frame);
 				} else {
-					/* display winner(s) */
-					String msg;
-					if (winners.size() > 1) {
-						msg = "Congratulations! It was a tie game between"
-								+ " the following players: \n";
-						/* get player names */
-						for (Player player : winners) {
-							msg += "\n" + player.getName();
-						}
-					} else {
-						/* single winner */
-						String name = winners.get(0).getName();
-						msg = "Congratulations! The winner is " + name;
-					}
-					/* add final scores */
-					msg += "\n FINAL SCORES:";
-					for (Player player : game.getPlayers()) {
-						msg += "\n " + player.getName() + ": "
-								+ player.getScore();
-					}
-					/* display notification */
-					Main.showDialog(frame, "WINNER", msg);
-					/* Load the main screen again */
-					frame.setVisible(false); // you can't see me!
-					frame.dispose();
-					Main.main(null);
+					showWinners(frame, winners);
 				}
+				return;
 			} else {
 				/* display error message */
-				Main.showDialog(frame, "ERROR", "Invalid Word");
+				Main.showDialog(frame, "ERROR", first ? "Invalid Word. The"
+						+ " first move must use the center tile." : "Invalid Word");
 				/* change view for new player */
 				JPanel next = new JPanel(new BorderLayout());
 				/* assign references */
@@ -668,29 +621,13 @@ public class GamePanel extends JPanel {
 				game.exchangeTiles();
 				/* change turns */
 				game.changeTurn();
-				String name = game.getCurrentPlayer().getName();
-				Main.showDialog(frame, "Results", "It is now " + name
-						+ "'s turn");
 				/* make all board tiles active */
 				for (int i = 0; i < squares.length; i++) {
 					for (int j = 0; j < squares.length; j++) {
 						squares[i][j].setEnabled(true);
 					}
 				}
-				/* change view for new player */
-				JPanel next = new JPanel(new BorderLayout());
-				/* assign references */
-				player = currentPlayerInfo();
-				board = createBoardPanel();
-				stats = gameInfo();
-				/* fill GUI */
-				next.add(player, BorderLayout.SOUTH);
-				next.add(board, BorderLayout.WEST);
-				next.add(stats, BorderLayout.EAST);
-				frame.setContentPane(next);
-				/* update GUI */
-				frame.getContentPane().revalidate();
-				frame.getContentPane().repaint();
+				nextTurn(frame);
 			}
 		});
 
@@ -704,6 +641,121 @@ public class GamePanel extends JPanel {
 		frame.getContentPane().repaint();
 	}
 
+	/*
+	 * Method called after every turn: ends the game if the turn finished it,
+	 * plays the computer players in the background if they are next, and
+	 * otherwise hands the board to the next person
+	 */
+	private void nextTurn(final JFrame frame) {
+		if (game.isOver()) {
+			showWinners(frame, game.checkForWin());
+			return;
+		}
+		if (!game.getCurrentPlayer().isComputer()) {
+			String name = game.getCurrentPlayer().getName();
+			Main.showDialog(frame, "Results", "It is now " + name + "'s turn");
+			showTurn(frame);
+			return;
+		}
+		/* nothing may touch the game on the event thread while they search */
+		setBusy(frame, true);
+		new SwingWorker<Void, Void>() {
+			@Override
+			protected Void doInBackground() {
+				while (game.getCurrentPlayer().isComputer() && !game.isOver()) {
+					game.playComputerTurn();
+				}
+				return null;
+			}
+
+			@Override
+			protected void done() {
+				setBusy(frame, false);
+				try {
+					get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("a computer turn failed",
+							e.getCause());
+				}
+				nextTurn(frame);
+			}
+		}.execute();
+	}
+
+	/*
+	 * Method to rebuild the view for the current player
+	 */
+	private void showTurn(JFrame frame) {
+		JPanel next = new JPanel(new BorderLayout());
+		/* assign references */
+		player = currentPlayerInfo();
+		board = createBoardPanel();
+		stats = gameInfo();
+		/* fill GUI */
+		next.add(player, BorderLayout.SOUTH);
+		next.add(board, BorderLayout.WEST);
+		next.add(stats, BorderLayout.EAST);
+		frame.setContentPane(next);
+		/* update GUI */
+		frame.getContentPane().revalidate();
+		frame.getContentPane().repaint();
+	}
+
+	/*
+	 * Method to block the board and buttons while the computer players play,
+	 * with the glass pane swallowing clicks and keys
+	 */
+	private static void setBusy(JFrame frame, boolean busy) {
+		Component glass = frame.getGlassPane();
+		if (glass.getMouseListeners().length == 0) {
+			glass.addMouseListener(new MouseAdapter() {
+			});
+			glass.addKeyListener(new KeyAdapter() {
+			});
+			glass.setFocusTraversalKeysEnabled(false);
+		}
+		glass.setCursor(Cursor.getPredefinedCursor(busy ? Cursor.WAIT_CURSOR
+				: Cursor.DEFAULT_CURSOR));
+		glass.setVisible(busy);
+		if (busy) {
+			glass.requestFocusInWindow();
+		}
+	}
+
+	/*
+	 * Method to announce the winner(s) and final scores, then go back to the
+	 * main screen
+	 */
+	private void showWinners(JFrame frame, List<Player> winners) {
+		/* display winner(s) */
+		String msg;
+		if (winners.size() > 1) {
+			msg = "Congratulations! It was a tie game between"
+					+ " the following players: \n";
+			/* get player names */
+			for (Player player : winners) {
+				msg += "\n" + player.getName();
+			}
+		} else {
+			/* single winner */
+			String name = winners.get(0).getName();
+			msg = "Congratulations! The winner is " + name;
+		}
+		/* add final scores */
+		msg += "\n FINAL SCORES:";
+		for (Player player : game.getPlayers()) {
+			msg += "\n " + player.getName() + ": " + player.getScore();
+		}
+		/* display notification */
+		Main.showDialog(frame, "WINNER", msg);
+		/* Load the main screen again */
+		frame.setVisible(false); // you can't see me!
+		frame.dispose();
+		Main.main(null);
+	}
+
 	// *******************************************************************
 
 	/*
@@ -22,6 +22,7 @@ import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -46,6 +47,8 @@ public final class GameSetup extends JPanel {
 	private static final int COMPONENT_SPACING = 50;
 	/* list to gather player names */
 	private final List<String> names = new ArrayList<String>();
+	/* the names of the players the game plays for */
+	private final List<String> computers = new ArrayList<String>();
 	private int numPlayers;
 	private Game game;
 	private boolean extra;
@@ -145,13 +148,17 @@ public final class GameSetup extends JPanel {
 		/* create GUI elements */
 		final JLabel prompt = new JLabel("Enter a Player Name:");
 		final JTextField valueField = new JTextField();
+		final JCheckBox computer = new JCheckBox("Computer");
 		final JButton submit = new JButton("Submit");
 		valueField.setColumns(NUM_COLUMNS);
 		prompt.setForeground(Color.WHITE);
+		computer.setForeground(Color.WHITE);
+		computer.setBackground(Color.DARK_GRAY);
 
 		/* add them to panel */
 		data.add(prompt);
 		data.add(valueField);
+		data.add(computer);
 		data.add(submit);
 
 		/* make another panel to hold players names */
@@ -181,6 +188,10 @@ public final class GameSetup extends JPanel {
 				} else {
 					/* store name */
 					names.add(valueField.getText());
+					if (computer.isSelected()) {
+						computers.add(valueField.getText());
+						computer.setSelected(false);
+					}
 					/* lower our player name count */
 					numPlayers--;
 					/* check of we are done */
@@ -192,6 +203,9 @@ public final class GameSetup extends JPanel {
 						/* add the new name to the received panel */
 						String msg = "Player " + (numPlayers + 1) + ": "
 								+ valueField.getText();
+						if (computers.contains(valueField.getText())) {
+							msg += " (computer)";
+						}
 						JLabel newPlayer = new JLabel(msg);
 						newPlayer.setForeground(Color.WHITE);
 						newPlayer.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -236,7 +250,7 @@ public final class GameSetup extends JPanel {
 		JFrame match = new JFrame(Main.WINDOW_NAME);
 		/* set layout?? */
 		match.add(new GamePanel(this.game, this.names, this.extra, names
-				.get(goesFirst)));
+				.get(goesFirst), this.computers));
 		/* center frame on screen */
 		match.pack();
 		match.setLocationRelativeTo(null);
@@ -0,0 +1,113 @@
+/*
+ * CommandStats.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latency of the commands served, by command. Every command keeps a count,
+ * a total, a maximum and a histogram with one bucket per power of two
+ * microseconds, all updated without locks so the connection threads never
+ * wait on each other to record a time. Percentiles are read from the
+ * histogram, so they are the upper bound of their bucket.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class CommandStats {
+	/* bucket b holds times below 2^b microseconds */
+	private static final int BUCKETS = 40;
+	private final Map<String, Latency> commands = new ConcurrentHashMap<String, Latency>();
+
+	/**
+	 * Method to record one command served
+	 *
+	 * @param command
+	 *            - the name of the command
+	 * @param nanos
+	 *            - the time from reading the command to the reply
+	 */
+	void record(String command, long nanos) {
+		Latency latency = commands.get(command);
+		if (latency == null) {
+			commands.putIfAbsent(command, new Latency());
+			latency = commands.get(command);
+		}
+		latency.add(nanos);
+	}
+
+	/**
+	 * Method to describe the latencies on one line, commands in name order
+	 *
+	 * @return for each command the count, mean, 50th and 99th percentile and
+	 *         maximum, in microseconds
+	 */
+	String report() {
+		StringBuilder out = new StringBuilder();
+		for (String command : new TreeSet<String>(commands.keySet())) {
+			Latency latency = commands.get(command);
+			long count = latency.count.sum();
+			if (count == 0) {
+				continue;
+			}
+			if (out.length() > 0) {
+				out.append("; ");
+			}
+			out.append(String.format("%s n=%d mean=%dus p50=%dus p99=%dus"
+					+ " max=%dus", command, count, latency.total.sum() / count
+					/ 1000, latency.percentile(0.50), latency.percentile(0.99),
+					latency.max.get() / 1000));
+		}
+		return out.toString();
+	}
+
+	/*
+	 * the times of one command
+	 */
+	private static final class Latency {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final AtomicLong max = new AtomicLong();
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		void add(long nanos) {
+			count.increment();
+			total.add(nanos);
+			long old = max.get();
+			while ((nanos > old) && !max.compareAndSet(old, nanos)) {
+				old = max.get();
+			}
+			long micros = nanos / 1000;
+			int bucket = 64 - Long.numberOfLeadingZeros(micros);
+			buckets.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+		}
+
+		/*
+		 * the upper bound in microseconds of the bucket holding fraction of
+		 * the times
+		 */
+		long percentile(double fraction) {
+			long seen = 0;
+			long target = (long) Math.ceil(fraction * count.sum());
+			for (int b = 0; b < BUCKETS; b++) {
+				seen += buckets.get(b);
+				if (seen >= target) {
+					return 1L << b;
+				}
+			}
+			return max.get() / 1000;
+		}
+	}
+}
@@ -0,0 +1,331 @@
+/*
+ * GameCache.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.aaronmreyes.scrabble.core.Game;
+
+/**
+ * The games of the sessions that are in memory. Most hosted games sit idle
+ * waiting for a person, and every {@link Game} holds its own board, tiles and
+ * move generator, so only the games used last are kept: once there are more
+ * than the most allowed, or a game has not been used for the idle time, it
+ * is saved with {@link Game#save()} into a {@link SnapshotStore} and dropped.
+ * The next command of its session loads it back with {@link Game#load(byte[])}.
+ * <p>
+ * A session takes its game out with {@link #take(String)} for each command
+ * and puts it back with {@link #put(String, Game)} after, so a game in use is
+ * never in the cache and is never saved while it changes. The games in the
+ * cache are kept in the order they were put back, least recently used first.
+ * <p>
+ * The games to save are taken out of the cache under its lock and marked as
+ * being saved, then saved after the lock is let go, so saving many games does
+ * not hold up the other sessions; a session taking a game that is being saved
+ * waits for that save. The files are written by one background thread, in
+ * order, and a saved game stays readable from memory until its file is
+ * written. A save that cannot be written stays in memory.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class GameCache implements Closeable {
+	static final int DEFAULT_MAX_GAMES = 1000;
+	static final long DEFAULT_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+	private final int maxGames;
+	private final long idleNanos;
+	private final SnapshotStore store;
+	/* the games in memory, least recently used first */
+	private final LinkedHashMap<String, Entry> live = new LinkedHashMap<String, Entry>();
+	/* the ids of the games taken out of live and not saved yet, guarded by
+	 * the lock on live */
+	private final Set<String> spilling = new HashSet<String>();
+	/* saves not written to the store yet */
+	private final ConcurrentMap<String, byte[]> unwritten = new ConcurrentHashMap<String, byte[]>();
+	/* writes the saves and looks for idle games */
+	private final ScheduledExecutorService writer;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder failedWrites = new LongAdder();
+
+	/**
+	 * Constructor method for a cache spilling to a store
+	 *
+	 * @param store
+	 *            - where the games not in memory are kept
+	 * @param maxGames
+	 *            - the most games kept in memory
+	 * @param idleMillis
+	 *            - how long a game is kept in memory without being used
+	 */
+	GameCache(SnapshotStore store, int maxGames, long idleMillis) {
+		if (maxGames < 1) {
+			throw new IllegalArgumentException("cached games must be > 0");
+		}
+		if (idleMillis < 1) {
+			throw new IllegalArgumentException("idle time must be > 0");
+		}
+		this.store = store;
+		this.maxGames = maxGames;
+		this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+		this.writer = Executors
+				.newSingleThreadScheduledExecutor(new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "game-cache");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		/* a game is saved between one and one and a quarter idle times */
+		long period = Math.max(1, idleMillis / 4);
+		writer.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				expire();
+			}
+		}, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Method to take a session's game out of the cache for a command, loading
+	 * it if it was saved
+	 *
+	 * @param id
+	 *            - the session id
+	 *
+	 * @return the game
+	 */
+	Game take(String id) {
+		Entry entry;
+		boolean interrupted = false;
+		synchronized (live) {
+			entry = live.remove(id);
+			/* a save is quick, so wait for it whatever happens */
+			while ((entry == null) && spilling.contains(id)) {
+				try {
+					live.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		if (entry != null) {
+			hits.increment();
+			return entry.game;
+		}
+		byte[] data = unwritten.get(id);
+		if (data == null) {
+			try {
+				data = store.read(id);
+			} catch (IOException e) {
+				throw new IllegalStateException("cannot reload game " + id, e);
+			}
+		}
+		if (data == null) {
+			throw new IllegalStateException("game " + id + " is lost");
+		}
+		misses.increment();
+		return Game.load(data);
+	}
+
+	/**
+	 * Method to put a session's game back after a command, saving the least
+	 * recently used games if there are too many
+	 *
+	 * @param id
+	 *            - the session id
+	 * @param game
+	 *            - the game
+	 */
+	void put(String id, Game game) {
+		List<Map.Entry<String, Entry>> evicted = new ArrayList<Map.Entry<String, Entry>>();
+		synchronized (live) {
+			live.put(id, new Entry(game, System.nanoTime()));
+			Iterator<Map.Entry<String, Entry>> eldest = live.entrySet()
+					.iterator();
+			while (live.size() > maxGames) {
+				Map.Entry<String, Entry> next = eldest.next();
+				eldest.remove();
+				spilling.add(next.getKey());
+				evicted.add(next);
+				evictions.increment();
+			}
+		}
+		spill(evicted);
+	}
+
+	/**
+	 * Method to forget the game of a session that ended, in memory and on
+	 * disk. The file is deleted by the background thread, after any write of
+	 * it still queued.
+	 *
+	 * @param id
+	 *            - the session id
+	 */
+	void remove(final String id) {
+		synchronized (live) {
+			live.remove(id);
+			spilling.remove(id);
+			unwritten.remove(id);
+		}
+		try {
+			writer.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						store.delete(id);
+					} catch (IOException e) {
+						/* deleted with the others on close */
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			/* closing, the store is cleared */
+		}
+	}
+
+	/**
+	 * Method to describe the cache on one line
+	 *
+	 * @return the games in memory, hits, misses (games loaded), games saved
+	 *         for room and for being idle, and writes that failed
+	 */
+	String report() {
+		int games;
+		synchronized (live) {
+			games = live.size();
+		}
+		long hit = hits.sum();
+		long miss = misses.sum();
+		return String.format("cache games=%d hits=%d misses=%d hit=%.1f%%"
+				+ " evictions=%d expirations=%d unwritten=%d failed=%d", games,
+				hit, miss, (hit + miss == 0) ? 0.0 : 100.0 * hit / (hit + miss),
+				evictions.sum(), expirations.sum(), unwritten.size(),
+				failedWrites.sum());
+	}
+
+	/**
+	 * Method to stop saving games and delete the saves
+	 */
+	@Override
+	public void close() throws IOException {
+		writer.shutdownNow();
+		try {
+			writer.awaitTermination(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		store.clear();
+	}
+
+	/*
+	 * saves the games not used for the idle time, oldest first
+	 */
+	private void expire() {
+		long oldest = System.nanoTime() - idleNanos;
+		List<Map.Entry<String, Entry>> expired = new ArrayList<Map.Entry<String, Entry>>();
+		synchronized (live) {
+			Iterator<Map.Entry<String, Entry>> games = live.entrySet()
+					.iterator();
+			while (games.hasNext()) {
+				Map.Entry<String, Entry> next = games.next();
+				if (next.getValue().used - oldest > 0) {
+					/* the rest were used since */
+					break;
+				}
+				games.remove();
+				spilling.add(next.getKey());
+				expired.add(next);
+				expirations.increment();
+			}
+		}
+		spill(expired);
+	}
+
+	/*
+	 * saves the games just taken out of memory and marked as spilling, not
+	 * holding the lock on live
+	 */
+	private void spill(List<Map.Entry<String, Entry>> games) {
+		for (Map.Entry<String, Entry> next : games) {
+			String id = next.getKey();
+			byte[] data = null;
+			try {
+				data = next.getValue().game.save();
+			} finally {
+				synchronized (live) {
+					/* unless the session ended meanwhile */
+					if (spilling.remove(id) && (data != null)) {
+						unwritten.put(id, data);
+						queueWrite(id, data);
+					}
+					live.notifyAll();
+				}
+			}
+		}
+	}
+
+	/*
+	 * queues the write of a save to the store
+	 */
+	private void queueWrite(final String id, final byte[] data) {
+		try {
+			writer.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						store.write(id, data);
+						/* unless the game was saved again meanwhile */
+						unwritten.remove(id, data);
+					} catch (IOException e) {
+						failedWrites.increment();
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			/* closing, the save stays in memory */
+		}
+	}
+
+	/*
+	 * a game in memory and when it was last used
+	 */
+	private static final class Entry {
+		private final Game game;
+		private final long used;
+
+		Entry(Game game, long used) {
+			this.game = game;
+			this.used = used;
+		}
+	}
+}
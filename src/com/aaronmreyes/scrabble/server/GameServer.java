@@ -0,0 +1,464 @@
+/*
+ * GameServer.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.aaronmreyes.scrabble.core.BestMoveStrategy;
+import com.aaronmreyes.scrabble.core.EndgameSolver;
+import com.aaronmreyes.scrabble.core.Game;
+import com.aaronmreyes.scrabble.core.LeaveTable;
+import com.aaronmreyes.scrabble.core.Move;
+import com.aaronmreyes.scrabble.core.Strategy;
+
+/**
+ * A game server hosting many {@link Session}s over TCP, keyed by session id.
+ * The protocol is one command per line and one reply line per command,
+ * starting with OK or ERR:
+ *
+ * <pre>
+ * JOIN id name                        seat a player, the game starts on START
+ * START id [special]                  deal the tiles, the first to join plays
+ * HAND id name                        the letters and score of a player
+ * PLAY id name row col A|D letters    play letters from (row, col) across or
+ *                                     down, skipping tiles on the board
+ * EXCHANGE id name letters            swap letters with the letterBank
+ * PASS id name                        pass the turn
+ * LEAVE id name                       leave the game, whose turns are passed
+ *                                     (or played by the computer) from then
+ *                                     on
+ * STATS                               the game cache and the latency of
+ *                                     every command
+ * </pre>
+ *
+ * Each connection is read by its own thread, which waits for the reply of
+ * each command. The commands of one game run on a small shared pool through
+ * the session's mailbox, so a game is only ever touched by one thread at a
+ * time while different games run in parallel, and an idle game costs no
+ * thread. The latency of a command is measured from reading the line to
+ * writing the reply, waiting in the mailbox included.
+ * <p>
+ * A player's commands (HAND, PLAY, EXCHANGE, PASS and LEAVE) are only run
+ * on the connection that joined that player, so a client can neither see
+ * another player's letters nor play for them. A game is forgotten once it is
+ * over or all of its players have left; the players joined on a connection
+ * leave when it closes.
+ * <p>
+ * Only the games used last stay in memory (-cache, 1000 by default), and
+ * none idle longer than -idle seconds (300 by default); the others are saved
+ * to the -store directory (a temporary one by default) by the
+ * {@link GameCache} and loaded again by the next command of their session.
+ * <p>
+ * With -robot the turns of the players who left are played by the computer
+ * instead of passed, given MS milliseconds a move: the best move, and an
+ * {@link EndgameSolver} search once the letterBank is empty.
+ *
+ * <pre>
+ * java com.aaronmreyes.scrabble.server.GameServer [-port P] [-workers W]
+ *         [-cache GAMES] [-idle SECONDS] [-store DIR] [-robot MS]
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class GameServer implements Closeable {
+	public static final int DEFAULT_PORT = 4040;
+	private final ServerSocket socket;
+	/* runs the commands of the sessions */
+	private final ForkJoinPool workers;
+	/* one thread per open connection */
+	private final ExecutorService connections;
+	private final ConcurrentMap<String, Session> sessions = new ConcurrentHashMap<String, Session>();
+	/* the games of the sessions, in memory or saved */
+	private final GameCache games;
+	private final CommandStats stats = new CommandStats();
+	/* plays the turns of the players who left, null to pass them */
+	private final Strategy robot;
+
+	/**
+	 * Constructor method for a server listening on the loopback address,
+	 * keeping up to 1000 games in memory for up to 5 minutes idle and saving
+	 * the others to a temporary directory
+	 *
+	 * @param port
+	 *            - the port to listen on, 0 for any free port
+	 * @param numWorkers
+	 *            - the number of threads running game commands
+	 */
+	public GameServer(int port, int numWorkers) throws IOException {
+		this(port, numWorkers, null, GameCache.DEFAULT_MAX_GAMES,
+				GameCache.DEFAULT_IDLE_MILLIS);
+	}
+
+	/**
+	 * Constructor method for a server listening on the loopback address
+	 *
+	 * @param port
+	 *            - the port to listen on, 0 for any free port
+	 * @param numWorkers
+	 *            - the number of threads running game commands
+	 * @param store
+	 *            - the directory of the games not in memory, null for a
+	 *            temporary one
+	 * @param maxGames
+	 *            - the most games kept in memory
+	 * @param idleMillis
+	 *            - how long a game is kept in memory without being used
+	 */
+	public GameServer(int port, int numWorkers, Path store, int maxGames,
+			long idleMillis) throws IOException {
+		this(port, numWorkers, store, maxGames, idleMillis, 0);
+	}
+
+	/**
+	 * Constructor method for a server listening on the loopback address,
+	 * keeping up to maxGames games in memory and saving the others to a
+	 * store, whose computer plays the turns of the players who leave a game
+	 *
+	 * @param port
+	 *            - the port to listen on, 0 for any free port
+	 * @param numWorkers
+	 *            - the number of threads running game commands
+	 * @param store
+	 *            - the directory of the games not in memory, null for a
+	 *            temporary one
+	 * @param maxGames
+	 *            - the most games kept in memory
+	 * @param idleMillis
+	 *            - how long a game is kept in memory without being used
+	 * @param robotMillis
+	 *            - the time the computer gets for a move of a player who
+	 *            left, in milliseconds, 0 to pass their turns instead
+	 */
+	public GameServer(int port, int numWorkers, Path store, int maxGames,
+			long idleMillis, long robotMillis) throws IOException {
+		if (numWorkers < 1) {
+			throw new IllegalArgumentException("workers must be > 0");
+		}
+		if (robotMillis < 0) {
+			throw new IllegalArgumentException("robot budget must be >= 0");
+		}
+		this.games = new GameCache(new SnapshotStore(store), maxGames,
+				idleMillis);
+		this.socket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+		/* FIFO order so sessions take turns on the workers */
+		this.workers = new ForkJoinPool(numWorkers,
+				ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+		this.robot = (robotMillis == 0) ? null : new Robot(robotMillis,
+				workers);
+		this.connections = Executors.newCachedThreadPool(new ThreadFactory() {
+			private final AtomicInteger count = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "connection-"
+						+ count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Entry point of the server
+	 *
+	 * @param args
+	 *            - the command line options
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = DEFAULT_PORT;
+		int numWorkers = Runtime.getRuntime().availableProcessors();
+		Path store = null;
+		int maxGames = GameCache.DEFAULT_MAX_GAMES;
+		long idleMillis = GameCache.DEFAULT_IDLE_MILLIS;
+		long robotMillis = 0;
+		try {
+			if (args.length % 2 != 0) {
+				throw new IllegalArgumentException("missing value for "
+						+ args[args.length - 1]);
+			}
+			for (int i = 0; i < args.length; i += 2) {
+				if (args[i].equals("-port")) {
+					port = Integer.parseInt(args[i + 1]);
+				} else if (args[i].equals("-workers")) {
+					numWorkers = Integer.parseInt(args[i + 1]);
+				} else if (args[i].equals("-cache")) {
+					maxGames = Integer.parseInt(args[i + 1]);
+				} else if (args[i].equals("-idle")) {
+					idleMillis = TimeUnit.SECONDS.toMillis(Long
+							.parseLong(args[i + 1]));
+				} else if (args[i].equals("-store")) {
+					store = Paths.get(args[i + 1]);
+				} else if (args[i].equals("-robot")) {
+					robotMillis = Long.parseLong(args[i + 1]);
+				} else {
+					throw new IllegalArgumentException("unknown option "
+							+ args[i]);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			/* NumberFormatException included */
+			System.err.println(e.getMessage());
+			System.err.println("usage: GameServer [-port P] [-workers W]"
+					+ " [-cache GAMES] [-idle SECONDS] [-store DIR]"
+					+ " [-robot MS]");
+			System.exit(1);
+		}
+		GameServer server = new GameServer(port, numWorkers, store, maxGames,
+				idleMillis, robotMillis);
+		System.out.println("serving games on port " + server.getPort());
+		server.serve();
+	}
+
+	/**
+	 * Getter method for the port the server listens on
+	 *
+	 * @return the local port
+	 */
+	public int getPort() {
+		return socket.getLocalPort();
+	}
+
+	/**
+	 * Method to accept connections until the server is closed
+	 */
+	public void serve() throws IOException {
+		while (!socket.isClosed()) {
+			final Socket client;
+			try {
+				client = socket.accept();
+			} catch (SocketException e) {
+				/* closed while waiting */
+				return;
+			}
+			connections.execute(new Runnable() {
+				@Override
+				public void run() {
+					converse(client);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Method to stop accepting connections and running commands, and delete
+	 * the saved games
+	 */
+	@Override
+	public void close() throws IOException {
+		socket.close();
+		connections.shutdownNow();
+		workers.shutdown();
+		games.close();
+	}
+
+	/*
+	 * answers the commands of one connection until it closes
+	 */
+	private void converse(Socket client) {
+		/* "id name" of the players joined on this connection */
+		List<String> seats = new ArrayList<String>();
+		try {
+			BufferedReader in = new BufferedReader(new InputStreamReader(
+					client.getInputStream(), StandardCharsets.UTF_8));
+			Writer out = new BufferedWriter(new OutputStreamWriter(
+					client.getOutputStream(), StandardCharsets.UTF_8));
+			String line;
+			while ((line = in.readLine()) != null) {
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+				String reply = refuse(seats, line);
+				if (reply == null) {
+					reply = execute(line);
+				}
+				seat(seats, line, reply);
+				out.write(reply);
+				out.write('\n');
+				out.flush();
+			}
+		} catch (IOException e) {
+			/* the client went away */
+		} finally {
+			/* the players of a closed connection leave their games */
+			for (String seat : seats) {
+				execute("LEAVE " + seat);
+			}
+			try {
+				client.close();
+			} catch (IOException e) {
+				/* nothing left to do */
+			}
+		}
+	}
+
+	/*
+	 * the reply to a player's command sent on a connection that did not join
+	 * that player, or null if the command can run
+	 */
+	private static String refuse(List<String> seats, String line) {
+		String[] args = line.trim().split("\\s+");
+		String command = args[0].toUpperCase(Locale.ROOT);
+		boolean player = command.equals("HAND") || command.equals("PLAY")
+				|| command.equals("EXCHANGE") || command.equals("PASS")
+				|| command.equals("LEAVE");
+		if (!player || (args.length < 3)
+				|| seats.contains(args[1] + " " + args[2])) {
+			return null;
+		}
+		return "ERR player " + args[2] + " did not join game " + args[1]
+				+ " on this connection";
+	}
+
+	/*
+	 * keeps track of the players joined and left on a connection
+	 */
+	private static void seat(List<String> seats, String line, String reply) {
+		String[] args = line.trim().split("\\s+");
+		if ((args.length < 3) || !reply.startsWith("OK")) {
+			return;
+		}
+		String seat = args[1] + " " + args[2];
+		if (args[0].equalsIgnoreCase("JOIN")) {
+			seats.add(seat);
+		} else if (args[0].equalsIgnoreCase("LEAVE")) {
+			seats.remove(seat);
+		}
+	}
+
+	/**
+	 * Method to run one command line and time it
+	 *
+	 * @param line
+	 *            - the command
+	 *
+	 * @return the reply line
+	 */
+	String execute(String line) {
+		long start = System.nanoTime();
+		String[] args = line.trim().split("\\s+");
+		args[0] = args[0].toUpperCase(Locale.ROOT);
+		String command = args[0];
+		if (usage(command) == null) {
+			return "ERR unknown command " + command;
+		}
+		String reply;
+		if (command.equals("STATS")) {
+			reply = "OK sessions=" + sessions.size() + "; " + games.report()
+					+ "; " + stats.report();
+		} else if (args.length < 2) {
+			reply = "ERR usage: " + usage(command);
+		} else {
+			Session session = sessions.get(args[1]);
+			if ((session == null) && command.equals("JOIN")) {
+				Session created = new Session(args[1], workers, games,
+						sessions, robot);
+				session = sessions.putIfAbsent(args[1], created);
+				if (session == null) {
+					session = created;
+				}
+			}
+			if (session == null) {
+				reply = "ERR no game " + args[1];
+			} else {
+				try {
+					reply = session.submit(args).join();
+				} catch (CompletionException e) {
+					/* a bug in a command, the connection goes on */
+					Throwable cause = e.getCause();
+					reply = "ERR "
+							+ ((cause.getMessage() != null) ? cause.getMessage()
+									: cause.getClass().getSimpleName());
+				}
+			}
+		}
+		stats.record(command, System.nanoTime() - start);
+		return reply;
+	}
+
+	/**
+	 * Method to describe the arguments of a command
+	 *
+	 * @param command
+	 *            - the command, in upper case
+	 *
+	 * @return the usage, or null for an unknown command
+	 */
+	static String usage(String command) {
+		if (command.equals("JOIN")) {
+			return "JOIN id name";
+		} else if (command.equals("START")) {
+			return "START id [special]";
+		} else if (command.equals("HAND")) {
+			return "HAND id name";
+		} else if (command.equals("PLAY")) {
+			return "PLAY id name row col A|D letters";
+		} else if (command.equals("EXCHANGE")) {
+			return "EXCHANGE id name letters";
+		} else if (command.equals("PASS")) {
+			return "PASS id name";
+		} else if (command.equals("LEAVE")) {
+			return "LEAVE id name";
+		} else if (command.equals("STATS")) {
+			return "STATS";
+		}
+		return null;
+	}
+
+	/*
+	 * plays the turns of the players who left: the best move on the worker
+	 * pool, and a search of the endgame once the letterBank is empty. a
+	 * solver searches one game at a time, so each worker has its own.
+	 */
+	private static final class Robot implements Strategy {
+		private final ThreadLocal<EndgameSolver> solvers;
+
+		Robot(final long budgetMillis, ForkJoinPool workers) {
+			final Strategy best = new BestMoveStrategy(budgetMillis, workers,
+					LeaveTable.getDefault());
+			this.solvers = new ThreadLocal<EndgameSolver>() {
+				@Override
+				protected EndgameSolver initialValue() {
+					return new EndgameSolver(budgetMillis, best);
+				}
+			};
+		}
+
+		@Override
+		public Move chooseMove(Game game) {
+			return solvers.get().chooseMove(game);
+		}
+	}
+}
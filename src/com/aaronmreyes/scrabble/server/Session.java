@@ -0,0 +1,451 @@
+/*
+ * Session.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.aaronmreyes.scrabble.core.BoardSnapshot;
+import com.aaronmreyes.scrabble.core.Game;
+import com.aaronmreyes.scrabble.core.Location;
+import com.aaronmreyes.scrabble.core.Move;
+import com.aaronmreyes.scrabble.core.Player;
+import com.aaronmreyes.scrabble.core.Strategy;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * One hosted game and the players seated at it. A {@link Game} is not
+ * thread-safe, so a session is an actor: commands from any connection are put
+ * in its mailbox and run one at a time, in order, by whichever worker thread
+ * of the server's pool picks the session up. A session with an empty mailbox
+ * holds no thread at all, so a server can keep far more idle games than it
+ * has threads. The game itself is kept in the server's {@link GameCache}
+ * between commands, and may be on disk.
+ * <p>
+ * A session ends, and leaves the server with its game, once the game is over
+ * or every player has left.
+ * <p>
+ * Everything but the mailbox is touched only by the commands, never by the
+ * connection threads.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class Session implements Runnable {
+	/* commands run before the worker is handed back to other sessions */
+	private static final int BATCH = 16;
+	private final String id;
+	private final Executor workers;
+	/* where the game is kept between commands */
+	private final GameCache games;
+	/* the sessions of the server, which this one leaves when it ends */
+	private final ConcurrentMap<String, Session> sessions;
+	private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<Runnable>();
+	/* true while the session is queued on or running on a worker */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	/* the players in the order they joined, which is the turn order */
+	private final List<String> names = new ArrayList<String>();
+	/* the players who left once the game started, their turns are passed */
+	private final List<String> left = new ArrayList<String>();
+	/* plays the turns of the players who left instead, or null */
+	private final Strategy robot;
+	/* the game while a command runs, null between commands */
+	private Game game;
+	private boolean started;
+	/* turns passed in a row, the game is stuck once every player passed twice */
+	private int passes;
+	/* the end of the game, null while it goes on */
+	private String result;
+	/* true once the session has left the server */
+	private boolean closed;
+
+	/**
+	 * Constructor method for a session with no players yet
+	 *
+	 * @param id
+	 *            - the id the session is known by
+	 * @param workers
+	 *            - the pool running the commands of every session
+	 * @param games
+	 *            - the cache holding the games of every session
+	 * @param sessions
+	 *            - the sessions of the server, this one is removed from them
+	 *            when its game ends or its last player leaves
+	 * @param robot
+	 *            - the strategy playing the turns of the players who left, or
+	 *            null to pass them
+	 */
+	Session(String id, Executor workers, GameCache games,
+			ConcurrentMap<String, Session> sessions, Strategy robot) {
+		this.id = id;
+		this.workers = workers;
+		this.games = games;
+		this.sessions = sessions;
+		this.robot = robot;
+	}
+
+	/**
+	 * Method to queue a command on this session
+	 *
+	 * @param args
+	 *            - the command and its arguments, the session id second
+	 *
+	 * @return the reply, once the command has run
+	 */
+	CompletableFuture<String> submit(final String[] args) {
+		final CompletableFuture<String> reply = new CompletableFuture<String>();
+		mailbox.add(new Runnable() {
+			@Override
+			public void run() {
+				if (closed) {
+					/* queued before the session ended */
+					reply.complete("ERR no game " + id);
+					return;
+				}
+				String answer = null;
+				RuntimeException failure = null;
+				try {
+					if (started) {
+						game = games.take(id);
+					}
+					answer = handle(args);
+				} catch (IllegalArgumentException e) {
+					answer = "ERR " + e.getMessage();
+				} catch (IllegalStateException e) {
+					answer = "ERR " + e.getMessage();
+				} catch (RuntimeException e) {
+					failure = e;
+				}
+				try {
+					if ((result != null) || (left.size() == names.size())) {
+						close();
+					} else if (game != null) {
+						games.put(id, game);
+					}
+					game = null;
+				} finally {
+					/* replied once the session is gone or its game is back */
+					if (failure != null) {
+						reply.completeExceptionally(failure);
+					} else {
+						reply.complete(answer);
+					}
+				}
+			}
+		});
+		if (scheduled.compareAndSet(false, true)) {
+			workers.execute(this);
+		}
+		return reply;
+	}
+
+	/**
+	 * Runs a batch of queued commands on the calling worker, then queues the
+	 * session again if more came in meanwhile
+	 */
+	@Override
+	public void run() {
+		for (int i = 0; i < BATCH; i++) {
+			Runnable command = mailbox.poll();
+			if (command == null) {
+				break;
+			}
+			command.run();
+		}
+		scheduled.set(false);
+		/* a command added after the last poll but before the flag was reset */
+		if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+			workers.execute(this);
+		}
+	}
+
+	/*
+	 * runs one command on the game
+	 */
+	private String handle(String[] args) {
+		String command = args[0];
+		if (command.equals("JOIN")) {
+			return join(arg(args, 2));
+		}
+		if (command.equals("LEAVE")) {
+			return leave(arg(args, 2));
+		}
+		if (command.equals("START")) {
+			return start((args.length > 2) && args[2].equalsIgnoreCase("special"));
+		}
+		if (command.equals("HAND")) {
+			Player player = player(arg(args, 2));
+			return "OK " + letters(player.getHand()) + " " + player.getScore();
+		}
+		if (game == null) {
+			throw new IllegalStateException("game " + id + " has not started");
+		}
+		if (result != null) {
+			throw new IllegalStateException("game " + id + " is over");
+		}
+		Player player = player(arg(args, 2));
+		if (player != game.getCurrentPlayer()) {
+			throw new IllegalStateException("not " + player.getName()
+					+ "'s turn");
+		}
+		if (command.equals("PLAY")) {
+			int before = player.getScore();
+			if (!game.playMove(move(player, args))) {
+				return "ERR not a valid word";
+			}
+			passes = 0;
+			return "OK " + (player.getScore() - before) + " " + status();
+		}
+		if (command.equals("EXCHANGE")) {
+			game.exchangeTiles(tiles(player, arg(args, 3)));
+			passes = 0;
+			return "OK " + status();
+		}
+		if (command.equals("PASS")) {
+			game.passTurn();
+			passes++;
+			return "OK " + status();
+		}
+		throw new IllegalArgumentException("unknown command " + command);
+	}
+
+	/*
+	 * seats a player before the game starts
+	 */
+	private String join(String name) {
+		if (game != null) {
+			throw new IllegalStateException("game " + id + " has started");
+		}
+		if (names.contains(name)) {
+			throw new IllegalArgumentException(name + " has already joined");
+		}
+		if (names.size() == Game.MAX_PLAYERS) {
+			throw new IllegalStateException("game " + id + " is full");
+		}
+		names.add(name);
+		return "OK seat " + names.size();
+	}
+
+	/*
+	 * unseats a player before the game starts, or passes or plays their
+	 * turns from then on
+	 */
+	private String leave(String name) {
+		if (!names.contains(name) || left.contains(name)) {
+			throw new IllegalArgumentException("no player " + name
+					+ " in game " + id);
+		}
+		if (game == null) {
+			names.remove(name);
+			return "OK left";
+		}
+		left.add(name);
+		if (left.size() == names.size()) {
+			return "OK left";
+		}
+		return "OK left " + status();
+	}
+
+	/*
+	 * ends the session: the server forgets it and its game
+	 */
+	private void close() {
+		closed = true;
+		sessions.remove(id, this);
+		if (started) {
+			games.remove(id);
+		}
+	}
+
+	/*
+	 * deals the tiles, the first player to join goes first
+	 */
+	private String start(boolean special) {
+		if (game != null) {
+			throw new IllegalStateException("game " + id + " has started");
+		}
+		if (names.size() < Game.MIN_PLAYERS) {
+			throw new IllegalStateException("game " + id + " needs "
+					+ Game.MIN_PLAYERS + " players");
+		}
+		Game created = new Game();
+		created.setupGame(names, special);
+		created.setStartingPlayer(names.get(0));
+		game = created;
+		started = true;
+		return "OK " + status();
+	}
+
+	/*
+	 * whose turn it is, or who won once the game is over
+	 */
+	private String status() {
+		/* the players who left pass or are played for, so the others can
+		 * go on. the strategy is not saved with the game, so it is set on
+		 * each turn. */
+		while (!game.isOver() && (passes < 2 * names.size())
+				&& (left.size() < names.size())
+				&& left.contains(game.getCurrentPlayer().getName())) {
+			if (robot == null) {
+				game.passTurn();
+				passes++;
+			} else {
+				game.setComputerPlayer(game.getCurrentPlayer().getName(),
+						robot);
+				passes = game.playComputerTurn() ? 0 : passes + 1;
+			}
+		}
+		List<Player> winners = game.checkForWin();
+		if ((winners == null) && (passes < 2 * names.size())) {
+			return "turn " + game.getCurrentPlayer().getName();
+		}
+		/* a stuck game goes to the highest score, without final scoring */
+		int best = Integer.MIN_VALUE;
+		for (Player player : game.getPlayers()) {
+			best = Math.max(best, player.getScore());
+		}
+		StringBuilder out = new StringBuilder("over");
+		for (Player player : game.getPlayers()) {
+			if ((winners == null) ? (player.getScore() == best) : winners
+					.contains(player)) {
+				out.append(' ').append(player.getName());
+			}
+		}
+		result = out.toString();
+		return result;
+	}
+
+	/*
+	 * the player seated under name
+	 */
+	private Player player(String name) {
+		if (game == null) {
+			throw new IllegalStateException("game " + id + " has not started");
+		}
+		for (Player player : game.getPlayers()) {
+			if (player.getName().equals(name)) {
+				return player;
+			}
+		}
+		throw new IllegalArgumentException("no player " + name + " in game "
+				+ id);
+	}
+
+	/*
+	 * PLAY id name row col A|D letters: the letters go on the empty squares
+	 * from (row, col) on, across or down, skipping tiles already on the board
+	 */
+	private Move move(Player player, String[] args) {
+		int row;
+		int col;
+		try {
+			row = Integer.parseInt(arg(args, 3));
+			col = Integer.parseInt(arg(args, 4));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("bad square");
+		}
+		String direction = arg(args, 5);
+		if (!direction.equalsIgnoreCase("A") && !direction.equalsIgnoreCase("D")) {
+			throw new IllegalArgumentException("direction must be A or D");
+		}
+		List<AbstractTile> tiles = tiles(player, arg(args, 6));
+		return new Move(tiles, squares(game.getSnapshot(), row, col,
+				direction.equalsIgnoreCase("A"), tiles.size()));
+	}
+
+	/**
+	 * Method to find the squares the tiles of a PLAY go on: the first count
+	 * squares from (row, col) on that hold no letter, so tiles already played
+	 * are skipped and premium squares not played on yet are used
+	 *
+	 * @param board
+	 *            - the board before the move
+	 * @param row
+	 *            - the row of the first square
+	 * @param col
+	 *            - the column of the first square
+	 * @param across
+	 *            - true to go along the row, false down the column
+	 * @param count
+	 *            - the number of tiles to place
+	 *
+	 * @return the squares in order
+	 */
+	static List<Location> squares(BoardSnapshot board, int row, int col,
+			boolean across, int count) {
+		List<Location> locations = new ArrayList<Location>();
+		int size = board.getSize();
+		for (int i = 0; i < count; i++) {
+			while ((row >= 0) && (col >= 0) && (row < size) && (col < size)
+					&& (board.getLetter(row, col) != '\0')) {
+				row += across ? 0 : 1;
+				col += across ? 1 : 0;
+			}
+			if ((row < 0) || (col < 0) || (row >= size) || (col >= size)) {
+				throw new IllegalArgumentException("the word runs off the board");
+			}
+			locations.add(Location.of(row, col));
+			row += across ? 0 : 1;
+			col += across ? 1 : 0;
+		}
+		return locations;
+	}
+
+	/*
+	 * a different tile of the player's hand for every letter
+	 */
+	private static List<AbstractTile> tiles(Player player, String letters) {
+		List<AbstractTile> tiles = new ArrayList<AbstractTile>();
+		for (int i = 0; i < letters.length(); i++) {
+			char letter = Character.toUpperCase(letters.charAt(i));
+			AbstractTile found = null;
+			for (AbstractTile tile : player.getHand()) {
+				if ((Character.toUpperCase(tile.getValue()) == letter)
+						&& !tiles.contains(tile)) {
+					found = tile;
+					break;
+				}
+			}
+			if (found == null) {
+				throw new IllegalArgumentException(player.getName()
+						+ " has no " + letter + " to use");
+			}
+			tiles.add(found);
+		}
+		return tiles;
+	}
+
+	/*
+	 * the letters of some tiles as one word
+	 */
+	private static String letters(List<AbstractTile> tiles) {
+		StringBuilder out = new StringBuilder();
+		for (AbstractTile tile : tiles) {
+			out.append(Character.toUpperCase(tile.getValue()));
+		}
+		return out.toString();
+	}
+
+	/*
+	 * argument i of a command, which must be there
+	 */
+	private static String arg(String[] args, int i) {
+		if (i >= args.length) {
+			throw new IllegalArgumentException("usage: " + GameServer.usage(args[0]));
+		}
+		return args[i];
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * SnapshotStore.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A directory of saved games, one file per session named after the session
+ * id, as written by {@link com.aaronmreyes.scrabble.core.Game#save()}. A file
+ * is written beside its final name and moved over it, so a reader sees the
+ * old save or the new one, never part of one.
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class SnapshotStore {
+	private static final String SUFFIX = ".game";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+	private final Path directory;
+	/* true if the directory was made for this store and goes with it */
+	private final boolean temporary;
+
+	/**
+	 * Constructor method for a store in a directory
+	 *
+	 * @param directory
+	 *            - the directory of the files, null for a new temporary one
+	 */
+	SnapshotStore(Path directory) throws IOException {
+		this.temporary = (directory == null);
+		this.directory = temporary ? Files.createTempDirectory("scrabble-games")
+				: Files.createDirectories(directory);
+	}
+
+	/**
+	 * Method to save a game, replacing any earlier save of it
+	 *
+	 * @param id
+	 *            - the session id
+	 * @param data
+	 *            - the saved game
+	 */
+	void write(String id, byte[] data) throws IOException {
+		Path file = file(id);
+		Path part = file.resolveSibling(file.getFileName() + ".part");
+		Files.write(part, data);
+		Files.move(part, file, StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Method to read back a game
+	 *
+	 * @param id
+	 *            - the session id
+	 *
+	 * @return the saved game, or null if there is none
+	 */
+	byte[] read(String id) throws IOException {
+		try {
+			return Files.readAllBytes(file(id));
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Method to delete the save of a game, if there is one
+	 *
+	 * @param id
+	 *            - the session id
+	 */
+	void delete(String id) throws IOException {
+		Files.deleteIfExists(file(id));
+	}
+
+	/**
+	 * Method to delete every save, and the directory too if it was made for
+	 * this store. The sessions do not outlive the server, so neither do their
+	 * games.
+	 */
+	void clear() throws IOException {
+		DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*"
+				+ SUFFIX + "*");
+		try {
+			for (Path file : files) {
+				Files.deleteIfExists(file);
+			}
+		} finally {
+			files.close();
+		}
+		if (temporary) {
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/*
+	 * the file of a session, the id in hex so that any id is a safe name
+	 */
+	private Path file(String id) {
+		byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+		StringBuilder name = new StringBuilder(2 * bytes.length + SUFFIX.length());
+		for (byte b : bytes) {
+			name.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+		}
+		return directory.resolve(name.append(SUFFIX).toString());
+	}
+}
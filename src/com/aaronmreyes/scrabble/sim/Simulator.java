@@ -0,0 +1,479 @@
+/*
+ * Simulator.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.sim;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.aaronmreyes.scrabble.core.BestMoveStrategy;
+import com.aaronmreyes.scrabble.core.EndgameSolver;
+import com.aaronmreyes.scrabble.core.Game;
+import com.aaronmreyes.scrabble.core.GameJournal;
+import com.aaronmreyes.scrabble.core.MonteCarloStrategy;
+import com.aaronmreyes.scrabble.core.Move;
+import com.aaronmreyes.scrabble.core.Player;
+import com.aaronmreyes.scrabble.core.Strategy;
+
+/**
+ * Command line runner that plays many complete games between computer players
+ * in parallel and prints aggregate statistics. Every game gets its own seed
+ * derived from the base seed, so a run is reproducible whatever the number of
+ * threads. Used to compare rule variants (such as special tiles) and to catch
+ * performance regressions in the engine.
+ *
+ * <pre>
+ * java com.aaronmreyes.scrabble.sim.Simulator [-games N] [-players P]
+ *      [-threads T] [-seed S] [-special] [-bot MS] [-mc MS] [-endgame MS]
+ *      [-journal FILE]
+ * </pre>
+ *
+ * Every player plays the greedy move (most tiles, then the longest word)
+ * unless -bot is given, in which case P1 is a {@link BestMoveStrategy} with a
+ * budget of MS milliseconds per move and its search speed is reported, or -mc,
+ * in which case P1 is a {@link MonteCarloStrategy} with that budget, its
+ * rollouts dealt from the seed of the game, and its rollouts are reported. With
+ * -endgame P1 searches two player endgames with an {@link EndgameSolver}
+ * given MS milliseconds per move once the letterBank is empty, and how many
+ * were solved exactly is reported. With -journal every game is recorded in
+ * the {@link GameJournal} FILE, under its index.
+ *
+ * @author Aaron Reyes
+ *
+ */
+public final class Simulator {
+	/* games played by one task before it stops splitting */
+	private static final int BATCH = 8;
+	/* options */
+	private int games = 1000;
+	private int numPlayers = 2;
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private long seed = 1;
+	private boolean special;
+	/* the time budget of the best-move player P1, 0 for none */
+	private long bot;
+	/* the time budget of the simulating player P1, 0 for none */
+	private long mc;
+	/* the time budget of the endgame solver of P1, 0 for none */
+	private long endgame;
+	/* the journal the games are recorded in, null for none */
+	private String journalFile;
+	private GameJournal journal;
+
+	/**
+	 * Entry point of the simulator
+	 *
+	 * @param args
+	 *            - the command line options
+	 */
+	public static void main(String[] args) {
+		Simulator sim = new Simulator();
+		try {
+			sim.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("usage: Simulator [-games N] [-players P]"
+					+ " [-threads T] [-seed S] [-special] [-bot MS] [-mc MS]"
+					+ " [-endgame MS] [-journal FILE]");
+			System.exit(1);
+		}
+		try {
+			sim.run();
+		} catch (IOException e) {
+			System.err.println("cannot write the journal: " + e.getMessage());
+			System.exit(2);
+		}
+	}
+
+	/*
+	 * reads the command line options
+	 */
+	private void parse(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.equals("-special")) {
+				special = true;
+				continue;
+			}
+			if (i + 1 == args.length) {
+				throw new IllegalArgumentException("missing value for " + arg);
+			}
+			String value = args[++i];
+			try {
+				if (arg.equals("-games")) {
+					games = Integer.parseInt(value);
+				} else if (arg.equals("-players")) {
+					numPlayers = Integer.parseInt(value);
+				} else if (arg.equals("-threads")) {
+					threads = Integer.parseInt(value);
+				} else if (arg.equals("-seed")) {
+					seed = Long.parseLong(value);
+				} else if (arg.equals("-bot")) {
+					bot = Long.parseLong(value);
+				} else if (arg.equals("-mc")) {
+					mc = Long.parseLong(value);
+				} else if (arg.equals("-endgame")) {
+					endgame = Long.parseLong(value);
+				} else if (arg.equals("-journal")) {
+					journalFile = value;
+				} else {
+					throw new IllegalArgumentException("unknown option " + arg);
+				}
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("bad value for " + arg
+						+ ": " + value);
+			}
+		}
+		if ((numPlayers < Game.MIN_PLAYERS) || (numPlayers > Game.MAX_PLAYERS)) {
+			throw new IllegalArgumentException("players must be between "
+					+ Game.MIN_PLAYERS + " and " + Game.MAX_PLAYERS);
+		}
+		if ((games < 1) || (threads < 1)) {
+			throw new IllegalArgumentException("games and threads must be > 0");
+		}
+		if ((bot < 0) || (mc < 0) || (endgame < 0)) {
+			throw new IllegalArgumentException("bot, mc and endgame budgets"
+					+ " must be >= 0");
+		}
+		if ((bot > 0) && (mc > 0)) {
+			throw new IllegalArgumentException("P1 is either a -bot or an -mc"
+					+ " player");
+		}
+	}
+
+	/*
+	 * plays every game and prints the statistics
+	 */
+	private void run() throws IOException {
+		if (journalFile != null) {
+			journal = GameJournal.open(Paths.get(journalFile));
+		}
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		long start = System.nanoTime();
+		Stats stats = pool.invoke(new Batch(0, games));
+		if (journal != null) {
+			journal.close();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		pool.shutdown();
+		System.out.println(stats.report(numPlayers));
+		System.out.printf("threads %d, %.2f s, %.1f games/s%n", threads,
+				seconds, games / seconds);
+	}
+
+	/**
+	 * Method to play one complete game with computer players
+	 *
+	 * @param gameSeed
+	 *            - the seed of the game
+	 * @param numPlayers
+	 *            - the number of players
+	 * @param special
+	 *            - true to play with special tiles
+	 * @param bot
+	 *            - the time budget of the best-move player P1 in
+	 *            milliseconds, 0 for none
+	 * @param mc
+	 *            - the time budget of the simulating player P1 in
+	 *            milliseconds, 0 for none; every player is greedy when both
+	 *            this and bot are 0
+	 * @param endgame
+	 *            - the time budget of the endgame solver of P1 in
+	 *            milliseconds, 0 for none
+	 * @param journal
+	 *            - the journal to record the game in, or null
+	 * @param id
+	 *            - the id of the game in the journal
+	 *
+	 * @return the result of the game
+	 */
+	static Stats playGame(long gameSeed, int numPlayers, boolean special,
+			long bot, long mc, long endgame, GameJournal journal, long id) {
+		List<String> names = new ArrayList<String>();
+		for (int i = 0; i < numPlayers; i++) {
+			names.add("P" + (i + 1));
+		}
+		Game game = new Game();
+		if (journal != null) {
+			game.setJournal(journal, id);
+		}
+		game.setupGame(names, special, gameSeed);
+		for (String name : names) {
+			game.setComputerPlayer(name, GREEDY);
+		}
+		BestMoveStrategy best = null;
+		if (bot > 0) {
+			best = new BestMoveStrategy(bot);
+			game.setComputerPlayer(names.get(0), best);
+		}
+		MonteCarloStrategy simulating = null;
+		if (mc > 0) {
+			simulating = new MonteCarloStrategy(mc,
+					MonteCarloStrategy.DEFAULT_CANDIDATES,
+					MonteCarloStrategy.DEFAULT_PLIES, ForkJoinPool.commonPool(),
+					gameSeed);
+			game.setComputerPlayer(names.get(0), simulating);
+		}
+		EndgameSolver solver = null;
+		if (endgame > 0) {
+			Strategy other = (best != null) ? best
+					: (simulating != null) ? simulating : GREEDY;
+			solver = new EndgameSolver(endgame, other);
+			game.setComputerPlayer(names.get(0), solver);
+		}
+		game.setStartingPlayer(names.get(0));
+		long nodes = 0;
+		long searchNanos = 0;
+		int turns = 0;
+		int passes = 0;
+		boolean finished = false;
+		Stats result = new Stats();
+		/* the game is stuck once every player passed twice in a row */
+		while (passes < 2 * numPlayers) {
+			if (game.checkForWin() != null) {
+				finished = true;
+				break;
+			}
+			boolean first = game.getCurrentPlayer() == game.getPlayers().get(0);
+			EndgameSolver.Result before = (solver == null) ? null : solver
+					.getLastResult();
+			if (game.playComputerTurn()) {
+				passes = 0;
+			} else {
+				passes++;
+			}
+			if ((solver != null) && first
+					&& (solver.getLastResult() != before)) {
+				result.addEndgame(solver.getLastResult());
+			} else if ((best != null) && first) {
+				nodes += best.getNodes();
+				searchNanos += best.getElapsedNanos();
+			} else if ((simulating != null) && first) {
+				result.addRollouts(simulating.getRollouts(),
+						simulating.getElapsedNanos());
+			}
+			turns++;
+		}
+		result.add(game.getPlayers(), turns, finished);
+		result.addSearch(nodes, searchNanos);
+		return result;
+	}
+
+	/*
+	 * the greedy choice: the play using the most tiles, then the longest word
+	 */
+	private static final Strategy GREEDY = new Strategy() {
+		@Override
+		public Move chooseMove(Game game) {
+			Move best = null;
+			for (Move move : game.getPossibleMoves()) {
+				if ((best == null)
+						|| (move.getTiles().size() > best.getTiles().size())
+						|| ((move.getTiles().size() == best.getTiles().size()) && (move
+								.getWord().length() > best.getWord().length()))) {
+					best = move;
+				}
+			}
+			return best;
+		}
+	};
+
+	/*
+	 * a different, well mixed seed for every game
+	 */
+	private long gameSeed(int index) {
+		long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/*
+	 * plays the games [from, to) by splitting them over the pool
+	 */
+	private final class Batch extends RecursiveTask<Stats> {
+		private static final long serialVersionUID = 1L;
+		private final int from;
+		private final int to;
+
+		Batch(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Stats compute() {
+			if (to - from > BATCH) {
+				int mid = (from + to) >>> 1;
+				Batch left = new Batch(from, mid);
+				left.fork();
+				Stats stats = new Batch(mid, to).compute();
+				stats.merge(left.join());
+				return stats;
+			}
+			Stats stats = new Stats();
+			for (int i = from; i < to; i++) {
+				stats.merge(playGame(gameSeed(i), numPlayers, special, bot, mc,
+						endgame, journal, i));
+			}
+			return stats;
+		}
+	}
+
+	/**
+	 * Totals over a set of games
+	 *
+	 * @author Aaron Reyes
+	 *
+	 */
+	static final class Stats {
+		private int games;
+		private int stalled;
+		private long turns;
+		private long points;
+		private long winningPoints;
+		private long margins;
+		private int highScore;
+		private int ties;
+		/* the moves scored by the best-move player and the time it took */
+		private long nodes;
+		private long searchNanos;
+		/* the rollouts of the simulating player and the time they took */
+		private long rollouts;
+		private long rolloutNanos;
+		/* the endgame positions of P1 solved, how many exactly, and the time */
+		private int endgames;
+		private int exactEndgames;
+		private long endgameNanos;
+		/* wins by seat, ties count for every winner */
+		private final long[] wins = new long[Game.MAX_PLAYERS];
+
+		/*
+		 * records one finished or stalled game
+		 */
+		void add(List<Player> players, int numTurns, boolean finished) {
+			games++;
+			turns += numTurns;
+			if (!finished) {
+				stalled++;
+			}
+			int best = Integer.MIN_VALUE;
+			int second = Integer.MIN_VALUE;
+			for (Player player : players) {
+				int score = player.getScore();
+				points += score;
+				highScore = Math.max(highScore, score);
+				if (score > best) {
+					second = best;
+					best = score;
+				} else if (score > second) {
+					second = score;
+				}
+			}
+			winningPoints += best;
+			margins += best - second;
+			if (best == second) {
+				ties++;
+			}
+			for (int seat = 0; seat < players.size(); seat++) {
+				if (players.get(seat).getScore() == best) {
+					wins[seat]++;
+				}
+			}
+		}
+
+		/*
+		 * records the search of the best-move player in one game
+		 */
+		void addSearch(long numNodes, long nanos) {
+			nodes += numNodes;
+			searchNanos += nanos;
+		}
+
+		/*
+		 * records one move of the simulating player
+		 */
+		void addRollouts(long numRollouts, long nanos) {
+			rollouts += numRollouts;
+			rolloutNanos += nanos;
+		}
+
+		/*
+		 * records one endgame position solved for P1
+		 */
+		void addEndgame(EndgameSolver.Result solved) {
+			endgames++;
+			if (solved.isExact()) {
+				exactEndgames++;
+			}
+			endgameNanos += solved.getElapsedNanos();
+		}
+
+		/*
+		 * adds the totals of other to this
+		 */
+		void merge(Stats other) {
+			games += other.games;
+			stalled += other.stalled;
+			turns += other.turns;
+			points += other.points;
+			winningPoints += other.winningPoints;
+			margins += other.margins;
+			highScore = Math.max(highScore, other.highScore);
+			ties += other.ties;
+			nodes += other.nodes;
+			searchNanos += other.searchNanos;
+			rollouts += other.rollouts;
+			rolloutNanos += other.rolloutNanos;
+			endgames += other.endgames;
+			exactEndgames += other.exactEndgames;
+			endgameNanos += other.endgameNanos;
+			for (int seat = 0; seat < wins.length; seat++) {
+				wins[seat] += other.wins[seat];
+			}
+		}
+
+		/*
+		 * the statistics as readable text
+		 */
+		String report(int numPlayers) {
+			StringBuilder out = new StringBuilder();
+			out.append(String.format("games %d (%d stalled), %.1f turns/game%n",
+					games, stalled, (double) turns / games));
+			out.append(String.format(
+					"score %.1f/player, winner %.1f, margin %.1f, high %d,"
+							+ " ties %d%n", (double) points
+							/ (games * numPlayers), (double) winningPoints
+							/ games, (double) margins / games, highScore, ties));
+			out.append("wins by seat:");
+			for (int seat = 0; seat < numPlayers; seat++) {
+				out.append(String.format(" P%d %.1f%%", seat + 1, 100.0
+						* wins[seat] / games));
+			}
+			if (searchNanos > 0) {
+				out.append(String.format("%nbot: %d nodes, %.0f nodes/s", nodes,
+						nodes * 1e9 / searchNanos));
+			}
+			if (rolloutNanos > 0) {
+				out.append(String.format("%nmc: %d rollouts, %.0f rollouts/s",
+						rollouts, rollouts * 1e9 / rolloutNanos));
+			}
+			if (endgames > 0) {
+				out.append(String.format("%nendgame: %d positions, %d exact,"
+						+ " %.0f ms/position", endgames, exactEndgames,
+						endgameNanos / 1e6 / endgames));
+			}
+			return out.toString();
+		}
+	}
+}
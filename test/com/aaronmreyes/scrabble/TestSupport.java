@@ -0,0 +1,62 @@
+/*
+ * TestSupport.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: agent
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble;
+
+/**
+ * What the tests share: the seeds of the games they play, the check that
+ * fails a test and the line a test prints once every check has passed. The
+ * tests are plain classes with a main method, so a failed check throws an
+ * {@link AssertionError} that ends the run with its message.
+ *
+ * @author agent
+ *
+ */
+public final class TestSupport {
+	/** the seed of the game a test plays when one game is enough */
+	public static final long SEED = 20131021L;
+	/* the seeds of the games a check is repeated on */
+	private static final long[] SEEDS = { SEED, 7, 42 };
+
+	private TestSupport() {
+	}
+
+	/**
+	 * Getter method for the seeds of the games a check is repeated on
+	 *
+	 * @return a new array of the seeds, {@link #SEED} first
+	 */
+	public static long[] seeds() {
+		return SEEDS.clone();
+	}
+
+	/**
+	 * Method to fail the running test unless a condition holds
+	 *
+	 * @param condition
+	 *            - what the test expects
+	 * @param message
+	 *            - what went wrong if it does not hold
+	 */
+	public static void check(boolean condition, String message) {
+		if (!condition) {
+			throw new AssertionError(message);
+		}
+	}
+
+	/**
+	 * Method to report that every check of a test passed
+	 *
+	 * @param test
+	 *            - the class of the test
+	 */
+	public static void passed(Class<?> test) {
+		System.out.println(test.getSimpleName() + " passed");
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * BoardSnapshotTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks that the {@link BoardSnapshot} published after each move is the
+ * board at that move and stays so: later moves and copies taken from it do
+ * not change it, and a thread reading snapshots while moves are placed only
+ * ever sees whole moves. Run like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.BoardSnapshotTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class BoardSnapshotTest {
+	private static final int TURNS = 20;
+	private static final int SIZE = Board.BOARD_SIZE;
+
+	private BoardSnapshotTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		for (long seed : TestSupport.seeds()) {
+			snapshotsStayPut(seed);
+			readersSeeWholeMoves(seed);
+		}
+		TestSupport.passed(BoardSnapshotTest.class);
+	}
+
+	/*
+	 * every snapshot of a seeded game holds the board of its move, when it is
+	 * taken and after the rest of the game is played
+	 */
+	private static void snapshotsStayPut(long seed) {
+		Random gen = new Random(seed);
+		Board board = new Board(true, gen);
+		Player player = new Player("a", gen);
+		List<BoardSnapshot> snapshots = new ArrayList<BoardSnapshot>();
+		List<AbstractTile[][]> copies = new ArrayList<AbstractTile[][]>();
+		for (int turn = 0; turn <= TURNS; turn++) {
+			BoardSnapshot snapshot = board.getSnapshot();
+			check(snapshot.getVersion() == snapshots.size(), "seed " + seed
+					+ ": snapshot " + snapshot.getVersion() + " after "
+					+ snapshots.size() + " moves");
+			check(snapshot.getSize() == SIZE, "the snapshot is not 15 by 15");
+			BitBoard bits = board.getBits();
+			for (int row = 0; row < SIZE; row++) {
+				for (int col = 0; col < SIZE; col++) {
+					AbstractTile tile = snapshot.getTile(row, col);
+					boolean letter = (tile != null)
+							&& !(tile instanceof AbilityTile);
+					check(letter == bits.isOccupied(row, col), "seed " + seed
+							+ " turn " + turn + ": (" + row + ", " + col
+							+ ") differs from the board");
+					check(!letter || (Character.toUpperCase(snapshot.getLetter(
+							row, col)) == Character.toUpperCase(bits.letter(row,
+							col))), "seed " + seed + " turn " + turn
+							+ ": the letter on (" + row + ", " + col
+							+ ") differs from the board");
+				}
+			}
+			/* a copy is the caller's own */
+			AbstractTile[][] copy = snapshot.toArray();
+			for (AbstractTile[] row : copy) {
+				Arrays.fill(row, null);
+			}
+			check(letters(snapshot) == bits.count(),
+					"clearing a copy changed the snapshot");
+			snapshots.add(snapshot);
+			copies.add(snapshot.toArray());
+			if ((turn == TURNS) || !play(board, player, gen)) {
+				break;
+			}
+		}
+		for (int i = 0; i < snapshots.size(); i++) {
+			for (int row = 0; row < SIZE; row++) {
+				for (int col = 0; col < SIZE; col++) {
+					AbstractTile tile = snapshots.get(i).getTile(row, col);
+					check(tile == copies.get(i)[row][col], "seed " + seed
+							+ ": snapshot " + i + " changed after later moves");
+				}
+			}
+		}
+	}
+
+	/*
+	 * a thread reading the latest snapshot while a seeded game is played
+	 * only ever finds the tiles of whole moves: every snapshot it sees holds
+	 * as many letters as the board had after that move
+	 */
+	private static void readersSeeWholeMoves(long seed)
+			throws InterruptedException {
+		Random gen = new Random(seed);
+		final Board board = new Board(false, gen);
+		Player player = new Player("a", gen);
+		final Map<Integer, Integer> seen = new ConcurrentHashMap<Integer, Integer>();
+		final AtomicBoolean done = new AtomicBoolean();
+		final AtomicBoolean torn = new AtomicBoolean();
+		Thread reader = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				while (!done.get()) {
+					BoardSnapshot snapshot = board.getSnapshot();
+					Integer count = letters(snapshot);
+					Integer before = seen.put(snapshot.getVersion(), count);
+					if ((before != null) && !before.equals(count)) {
+						torn.set(true);
+					}
+				}
+			}
+		});
+		reader.start();
+		List<Integer> counts = new ArrayList<Integer>();
+		counts.add(0);
+		for (int turn = 0; turn < TURNS; turn++) {
+			if (!play(board, player, gen)) {
+				break;
+			}
+			counts.add(board.getBits().count());
+		}
+		done.set(true);
+		reader.join();
+		check(!torn.get(), "seed " + seed
+				+ ": a snapshot changed while it was read");
+		for (Map.Entry<Integer, Integer> entry : seen.entrySet()) {
+			check(entry.getValue().equals(counts.get(entry.getKey())), "seed "
+					+ seed + ": snapshot " + entry.getKey() + " held "
+					+ entry.getValue() + " letters, not "
+					+ counts.get(entry.getKey()));
+		}
+	}
+
+	/*
+	 * the letters on the board of a snapshot
+	 */
+	private static int letters(BoardSnapshot snapshot) {
+		int count = 0;
+		for (int row = 0; row < SIZE; row++) {
+			for (int col = 0; col < SIZE; col++) {
+				AbstractTile tile = snapshot.getTile(row, col);
+				if ((tile != null) && !(tile instanceof AbilityTile)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/*
+	 * fills the hand and places a random move, false if there is none
+	 */
+	private static boolean play(Board board, Player player, Random gen) {
+		player.hand.addAll(board.getTiles(Game.HAND_LIMIT
+				- player.hand.size()));
+		List<Move> moves = board.generateMoves(player);
+		if (moves.isEmpty()) {
+			return false;
+		}
+		Move move = moves.get(gen.nextInt(moves.size()));
+		for (int i = 0; i < move.getTiles().size(); i++) {
+			AbstractTile tile = move.getTiles().get(i);
+			tile.setLocation(move.getLocations().get(i));
+			player.getMoves().add(tile);
+		}
+		player.hand.removeAll(move.getTiles());
+		board.placeTiles(player, Collections.singletonList(player));
+		player.getMoves().clear();
+		return true;
+	}
+}
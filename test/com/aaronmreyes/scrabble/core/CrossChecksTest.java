@@ -0,0 +1,152 @@
+/*
+ * CrossChecksTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks that the {@link CrossChecks} the board keeps up to date as moves are
+ * placed are the masks worked out from scratch: a letter is allowed on an
+ * empty square if the word it makes with the tiles next to it across the
+ * play is in the lexicon, or there is no such word. Run like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.CrossChecksTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class CrossChecksTest {
+	private static final int TURNS = 20;
+	private static final int SIZE = Board.BOARD_SIZE;
+
+	private CrossChecksTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		for (long seed : TestSupport.seeds()) {
+			updatesMatchScratch(seed);
+		}
+		copiesAreIndependent();
+		TestSupport.passed(CrossChecksTest.class);
+	}
+
+	/*
+	 * plays a seeded game alone, checking every square after every move
+	 */
+	private static void updatesMatchScratch(long seed) {
+		Random gen = new Random(seed);
+		Board board = new Board(false, gen);
+		Player player = new Player("a", gen);
+		List<Player> players = Collections.singletonList(player);
+		Dawg lexicon = LexiconRegistry.lexicon(LexiconRegistry.DEFAULT);
+		for (int turn = 0; turn < TURNS; turn++) {
+			BitBoard bits = board.getBits();
+			CrossChecks checks = board.getChecks();
+			for (int row = 0; row < SIZE; row++) {
+				for (int col = 0; col < SIZE; col++) {
+					int sq = BitBoard.square(row, col);
+					String where = "seed " + seed + " turn " + turn + " ("
+							+ row + ", " + col + ")";
+					check(checks.across(sq) == mask(bits, lexicon, row, col,
+							1, 0), where + ": the across mask is wrong");
+					check(checks.down(sq) == mask(bits, lexicon, row, col, 0,
+							1), where + ": the down mask is wrong");
+				}
+			}
+			player.hand.addAll(board.getTiles(Game.HAND_LIMIT
+					- player.hand.size()));
+			List<Move> moves = board.generateMoves(player);
+			if (moves.isEmpty()) {
+				return;
+			}
+			play(board, player, players, moves.get(gen.nextInt(moves.size())));
+		}
+	}
+
+	/*
+	 * copied checks are updated on their own, as the searches do
+	 */
+	private static void copiesAreIndependent() {
+		Dawg lexicon = LexiconRegistry.lexicon(LexiconRegistry.DEFAULT);
+		CrossChecks checks = new CrossChecks(lexicon);
+		CrossChecks copy = new CrossChecks(checks);
+		BitBoard bits = new BitBoard();
+		bits.place(BitBoard.square(7, 7), 'Q', 10, 'Q' - 'A');
+		copy.update(bits, 7, 7);
+		check(checks.across(BitBoard.square(8, 7)) == CrossChecks.ALL,
+				"updating the copy changed the original");
+		check(copy.across(BitBoard.square(8, 7)) == mask(bits, lexicon, 8,
+				7, 1, 0), "the copy was not updated");
+		check(copy.across(BitBoard.square(7, 7)) == 0,
+				"an occupied square allows a letter");
+	}
+
+	/*
+	 * the letters allowed on (row, col) by the tiles before and after it in
+	 * the direction (drow, dcol), tried one by one
+	 */
+	private static int mask(BitBoard bits, Dawg lexicon, int row, int col,
+			int drow, int dcol) {
+		if (bits.isOccupied(row, col)) {
+			return 0;
+		}
+		StringBuilder before = new StringBuilder();
+		for (int r = row - drow, c = col - dcol; BitBoard.onBoard(r, c)
+				&& bits.isOccupied(r, c); r -= drow, c -= dcol) {
+			before.insert(0, bits.letter(r, c));
+		}
+		StringBuilder after = new StringBuilder();
+		for (int r = row + drow, c = col + dcol; BitBoard.onBoard(r, c)
+				&& bits.isOccupied(r, c); r += drow, c += dcol) {
+			after.append(bits.letter(r, c));
+		}
+		if ((before.length() == 0) && (after.length() == 0)) {
+			return CrossChecks.ALL;
+		}
+		int mask = 0;
+		for (char letter = 'a'; letter <= 'z'; letter++) {
+			if (lexicon.contains(before.toString() + letter + after)) {
+				mask |= 1 << (letter - 'a');
+			}
+		}
+		return mask;
+	}
+
+	/*
+	 * places a move like the game does and takes its tiles from the hand
+	 */
+	private static void play(Board board, Player player,
+			List<Player> players, Move move) {
+		for (int i = 0; i < move.getTiles().size(); i++) {
+			AbstractTile tile = move.getTiles().get(i);
+			tile.setLocation(move.getLocations().get(i));
+			player.getMoves().add(tile);
+		}
+		player.hand.removeAll(move.getTiles());
+		board.placeTiles(player, players);
+		player.getMoves().clear();
+	}
+}
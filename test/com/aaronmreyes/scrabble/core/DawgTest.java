@@ -0,0 +1,248 @@
+/*
+ * DawgTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.aaronmreyes.scrabble.TestSupport;
+
+/**
+ * Checks the {@link Dawg} word graph against the word list it is built from.
+ * Run like the other tests, from the top of the project so the assets are
+ * found:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.DawgTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class DawgTest {
+	/* strings that are not words tried against the full lexicon */
+	private static final int NON_WORDS = 100000;
+
+	private DawgTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) throws IOException {
+		sharesEndings();
+		walksEdgesInOrder();
+		matchesTheWordList();
+		compiledGraphsLoad();
+		compiledAssetsAreCurrent();
+		TestSupport.passed(DawgTest.class);
+	}
+
+	/*
+	 * a small graph answers like the set of its words, and words ending the
+	 * same way end in the same node
+	 */
+	private static void sharesEndings() {
+		Dawg dawg = Dawg.load(new ByteArrayInputStream(
+				"dogs\nCATS\ncat\ndog\ncats\n\n".getBytes()));
+		check(dawg.size() == 4, "duplicates or blank lines were counted");
+		check(dawg.words().equals(Arrays.asList("cat", "cats", "dog", "dogs")),
+				"the words are " + dawg.words());
+		check(dawg.contains("cat") && dawg.contains("DOGS"),
+				"a word is missing");
+		check(!dawg.contains("ca") && !dawg.contains("catss")
+				&& !dawg.contains(""), "a string that is not a word is in");
+		check(dawg.hasPrefix("ca") && dawg.hasPrefix("cats")
+				&& dawg.hasPrefix(""), "a prefix is missing");
+		check(!dawg.hasPrefix("cb") && !dawg.hasPrefix("catsx"),
+				"a string that starts no word is a prefix");
+		check(dawg.nodeFor("cat") == dawg.nodeFor("dog"),
+				"the endings of cat and dog are not shared");
+		check(dawg.nodeFor("cats") == Dawg.NONE, "cats leads on");
+		check(dawg.nodeFor("cb") == -1, "cb leads somewhere");
+	}
+
+	/*
+	 * the edges of a node come in symbol order, the order the move
+	 * generator and the search rely on
+	 */
+	private static void walksEdgesInOrder() {
+		Dawg dawg = Dawg.build(Arrays.asList("ab", "ac", "b", "ca", "cb",
+				"z"));
+		StringBuilder root = new StringBuilder();
+		for (int e = dawg.firstEdge(Dawg.ROOT); e > 0; e = dawg.nextEdge(e)) {
+			root.append(dawg.letter(e));
+		}
+		check(root.toString().equals("abcz"), "the root edges are " + root);
+		int a = dawg.edge(Dawg.ROOT, 0);
+		check(!dawg.accepts(a), "a is a word");
+		check(dawg.accepts(dawg.edge(Dawg.ROOT, 'b' - 'a')), "b is no word");
+		check(dawg.edge(Dawg.ROOT, 'd' - 'a') < 0, "the root has a d edge");
+		check(dawg.symbolMask(dawg.target(a)) == 0x6,
+				"the letters after a are not b and c");
+	}
+
+	/*
+	 * the game's lexicon holds every word of its list and nothing else
+	 */
+	private static void matchesTheWordList() throws IOException {
+		Set<String> words = wordList();
+		Set<String> prefixes = new HashSet<String>();
+		for (String word : words) {
+			for (int i = 1; i <= word.length(); i++) {
+				prefixes.add(word.substring(0, i));
+			}
+		}
+		Dawg dawg = Dawg.build(words);
+		check(dawg.size() == words.size(), "the graph has " + dawg.size()
+				+ " words, the list " + words.size());
+		check(dawg.words().equals(new ArrayList<String>(words)),
+				"the words of the graph are not the list");
+		for (String word : words) {
+			check(dawg.contains(word), word + " is missing");
+		}
+		/* near misses: words with a letter changed, added or dropped */
+		Random gen = new Random(SEED);
+		String[] all = words.toArray(new String[words.size()]);
+		for (int i = 0; i < NON_WORDS; i++) {
+			StringBuilder s = new StringBuilder(all[gen.nextInt(all.length)]);
+			int at = gen.nextInt(s.length() + 1);
+			char letter = (char) ('a' + gen.nextInt(26));
+			switch (gen.nextInt(3)) {
+			case 0:
+				s.insert(at, letter);
+				break;
+			case 1:
+				if (at < s.length()) {
+					s.setCharAt(at, letter);
+				}
+				break;
+			default:
+				if (at < s.length()) {
+					s.deleteCharAt(at);
+				}
+			}
+			String str = s.toString();
+			check(dawg.contains(str) == words.contains(str), str
+					+ " is wrongly " + (words.contains(str) ? "out" : "in"));
+			check(dawg.hasPrefix(str) == (str.isEmpty() || prefixes
+					.contains(str)), str + " is wrongly a prefix or not");
+		}
+	}
+
+	/*
+	 * a compiled graph written out reads back and maps back the same, and a
+	 * damaged one is refused
+	 */
+	private static void compiledGraphsLoad() throws IOException {
+		Dawg dawg = Dawg.build(Arrays.asList("aa", "ab", "ba", "zzz"));
+		byte[] bytes = bytes(dawg);
+		Dawg read = Dawg.read(new ByteArrayInputStream(bytes));
+		check(read.words().equals(dawg.words()), "the read graph differs");
+		check(read.edgeCount() == dawg.edgeCount(), "edges were lost");
+		Path file = Files.createTempFile("dawg", ".dawg");
+		try {
+			Files.write(file, bytes);
+			Dawg mapped = Dawg.map(file);
+			check(mapped.words().equals(dawg.words()),
+					"the mapped graph differs");
+			check(mapped.contains("zzz") && !mapped.contains("zz"),
+					"the mapped graph answers wrongly");
+		} finally {
+			Files.delete(file);
+		}
+		byte[] badMagic = bytes.clone();
+		badMagic[0] ^= 1;
+		refused(badMagic, "a bad header");
+		refused(Arrays.copyOf(bytes, bytes.length - 4), "a truncated graph");
+	}
+
+	/*
+	 * the compiled lexicon files hold what the compiler makes of the word
+	 * list today, so the game and a fresh build agree
+	 */
+	private static void compiledAssetsAreCurrent() throws IOException {
+		Dawg built = Dawg.build(wordList());
+		Dawg compiled = Dawg.map(Paths.get("assets/dictionary.dawg"));
+		check(compiled.words().equals(built.words())
+				&& (compiled.edgeCount() == built.edgeCount()),
+				"assets/dictionary.dawg is stale, run LexiconCompiler");
+		Dawg strings = Gaddag.build(built).graph();
+		compiled = Dawg.map(Paths.get("assets/dictionary.gaddag"));
+		check(compiled.words().equals(strings.words())
+				&& (compiled.edgeCount() == strings.edgeCount()),
+				"assets/dictionary.gaddag is stale, run LexiconCompiler");
+		Dawg loaded = LexiconRegistry.lexicon(LexiconRegistry.DEFAULT);
+		check(loaded.size() == built.size(), "the game's lexicon has "
+				+ loaded.size() + " words, the list " + built.size());
+	}
+
+	/*
+	 * a damaged compiled graph is refused as it is read
+	 */
+	private static void refused(byte[] bytes, String what) throws IOException {
+		try {
+			Dawg.read(new ByteArrayInputStream(bytes));
+		} catch (IllegalStateException e) {
+			return;
+		}
+		throw new AssertionError(what + " was read");
+	}
+
+	/*
+	 * a graph in the compiled format
+	 */
+	private static byte[] bytes(Dawg dawg) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		dawg.write(out);
+		return out.toByteArray();
+	}
+
+	/*
+	 * the words of assets/dictionary.txt, lower case and sorted
+	 */
+	private static Set<String> wordList() throws IOException {
+		Set<String> words = new TreeSet<String>();
+		InputStream in = DawgTest.class
+				.getResourceAsStream("/assets/dictionary.txt");
+		check(in != null, "assets/dictionary.txt is not on the class path");
+		try {
+			Scanner lines = new Scanner(in);
+			while (lines.hasNextLine()) {
+				String word = lines.nextLine().trim().toLowerCase();
+				if (!word.isEmpty()) {
+					words.add(word);
+				}
+			}
+		} finally {
+			in.close();
+		}
+		return words;
+	}
+}
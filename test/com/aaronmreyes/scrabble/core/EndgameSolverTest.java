@@ -0,0 +1,165 @@
+/*
+ * EndgameSolverTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: agent
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks the value {@link EndgameSolver} finds against a plain full-width
+ * minimax, with no table, no pruning and every move generated again, on
+ * small empty letterBank endgames of seeded games. Run like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.EndgameSolverTest
+ * </pre>
+ *
+ * @author agent
+ *
+ */
+final class EndgameSolverTest {
+	/* long enough for every endgame here to be solved to the end */
+	private static final long BUDGET_MILLIS = 60000;
+	/* the tiles left in the hands of the player to move and the opponent;
+	 * the minimax takes up to a minute on three against three */
+	private static final int[][] HAND_SIZES = { { 2, 2 }, { 3, 2 },
+			{ 2, 3 } };
+
+	private EndgameSolverTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		matchesMinimax();
+		TestSupport.passed(EndgameSolverTest.class);
+	}
+
+	/*
+	 * each seeded game is played to an empty letterBank, both hands are cut
+	 * down to a few tiles and the solver must find the minimax value
+	 */
+	private static void matchesMinimax() {
+		MoveGenerator generator = new MoveGenerator(
+				LexiconRegistry.gaddag(LexiconRegistry.DEFAULT));
+		MoveScorer scorer = new MoveScorer();
+		for (long seed : TestSupport.seeds()) {
+			for (int[] sizes : HAND_SIZES) {
+				Game game = emptyBag(seed);
+				Player mover = game.getCurrentPlayer();
+				Player other = game.getPlayers().get(
+						1 - game.getPlayers().indexOf(mover));
+				cut(mover, sizes[0]);
+				cut(other, sizes[1]);
+				String name = "seed " + seed + ", " + mover.hand.size() + "v"
+						+ other.hand.size();
+				EndgameSolver.Result result = new EndgameSolver(BUDGET_MILLIS,
+						null).solve(game);
+				check(result.isExact(), name + " was not solved to the end");
+				int expected = minimax(game.getPosition(), mover.hand,
+						other.hand, false, generator, scorer);
+				check(result.getValue() == expected, name + " solved to "
+						+ result.getValue() + ", minimax gives " + expected);
+			}
+		}
+	}
+
+	/*
+	 * a two player game played with the best scoring moves until the
+	 * letterBank is empty
+	 */
+	private static Game emptyBag(long seed) {
+		Game game = new Game();
+		game.setupGame(Arrays.asList("a", "b"), false, seed);
+		game.setStartingPlayer("a");
+		while (game.getNumTilesLeft() != 0) {
+			Move best = null;
+			int bestPoints = -1;
+			for (Move move : game.getPossibleMoves()) {
+				int points = game.evaluateMove(move).getMoverPoints();
+				if (points > bestPoints) {
+					best = move;
+					bestPoints = points;
+				}
+			}
+			check((best != null) && game.playMove(best), "seed " + seed
+					+ " got stuck before the letterBank was empty");
+		}
+		return game;
+	}
+
+	/*
+	 * leaves at most size tiles in a hand
+	 */
+	private static void cut(Player player, int size) {
+		if (player.hand.size() > size) {
+			player.hand.subList(size, player.hand.size()).clear();
+		}
+	}
+
+	/*
+	 * the points the player holding mine makes less the points the opponent
+	 * makes from here to the end of the game, trying every move and a pass.
+	 * the game ends when a hand is played out, the opponent losing what they
+	 * hold, or on two passes in a row, each player losing what they hold.
+	 */
+	private static int minimax(Position position, List<AbstractTile> mine,
+			List<AbstractTile> theirs, boolean passed,
+			MoveGenerator generator, MoveScorer scorer) {
+		int best;
+		if (passed) {
+			best = points(theirs) - points(mine);
+		} else {
+			best = -minimax(position, theirs, mine, true, generator, scorer);
+		}
+		for (Move move : position.generate(generator, mine)) {
+			MoveScore score = position.score(move, scorer);
+			int gain = score.getMoverPoints() - score.getOpponentPoints();
+			List<AbstractTile> rest = new ArrayList<AbstractTile>(mine);
+			for (AbstractTile tile : move.getTiles()) {
+				rest.remove(tile);
+			}
+			int value;
+			if (rest.isEmpty()) {
+				value = gain + points(theirs);
+			} else {
+				Position child = position.copy();
+				child.play(move);
+				value = gain
+						- minimax(child, theirs, rest, false, generator,
+								scorer);
+			}
+			best = Math.max(best, value);
+		}
+		return best;
+	}
+
+	/*
+	 * the points of the tiles of a hand
+	 */
+	private static int points(List<AbstractTile> hand) {
+		int points = 0;
+		for (AbstractTile tile : hand) {
+			points += tile.getPoints();
+		}
+		return points;
+	}
+}
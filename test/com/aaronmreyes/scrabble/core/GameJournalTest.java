@@ -0,0 +1,209 @@
+/*
+ * GameJournalTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks that a {@link GameJournal} holds enough to rebuild its games: seeded
+ * games with special tiles are journaled side by side, and
+ * {@link JournalReplayer} must give back the board, hands, scores and bag of
+ * each game after every one of its turns. Run like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.GameJournalTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class GameJournalTest {
+	/* turns played by each game at most */
+	private static final int TURNS = 60;
+
+	private GameJournalTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) throws IOException {
+		replaysEveryTurn();
+		closedJournalAbortsTheGame();
+		TestSupport.passed(GameJournalTest.class);
+	}
+
+	/*
+	 * the games, played a turn each in turn into one journal, replay to what
+	 * they were after every turn
+	 */
+	private static void replaysEveryTurn() throws IOException {
+		Path file = Files.createTempFile("games", ".jrnl");
+		try {
+			List<Game> games = new ArrayList<Game>();
+			List<List<String>> states = new ArrayList<List<String>>();
+			long[] seeds = TestSupport.seeds();
+			GameJournal journal = GameJournal.open(file);
+			try {
+				for (int id = 0; id < seeds.length; id++) {
+					Game game = new Game();
+					game.setJournal(journal, id);
+					game.setupGame(Arrays.asList("a", "b"), true, seeds[id]);
+					game.setStartingPlayer("a");
+					games.add(game);
+					states.add(new ArrayList<String>());
+					states.get(id).add(state(game));
+				}
+				Random gen = new Random(SEED);
+				for (int turn = 0; turn < TURNS; turn++) {
+					for (int id = 0; id < games.size(); id++) {
+						Game game = games.get(id);
+						if (!game.isOver()) {
+							takeTurn(game, gen);
+							states.get(id).add(state(game));
+						}
+					}
+				}
+			} finally {
+				journal.close();
+			}
+			JournalReplayer replayer = JournalReplayer.open(file);
+			for (int id = 0; id < games.size(); id++) {
+				List<String> expected = states.get(id);
+				for (int turn = 0; turn < expected.size(); turn++) {
+					ReplayedGame replayed = replayer.replay(id, turn);
+					check(replayed.getTurn() == turn, "game " + id
+							+ " replayed to turn " + replayed.getTurn()
+							+ ", not " + turn);
+					check(state(replayed).equals(expected.get(turn)), "game "
+							+ id + " turn " + turn + " replayed as\n"
+							+ state(replayed) + "not\n" + expected.get(turn));
+				}
+			}
+			Map<Long, ReplayedGame> all = replayer.replayAll();
+			check(all.size() == games.size(), "replayed " + all.size()
+					+ " games of " + games.size());
+			for (int id = 0; id < games.size(); id++) {
+				List<String> expected = states.get(id);
+				check(state(all.get((long) id)).equals(
+						expected.get(expected.size() - 1)), "game " + id
+						+ " does not end as it was played");
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/*
+	 * a game that cannot write to its journal stops rather than going on
+	 * unrecorded
+	 */
+	private static void closedJournalAbortsTheGame() throws IOException {
+		Path file = Files.createTempFile("games", ".jrnl");
+		try {
+			GameJournal journal = GameJournal.open(file);
+			Game game = new Game();
+			game.setJournal(journal, 0);
+			game.setupGame(Arrays.asList("a", "b"), false, SEED);
+			game.setStartingPlayer("a");
+			journal.close();
+			try {
+				game.passTurn();
+			} catch (IllegalStateException e) {
+				return;
+			}
+			throw new AssertionError("a turn was played without its journal");
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/*
+	 * mostly plays a random move, sometimes exchanges two tiles or passes
+	 */
+	private static void takeTurn(Game game, Random gen) {
+		int choice = gen.nextInt(10);
+		List<Move> moves = game.getPossibleMoves();
+		if ((choice == 0) && (game.getNumTilesLeft() >= Game.HAND_LIMIT)) {
+			game.exchangeTiles(new ArrayList<AbstractTile>(game
+					.getPlayerHand().subList(0, 2)));
+		} else if ((choice == 1) || moves.isEmpty()) {
+			game.passTurn();
+		} else {
+			check(game.playMove(moves.get(gen.nextInt(moves.size()))),
+					"a generated move was refused");
+		}
+	}
+
+	/*
+	 * the board, scores, hands and bag of a game
+	 */
+	private static String state(Game game) {
+		StringBuilder state = new StringBuilder();
+		BoardSnapshot board = game.getSnapshot();
+		for (int row = 0; row < Board.BOARD_SIZE; row++) {
+			for (int col = 0; col < Board.BOARD_SIZE; col++) {
+				char letter = board.getLetter(row, col);
+				boolean empty = (letter == '\0')
+						|| (board.getTile(row, col) instanceof AbilityTile);
+				state.append(empty ? '.' : Character.toUpperCase(letter));
+			}
+			state.append('\n');
+		}
+		for (Player player : game.getPlayers()) {
+			char[] hand = new char[player.getHand().size()];
+			for (int i = 0; i < hand.length; i++) {
+				hand[i] = Character.toUpperCase(player.getHand().get(i)
+						.getValue());
+			}
+			Arrays.sort(hand);
+			state.append(player.getScore()).append(' ').append(hand)
+					.append('\n');
+		}
+		return state.append(game.getNumTilesLeft()).append('\n').toString();
+	}
+
+	/*
+	 * the same, of a replayed game
+	 */
+	private static String state(ReplayedGame game) {
+		StringBuilder state = new StringBuilder();
+		for (int row = 0; row < Board.BOARD_SIZE; row++) {
+			for (int col = 0; col < Board.BOARD_SIZE; col++) {
+				char letter = game.getLetter(row, col);
+				state.append((letter == '\0') ? '.' : letter);
+			}
+			state.append('\n');
+		}
+		for (int seat = 0; seat < game.getNames().size(); seat++) {
+			state.append(game.getScore(seat)).append(' ')
+					.append(game.getHand(seat)).append('\n');
+		}
+		return state.append(game.getTilesLeft()).append('\n').toString();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * GameTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: agent
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.TestSupport;
+
+/**
+ * Checks the rules {@link Game#playMove(Move)} enforces for every caller
+ * (the GUI, the server and the simulator). Run like the server tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.GameTest
+ * </pre>
+ *
+ * @author agent
+ *
+ */
+final class GameTest {
+
+	private GameTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		firstMoveUsesTheCenter();
+		tileKindsHashApart();
+		TestSupport.passed(GameTest.class);
+	}
+
+	/*
+	 * the opening word is refused away from the center and played on it
+	 */
+	private static void firstMoveUsesTheCenter() {
+		Game game = new Game();
+		game.setupGame(Arrays.asList("a", "b"), false, SEED);
+		game.setStartingPlayer("a");
+		Move opening = game.getPossibleMoves().get(0);
+		/* the same word moved to the top left corner */
+		int top = Integer.MAX_VALUE;
+		int left = Integer.MAX_VALUE;
+		for (Location loc : opening.getLocations()) {
+			top = Math.min(top, loc.getRow());
+			left = Math.min(left, loc.getCol());
+		}
+		List<Location> corner = new ArrayList<Location>();
+		for (Location loc : opening.getLocations()) {
+			corner.add(Location.of(loc.getRow() - top, loc.getCol() - left));
+		}
+		Player first = game.getCurrentPlayer();
+		String hand = letters(first);
+		check(!game.playMove(new Move(opening.getTiles(), corner)),
+				"an opening away from the center was played");
+		check(game.getCurrentPlayer() == first, "the turn passed");
+		check(game.getSnapshot().getVersion() == 0, "the board changed");
+		check(letters(first).equals(hand), "the hand changed");
+		check(game.playMove(opening), "the opening on the center was refused");
+	}
+
+	/*
+	 * a special tile and a normal tile of the same letter hash differently,
+	 * on the board and in a hand
+	 */
+	private static void tileKindsHashApart() {
+		int normal = (TileCodes.NORMAL << 5) | ('E' - 'A');
+		int special = (TileCodes.NEGATIVE_POINT << 5) | ('E' - 'A');
+		BitBoard plain = new BitBoard();
+		BitBoard trapped = new BitBoard();
+		plain.place(BitBoard.square(7, 7), 'E', 1, normal);
+		trapped.place(BitBoard.square(7, 7), 'E', 1, special);
+		check(plain.hash() != trapped.hash(), "the board hashes are equal");
+		trapped.place(BitBoard.square(7, 7), 'E', 1, normal);
+		check(plain.hash() == trapped.hash(), "replacing the tile left a key");
+		Rack mine = new Rack();
+		Rack theirs = new Rack();
+		mine.add(TileCodes.newTile(normal, 1));
+		theirs.add(TileCodes.newTile(special, 1));
+		check(mine.hash() != theirs.hash(), "the hand hashes are equal");
+	}
+
+	/*
+	 * the letters in a hand, in order
+	 */
+	private static String letters(Player player) {
+		char[] letters = new char[player.getHand().size()];
+		for (int i = 0; i < letters.length; i++) {
+			letters[i] = player.getHand().get(i).getValue();
+		}
+		Arrays.sort(letters);
+		return new String(letters);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * LeaveTableTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: agent
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import com.aaronmreyes.scrabble.TestSupport;
+
+/**
+ * Checks that {@link LeaveTable#index(int[])} gives every multiset of up to
+ * {@value LeaveTable#MAX_LEAVE} letters its own place in the table, and that
+ * a written table reads back, from a stream or mapped from a file, with the
+ * same values. Run like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.LeaveTableTest
+ * </pre>
+ *
+ * @author agent
+ *
+ */
+final class LeaveTableTest {
+
+	private LeaveTableTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) throws IOException {
+		indexIsPerfect();
+		writtenTablesRead();
+		TestSupport.passed(LeaveTableTest.class);
+	}
+
+	/*
+	 * the leaves take the places 0 to SIZE - 1, each its own
+	 */
+	private static void indexIsPerfect() {
+		final BitSet used = new BitSet(LeaveTable.SIZE);
+		int leaves = each(new int[LeaveTable.LETTERS], 0, 0, new Leave() {
+			@Override
+			public void visit(int[] counts) {
+				int index = LeaveTable.index(counts);
+				check((index >= 0) && (index < LeaveTable.SIZE), "index "
+						+ index + " is out of the table");
+				check(!used.get(index), "index " + index + " is used twice");
+				used.set(index);
+			}
+		});
+		check(leaves == LeaveTable.SIZE, leaves + " leaves for a table of "
+				+ LeaveTable.SIZE);
+		check(used.cardinality() == LeaveTable.SIZE, "some places are unused");
+	}
+
+	/*
+	 * a table of distinct values, written and read back from a stream and
+	 * from a mapped file, gives every leave the value it was made with
+	 */
+	private static void writtenTablesRead() throws IOException {
+		float[] values = new float[LeaveTable.SIZE];
+		for (int i = 0; i < values.length; i++) {
+			/* exact in a float, and different for each place */
+			values[i] = i / 4f - 1000;
+		}
+		final LeaveTable made = LeaveTable.of(values);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		made.write(bytes);
+		final LeaveTable read = LeaveTable.read(new ByteArrayInputStream(bytes
+				.toByteArray()));
+		Path file = Files.createTempFile("leaves", ".bin");
+		try {
+			OutputStream out = Files.newOutputStream(file);
+			try {
+				made.write(out);
+			} finally {
+				out.close();
+			}
+			final LeaveTable mapped = LeaveTable.map(file);
+			each(new int[LeaveTable.LETTERS], 0, 0, new Leave() {
+				@Override
+				public void visit(int[] counts) {
+					float value = made.value(counts);
+					check(read.value(counts) == value, "a read table gives "
+							+ read.value(counts) + " for " + value);
+					check(mapped.value(counts) == value, "a mapped table gives "
+							+ mapped.value(counts) + " for " + value);
+				}
+			});
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/*
+	 * visits every multiset of up to MAX_LEAVE letters that adds to counts
+	 * letters from first on, given the size of counts so far, and returns how
+	 * many were visited
+	 */
+	private static int each(int[] counts, int first, int size, Leave leave) {
+		leave.visit(counts);
+		int visited = 1;
+		if (size == LeaveTable.MAX_LEAVE) {
+			return visited;
+		}
+		for (int letter = first; letter < LeaveTable.LETTERS; letter++) {
+			counts[letter]++;
+			visited += each(counts, letter, size + 1, leave);
+			counts[letter]--;
+		}
+		return visited;
+	}
+
+	/*
+	 * what to do with each leave
+	 */
+	private interface Leave {
+		void visit(int[] counts);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * MonteCarloStrategyTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks that {@link MonteCarloStrategy} sees what the score of a move alone
+ * does not. Run like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.MonteCarloStrategyTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class MonteCarloStrategyTest {
+	/* long enough for every candidate to be played out many times */
+	private static final long BUDGET_MILLIS = 2000;
+	private static final long[] ROLLOUT_SEEDS = { 1, 2, 3 };
+
+	private MonteCarloStrategyTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		keepsTheS();
+		TestSupport.passed(MonteCarloStrategyTest.class);
+	}
+
+	/*
+	 * opening with JORQURS, the best score is JURORS for 21, but JUROR for 20
+	 * keeps the S for the next turn and is played whatever the rollout seed
+	 */
+	private static void keepsTheS() {
+		Game game = new Game();
+		game.setupGame(Arrays.asList("a", "b"), false, SEED);
+		game.setStartingPlayer("a");
+		deal(game, "JORQURS");
+		Move top = null;
+		int topPoints = -1;
+		for (Move move : game.getPossibleMoves()) {
+			int points = game.evaluateMove(move).getMoverPoints();
+			if (points > topPoints) {
+				top = move;
+				topPoints = points;
+			}
+		}
+		check(leave(game, top).indexOf('S') < 0,
+				"the best scoring move keeps the S");
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			for (long seed : ROLLOUT_SEEDS) {
+				MonteCarloStrategy strategy = new MonteCarloStrategy(
+						BUDGET_MILLIS, MonteCarloStrategy.DEFAULT_CANDIDATES,
+						MonteCarloStrategy.DEFAULT_PLIES, pool, seed);
+				Move move = strategy.chooseMove(game);
+				check(strategy.getRollouts() > 0, "no rollout was played");
+				check(leave(game, move).indexOf('S') >= 0, "seed " + seed
+						+ " played " + move.getWord() + ", not keeping the S");
+				check(game.evaluateMove(move).getMoverPoints() >= topPoints - 1,
+						"seed " + seed + " gave away more than a point");
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/*
+	 * gives the current player a hand of the letters, made like the tiles of
+	 * the letterBank
+	 */
+	private static void deal(Game game, String letters) {
+		List<AbstractTile> bank = game.getLetterBankTiles();
+		Player player = game.getCurrentPlayer();
+		player.hand.clear();
+		for (char letter : letters.toCharArray()) {
+			for (AbstractTile tile : bank) {
+				if (tile.getValue() == letter) {
+					player.hand.add(TileCodes.newTile(TileCodes.code(tile),
+							tile.getPoints()));
+					break;
+				}
+			}
+		}
+		check(player.hand.size() == letters.length(), "no tile for a letter");
+	}
+
+	/*
+	 * the letters of the current hand a move does not play, in order
+	 */
+	private static String leave(Game game, Move move) {
+		List<AbstractTile> kept = new ArrayList<AbstractTile>(
+				game.getPlayerHand());
+		kept.removeAll(move.getTiles());
+		char[] letters = new char[kept.size()];
+		for (int i = 0; i < letters.length; i++) {
+			letters[i] = kept.get(i).getValue();
+		}
+		Arrays.sort(letters);
+		return new String(letters);
+	}
+}
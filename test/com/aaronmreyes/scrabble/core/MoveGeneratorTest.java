@@ -0,0 +1,208 @@
+/*
+ * MoveGeneratorTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks {@link MoveGenerator} against a brute force search on seeded boards:
+ * every way of laying tiles of the hand in a row or a column is staged and
+ * kept if {@link Board#isValidStep(Player)} and
+ * {@link Board#isValidWord(Player)} accept it, the checks the game makes of a
+ * move placed by hand. Both must find the same moves. Run like the other
+ * tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.MoveGeneratorTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class MoveGeneratorTest {
+	/* moves played on each board, every position is checked */
+	private static final int TURNS = 10;
+	private static final int SIZE = Board.BOARD_SIZE;
+
+	private MoveGeneratorTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		for (long seed : TestSupport.seeds()) {
+			findsWhatBruteForceFinds(seed);
+		}
+		TestSupport.passed(MoveGeneratorTest.class);
+	}
+
+	/*
+	 * plays a seeded game alone, comparing the moves of every position
+	 */
+	private static void findsWhatBruteForceFinds(long seed) {
+		Random gen = new Random(seed);
+		Board board = new Board(false, gen);
+		Player player = new Player("a", gen);
+		List<Player> players = Collections.singletonList(player);
+		for (int turn = 0; turn < TURNS; turn++) {
+			player.hand.addAll(board.getTiles(Game.HAND_LIMIT
+					- player.hand.size()));
+			List<Move> moves = board.generateMoves(player);
+			Set<String> generated = new HashSet<String>();
+			for (Move move : moves) {
+				generated.add(key(move.getTiles(), move.getLocations()));
+			}
+			check(generated.size() == moves.size(), "seed " + seed + " turn "
+					+ turn + ": a move was generated twice");
+			Set<String> expected = bruteForce(board, player);
+			check(generated.equals(expected), "seed " + seed + " turn " + turn
+					+ ": generated " + generated.size() + " moves, brute force "
+					+ expected.size());
+			if (moves.isEmpty()) {
+				return;
+			}
+			/* play a random move, so the boards differ */
+			Move move = moves.get(gen.nextInt(moves.size()));
+			stage(player, move.getTiles(), move.getLocations());
+			player.hand.removeAll(move.getTiles());
+			board.placeTiles(player, players);
+			player.getMoves().clear();
+		}
+	}
+
+	/*
+	 * the moves the game accepts, found by staging every sequence of tiles of
+	 * the hand from every empty square across and down
+	 */
+	private static Set<String> bruteForce(Board board, Player player) {
+		Dawg lexicon = LexiconRegistry.lexicon(LexiconRegistry.DEFAULT);
+		BitBoard bits = board.getBits();
+		List<AbstractTile> hand = new ArrayList<AbstractTile>(player.hand);
+		Set<String> found = new HashSet<String>();
+		for (int dir = 0; dir < 2; dir++) {
+			int drow = dir;
+			int dcol = 1 - dir;
+			for (int row = 0; row < SIZE; row++) {
+				for (int col = 0; col < SIZE; col++) {
+					if (bits.isOccupied(row, col)) {
+						continue;
+					}
+					/* the tiles already before the first one are in the word */
+					StringBuilder word = new StringBuilder();
+					int r = row - drow;
+					int c = col - dcol;
+					while (BitBoard.onBoard(r, c) && bits.isOccupied(r, c)) {
+						word.insert(0, bits.letter(r, c));
+						r -= drow;
+						c -= dcol;
+					}
+					lay(board, player, lexicon, hand, new boolean[hand.size()],
+							new ArrayList<AbstractTile>(),
+							new ArrayList<Location>(), word, row, col, drow,
+							dcol, found);
+				}
+			}
+		}
+		for (AbstractTile tile : hand) {
+			tile.setLocation(null);
+		}
+		return found;
+	}
+
+	/*
+	 * puts each unused tile of the hand on (row, col), keeps the move if the
+	 * game accepts it, and goes on to the next empty square while the word
+	 * along the line can still be one
+	 */
+	private static void lay(Board board, Player player, Dawg lexicon,
+			List<AbstractTile> hand, boolean[] used, List<AbstractTile> tiles,
+			List<Location> locations, StringBuilder word, int row, int col,
+			int drow, int dcol, Set<String> found) {
+		BitBoard bits = board.getBits();
+		Set<Character> tried = new HashSet<Character>();
+		for (int i = 0; i < hand.size(); i++) {
+			AbstractTile tile = hand.get(i);
+			if (used[i] || !tried.add(tile.getValue())) {
+				continue;
+			}
+			used[i] = true;
+			tiles.add(tile);
+			locations.add(Location.of(row, col));
+			int length = word.length();
+			word.append(tile.getValue());
+			/* the tiles on the board right after are in the word too */
+			int r = row + drow;
+			int c = col + dcol;
+			while (BitBoard.onBoard(r, c) && bits.isOccupied(r, c)) {
+				word.append(bits.letter(r, c));
+				r += drow;
+				c += dcol;
+			}
+			if (lexicon.hasPrefix(word)) {
+				stage(player, tiles, locations);
+				if (board.isValidStep(player) && board.isValidWord(player)) {
+					found.add(key(tiles, locations));
+				}
+				player.getMoves().clear();
+				if (BitBoard.onBoard(r, c)) {
+					lay(board, player, lexicon, hand, used, tiles, locations,
+							word, r, c, drow, dcol, found);
+				}
+			}
+			word.setLength(length);
+			tiles.remove(tiles.size() - 1);
+			locations.remove(locations.size() - 1);
+			used[i] = false;
+		}
+	}
+
+	/*
+	 * makes tiles the player's move so far, as placed by hand
+	 */
+	private static void stage(Player player, List<AbstractTile> tiles,
+			List<Location> locations) {
+		player.getMoves().clear();
+		for (int i = 0; i < tiles.size(); i++) {
+			AbstractTile tile = tiles.get(i);
+			tile.setLocation(locations.get(i));
+			player.getMoves().add(tile);
+		}
+	}
+
+	/*
+	 * the letters and squares of a move, in a fixed order
+	 */
+	private static String key(List<AbstractTile> tiles,
+			List<Location> locations) {
+		List<String> parts = new ArrayList<String>();
+		for (int i = 0; i < tiles.size(); i++) {
+			Location loc = locations.get(i);
+			parts.add(String.format("%02d%02d%c", loc.getRow(), loc.getCol(),
+					Character.toUpperCase(tiles.get(i).getValue())));
+		}
+		Collections.sort(parts);
+		return parts.toString();
+	}
+}
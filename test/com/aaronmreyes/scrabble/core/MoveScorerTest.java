@@ -0,0 +1,226 @@
+/*
+ * MoveScorerTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+import com.aaronmreyes.scrabble.core.tiles.NormalTile;
+
+/**
+ * Checks the one pass {@link MoveScorer} against the way moves used to be
+ * scored: the tiles are put on a copy of the board, every tile reached from
+ * them in the four directions is added up once, the ability tiles covered
+ * are applied in priority order and the tiles reached that are neither
+ * normal nor ability tiles are the traps. Every generated move of seeded
+ * games with special tiles is scored both ways, and the move played must
+ * change the scores the way {@link Board#evaluate(Move)} said it would. Run
+ * like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.MoveScorerTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class MoveScorerTest {
+	private static final int TURNS = 30;
+	private static final int SIZE = Board.BOARD_SIZE;
+
+	private MoveScorerTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		int traps = 0;
+		for (long seed : TestSupport.seeds()) {
+			traps += scoresLikeBefore(seed);
+		}
+		check(traps > 0, "no move hit a trap, the traps were not tested");
+		TestSupport.passed(MoveScorerTest.class);
+	}
+
+	/*
+	 * plays a seeded game of two players with special tiles, comparing the
+	 * scores of every move of every position, and returns how many of the
+	 * moves hit a trap
+	 */
+	private static int scoresLikeBefore(long seed) {
+		Random gen = new Random(seed);
+		Board board = new Board(true, gen);
+		Player mover = new Player("a", gen);
+		Player other = new Player("b", gen);
+		List<Player> players = Arrays.asList(mover, other);
+		mover.changeTurn();
+		int traps = 0;
+		for (int turn = 0; turn < TURNS; turn++) {
+			mover.hand.addAll(board.getTiles(Game.HAND_LIMIT
+					- mover.hand.size()));
+			List<Move> moves = board.generateMoves(mover);
+			if (moves.isEmpty()) {
+				break;
+			}
+			AbstractTile[][] tiles = board.getSnapshot().toArray();
+			long hash = board.getHash();
+			for (Move move : moves) {
+				String what = "seed " + seed + " turn " + turn + " "
+						+ move.getWord();
+				MoveScore score = board.evaluate(move);
+				Baseline expected = new Baseline(move, tiles);
+				check(score.getBase() == expected.base, what + ": base "
+						+ score.getBase() + ", was " + expected.base);
+				check(score.getScore() == expected.score, what + ": score "
+						+ score.getScore() + ", was " + expected.score);
+				check(sameTiles(score.getTraps(), expected.traps), what
+						+ ": the traps hit differ");
+				if (!expected.traps.isEmpty()) {
+					traps++;
+				}
+			}
+			check(board.getHash() == hash, "seed " + seed + " turn " + turn
+					+ ": scoring changed the board");
+			/* play a random move and see the scores change as evaluated */
+			Move move = moves.get(gen.nextInt(moves.size()));
+			MoveScore score = board.evaluate(move);
+			int moverBefore = mover.getScore();
+			int otherBefore = other.getScore();
+			for (int i = 0; i < move.getTiles().size(); i++) {
+				AbstractTile tile = move.getTiles().get(i);
+				tile.setLocation(move.getLocations().get(i));
+				mover.getMoves().add(tile);
+			}
+			mover.hand.removeAll(move.getTiles());
+			board.placeTiles(mover, players);
+			mover.getMoves().clear();
+			check(mover.getScore() - moverBefore == score.getMoverPoints(),
+					"seed " + seed + " turn " + turn + ": the mover got "
+							+ (mover.getScore() - moverBefore) + ", not "
+							+ score.getMoverPoints());
+			check(other.getScore() - otherBefore == score.getOpponentPoints(),
+					"seed " + seed + " turn " + turn + ": the opponent got "
+							+ (other.getScore() - otherBefore) + ", not "
+							+ score.getOpponentPoints());
+			mover.changeTurn();
+			other.changeTurn();
+			Player next = other;
+			other = mover;
+			mover = next;
+		}
+		return traps;
+	}
+
+	/*
+	 * true if two lists hold the same tiles, in any order
+	 */
+	private static boolean sameTiles(List<AbstractTile> a, List<AbstractTile> b) {
+		return (a.size() == b.size()) && a.containsAll(b) && b.containsAll(a);
+	}
+
+	/*
+	 * the score of a move worked out as before the one pass scorer
+	 */
+	private static final class Baseline {
+		private final int base;
+		private final int score;
+		private final List<AbstractTile> traps = new ArrayList<AbstractTile>();
+
+		Baseline(Move move, AbstractTile[][] board) {
+			AbstractTile[][] grid = new AbstractTile[SIZE][];
+			for (int row = 0; row < SIZE; row++) {
+				grid[row] = board[row].clone();
+			}
+			final List<AbilityTile> specials = new ArrayList<AbilityTile>();
+			List<AbstractTile> placed = new ArrayList<AbstractTile>();
+			for (int i = 0; i < move.getTiles().size(); i++) {
+				Location loc = move.getLocations().get(i);
+				AbstractTile selected = grid[loc.getRow()][loc.getCol()];
+				if (selected instanceof AbilityTile) {
+					specials.add((AbilityTile) selected);
+					placed.add(move.getTiles().get(i));
+				}
+				grid[loc.getRow()][loc.getCol()] = move.getTiles().get(i);
+			}
+			List<AbstractTile> found = nearby(move, grid);
+			int sum = 0;
+			for (AbstractTile tile : found) {
+				sum += tile.getPoints();
+				if (!move.getTiles().contains(tile)
+						&& !(tile instanceof AbilityTile)
+						&& !(tile instanceof NormalTile)) {
+					traps.add(tile);
+				}
+			}
+			base = sum;
+			/* a stable sort by priority, as Collections.sort was */
+			List<Integer> index = new ArrayList<Integer>();
+			for (int i = 0; i < specials.size(); i++) {
+				index.add(i);
+			}
+			Collections.sort(index, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer o1, Integer o2) {
+					return specials.get(o1).getPriority()
+							- specials.get(o2).getPriority();
+				}
+			});
+			for (int i : index) {
+				sum = specials.get(i).applyAbility(sum, placed.get(i));
+			}
+			score = sum;
+		}
+
+		/*
+		 * every tile of the move and every tile reached from one in the four
+		 * directions, each once
+		 */
+		private static List<AbstractTile> nearby(Move move,
+				AbstractTile[][] grid) {
+			int[][] steps = { { -1, 0 }, { 1, 0 }, { 0, 1 }, { 0, -1 } };
+			List<AbstractTile> found = new ArrayList<AbstractTile>();
+			for (int i = 0; i < move.getTiles().size(); i++) {
+				AbstractTile tile = move.getTiles().get(i);
+				if (!found.contains(tile)) {
+					found.add(tile);
+				}
+				Location loc = move.getLocations().get(i);
+				for (int[] step : steps) {
+					int row = loc.getRow() + step[0];
+					int col = loc.getCol() + step[1];
+					while ((row >= 0) && (row < SIZE) && (col >= 0)
+							&& (col < SIZE) && (grid[row][col] != null)
+							&& !(grid[row][col] instanceof AbilityTile)) {
+						if (!found.contains(grid[row][col])) {
+							found.add(grid[row][col]);
+						}
+						row += step[0];
+						col += step[1];
+					}
+				}
+			}
+			return found;
+		}
+	}
+}
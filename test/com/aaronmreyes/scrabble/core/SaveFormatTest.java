@@ -0,0 +1,204 @@
+/*
+ * SaveFormatTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks that a game saved by {@link Game#save()} loads back as it was and
+ * goes on as it would have: saving changes nothing in the game saved, the
+ * loaded game draws the same tiles, and damaged saves are refused. Run like
+ * the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.SaveFormatTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class SaveFormatTest {
+	/* turns played before saving, then after */
+	private static final int BEFORE = 12;
+	private static final int AFTER = 30;
+
+	private SaveFormatTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		for (long seed : TestSupport.seeds()) {
+			loadsAsSaved(seed);
+			goesOnAlike(seed);
+		}
+		damagedSavesAreRefused();
+		TestSupport.passed(SaveFormatTest.class);
+	}
+
+	/*
+	 * a game with special tiles loads with the same board, hands, scores and
+	 * letterBank, and saves again to the same bytes
+	 */
+	private static void loadsAsSaved(long seed) {
+		Game game = game(seed);
+		play(game, new Random(seed), BEFORE);
+		byte[] data = game.save();
+		Game loaded = Game.load(data);
+		check(state(loaded).equals(state(game)), "seed " + seed
+				+ ": loaded as\n" + state(loaded) + "not\n" + state(game));
+		check(Arrays.equals(loaded.save(), data), "seed " + seed
+				+ ": the loaded game saves differently");
+	}
+
+	/*
+	 * a game saved part way goes on as one never saved, and so does the game
+	 * loaded from the save
+	 */
+	private static void goesOnAlike(long seed) {
+		Game saved = game(seed);
+		Game unsaved = game(seed);
+		play(saved, new Random(seed), BEFORE);
+		play(unsaved, new Random(seed), BEFORE);
+		byte[] data = saved.save();
+		saved.save();
+		Game loaded = Game.load(data);
+		List<String> expected = play(unsaved, new Random(~seed), AFTER);
+		check(play(saved, new Random(~seed), AFTER).equals(expected), "seed "
+				+ seed + ": saving changed how the game went on");
+		check(play(loaded, new Random(~seed), AFTER).equals(expected), "seed "
+				+ seed + ": the loaded game went on differently");
+	}
+
+	/*
+	 * a save with a bad header, an unknown version or missing bytes is
+	 * refused rather than loaded wrong
+	 */
+	private static void damagedSavesAreRefused() {
+		Game game = game(SEED);
+		play(game, new Random(SEED), BEFORE);
+		byte[] data = game.save();
+		byte[] magic = data.clone();
+		magic[0] ^= 1;
+		refused(magic, "a bad header");
+		byte[] version = data.clone();
+		ByteBuffer.wrap(version).putShort(4, (short) (SaveFormat.VERSION + 1));
+		refused(version, "an unknown version");
+		refused(Arrays.copyOf(data, data.length - 1), "a truncated save");
+	}
+
+	/*
+	 * a new two player game with special tiles, a playing first
+	 */
+	private static Game game(long seed) {
+		Game game = new Game();
+		game.setupGame(Arrays.asList("a", "b"), true, seed);
+		game.setStartingPlayer("a");
+		return game;
+	}
+
+	/*
+	 * plays turns picked with gen until the game is over, mixing the hand
+	 * first so the game's own generator is used too, and returns the state
+	 * after each turn
+	 */
+	private static List<String> play(Game game, Random gen, int turns) {
+		List<String> states = new ArrayList<String>();
+		for (int turn = 0; (turn < turns) && !game.isOver(); turn++) {
+			game.mixHand();
+			List<Move> moves = game.getPossibleMoves();
+			int choice = gen.nextInt(10);
+			if ((choice == 0) && (game.getNumTilesLeft() >= Game.HAND_LIMIT)) {
+				game.exchangeTiles(new ArrayList<AbstractTile>(game
+						.getPlayerHand().subList(0, 2)));
+			} else if ((choice == 1) || moves.isEmpty()) {
+				game.passTurn();
+			} else {
+				check(game.playMove(moves.get(gen.nextInt(moves.size()))),
+						"a generated move was refused");
+			}
+			states.add(state(game));
+		}
+		return states;
+	}
+
+	/*
+	 * the board, the players in seat order with their hands in order, who
+	 * is to play and the letterBank in order
+	 */
+	private static String state(Game game) {
+		StringBuilder state = new StringBuilder();
+		BoardSnapshot board = game.getSnapshot();
+		for (int row = 0; row < Board.BOARD_SIZE; row++) {
+			for (int col = 0; col < Board.BOARD_SIZE; col++) {
+				AbstractTile tile = board.getTile(row, col);
+				if (tile == null) {
+					state.append('.');
+				} else if (tile instanceof AbilityTile) {
+					state.append(TileCodes.ability(tile));
+				} else {
+					state.append(tile.getValue()).append(TileCodes.code(tile))
+							.append(tile.getCreator());
+				}
+			}
+			state.append('\n');
+		}
+		for (Player player : game.getPlayers()) {
+			state.append(player.getName()).append(' ')
+					.append(player.getScore()).append(' ')
+					.append(player.getTurn()).append(' ')
+					.append(tiles(player.getHand())).append('\n');
+		}
+		state.append(game.getCurrentPlayer().getName()).append(' ')
+				.append(game.isOver()).append('\n');
+		return state.append(tiles(game.getLetterBankTiles())).append('\n')
+				.toString();
+	}
+
+	/*
+	 * the letters, kinds and points of tiles, in order
+	 */
+	private static String tiles(List<AbstractTile> tiles) {
+		StringBuilder letters = new StringBuilder();
+		for (AbstractTile tile : tiles) {
+			letters.append(tile.getValue()).append(TileCodes.code(tile))
+					.append(':').append(tile.getPoints()).append(' ');
+		}
+		return letters.toString();
+	}
+
+	/*
+	 * a damaged save is refused as it is loaded
+	 */
+	private static void refused(byte[] data, String what) {
+		try {
+			Game.load(data);
+		} catch (IllegalArgumentException e) {
+			return;
+		}
+		throw new AssertionError(what + " was loaded");
+	}
+}
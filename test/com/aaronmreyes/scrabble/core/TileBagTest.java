@@ -0,0 +1,141 @@
+/*
+ * TileBagTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: Aaron M. Reyes
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.core;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.tiles.AbstractTile;
+
+/**
+ * Checks the {@link TileBag} against the tiles put in it: every tile is drawn
+ * exactly once, the counts and the hash follow the tiles, and seeded bags
+ * draw the same tiles. Run like the other tests:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.core.TileBagTest
+ * </pre>
+ *
+ * @author Aaron Reyes
+ *
+ */
+final class TileBagTest {
+
+	private TileBagTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		drawsEveryTileOnce();
+		hashIgnoresOrder();
+		seededBagsDrawAlike();
+		TestSupport.passed(TileBagTest.class);
+	}
+
+	/*
+	 * emptying the bag draws each tile put in it once, keeping the counts of
+	 * every letter right on the way
+	 */
+	private static void drawsEveryTileOnce() {
+		List<AbstractTile> all = letterBank();
+		TileBag bag = new TileBag(all, new GameRandom(SEED));
+		Set<AbstractTile> drawn = Collections
+				.newSetFromMap(new IdentityHashMap<AbstractTile, Boolean>());
+		while (bag.size() > 0) {
+			int size = bag.size();
+			AbstractTile tile = bag.draw();
+			check(bag.size() == size - 1, "the size did not go down by one");
+			check(drawn.add(tile), tile.getValue() + " was drawn twice");
+			check(bag.count(tile.getValue()) == left(all, drawn,
+					tile.getValue()), "the count of " + tile.getValue()
+					+ " is wrong");
+		}
+		check(drawn.size() == all.size(), "drawn " + drawn.size()
+				+ " tiles of " + all.size());
+		check(bag.draw() == null, "an empty bag gave a tile");
+		check(bag.draw(Game.HAND_LIMIT).isEmpty(), "an empty bag gave tiles");
+		bag.putAll(all.subList(0, 3));
+		check(bag.draw(Game.HAND_LIMIT).size() == 3,
+				"a short bag did not give what it had");
+	}
+
+	/*
+	 * the hash is that of the tiles in the bag, however they got there
+	 */
+	private static void hashIgnoresOrder() {
+		List<AbstractTile> all = letterBank();
+		TileBag bag = new TileBag(all, new GameRandom(SEED));
+		long full = bag.hash();
+		List<AbstractTile> hand = bag.draw(Game.HAND_LIMIT);
+		check(bag.hash() == new TileBag(bag.tiles(), new GameRandom(
+				SEED)).hash(), "the hash is not that of the tiles left");
+		check(bag.hash() != full, "drawing did not change the hash");
+		Collections.reverse(hand);
+		bag.putAll(hand);
+		check(bag.hash() == full, "returning the tiles did not restore it");
+		List<AbstractTile> shuffled = new ArrayList<AbstractTile>(all);
+		Collections.shuffle(shuffled, new Random(SEED));
+		check(new TileBag(shuffled, new GameRandom(SEED)).hash() == full,
+				"the order of the tiles changed the hash");
+	}
+
+	/*
+	 * bags holding the same tiles with the same seed draw the same tiles, and
+	 * so does a bag made from the tiles and generator state of another
+	 */
+	private static void seededBagsDrawAlike() {
+		List<AbstractTile> all = letterBank();
+		TileBag first = new TileBag(all, new GameRandom(SEED));
+		TileBag second = new TileBag(all, new GameRandom(SEED));
+		check(first.draw(Game.HAND_LIMIT).equals(second.draw(Game.HAND_LIMIT)),
+				"the seeded bags drew differently");
+		GameRandom gen = new GameRandom();
+		gen.setState(first.state());
+		TileBag copy = new TileBag(first.tiles(), gen);
+		check(first.state() == second.state(), "reading the state changed it");
+		check(copy.draw(all.size()).equals(first.draw(all.size())),
+				"the bag made from the state drew differently");
+	}
+
+	/*
+	 * the tiles of a new game's letterBank
+	 */
+	private static List<AbstractTile> letterBank() {
+		return new Board(false, new Random(SEED)).getLetterBank();
+	}
+
+	/*
+	 * how many tiles of a letter have not been drawn
+	 */
+	private static int left(List<AbstractTile> all, Set<AbstractTile> drawn,
+			char letter) {
+		int left = 0;
+		for (AbstractTile tile : all) {
+			if ((tile.getValue() == letter) && !drawn.contains(tile)) {
+				left++;
+			}
+		}
+		return left;
+	}
+}
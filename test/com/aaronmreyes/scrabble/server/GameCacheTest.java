@@ -0,0 +1,139 @@
+/*
+ * GameCacheTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: agent
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.Game;
+
+/**
+ * Checks that {@link GameCache} saves the games it has no room for and the
+ * idle ones, counts what it does, and loads a saved game back as it was.
+ * Run like {@link SessionTest}.
+ *
+ * @author agent
+ *
+ */
+final class GameCacheTest {
+	/* longer than the test, so only room saves a game */
+	private static final long LONG_IDLE_MILLIS = 60000;
+	private static final long SHORT_IDLE_MILLIS = 50;
+
+	private GameCacheTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) throws Exception {
+		evictsAndReloads();
+		expiresIdleGames();
+		TestSupport.passed(GameCacheTest.class);
+	}
+
+	/*
+	 * with room for one game, putting a second saves the first, taking the
+	 * first loads it back and putting it back saves the second
+	 */
+	private static void evictsAndReloads() throws IOException {
+		GameCache cache = new GameCache(new SnapshotStore(null), 1,
+				LONG_IDLE_MILLIS);
+		try {
+			Game first = game(SEED);
+			byte[] saved = first.save();
+			cache.put("a", first);
+			cache.put("b", game(7));
+			expect(cache, 0, 0, 1, 0);
+			Game reloaded = cache.take("a");
+			check(reloaded != first, "the evicted game was still in memory");
+			check(Arrays.equals(reloaded.save(), saved),
+					"the reloaded game is not the one evicted");
+			expect(cache, 0, 1, 1, 0);
+			cache.put("a", reloaded);
+			expect(cache, 0, 1, 2, 0);
+			check(cache.take("a") == reloaded, "the cached game was loaded");
+			expect(cache, 1, 1, 2, 0);
+			cache.take("b");
+			expect(cache, 1, 2, 2, 0);
+		} finally {
+			cache.close();
+		}
+	}
+
+	/*
+	 * a game not used for the idle time is saved, and loads back as it was
+	 */
+	private static void expiresIdleGames() throws IOException,
+			InterruptedException {
+		GameCache cache = new GameCache(new SnapshotStore(null), 1,
+				SHORT_IDLE_MILLIS);
+		try {
+			Game game = game(SEED);
+			byte[] saved = game.save();
+			cache.put("a", game);
+			for (int i = 0; (i < 100)
+					&& (count(cache, "expirations") == 0); i++) {
+				Thread.sleep(SHORT_IDLE_MILLIS);
+			}
+			expect(cache, 0, 0, 0, 1);
+			check(cache.report().startsWith("cache games=0 "),
+					"the idle game is still in memory");
+			Game reloaded = cache.take("a");
+			check(Arrays.equals(reloaded.save(), saved),
+					"the reloaded game is not the one saved");
+			expect(cache, 0, 1, 0, 1);
+		} finally {
+			cache.close();
+		}
+	}
+
+	/*
+	 * a two player game after its opening move
+	 */
+	private static Game game(long seed) {
+		Game game = new Game();
+		game.setupGame(Arrays.asList("a", "b"), false, seed);
+		game.setStartingPlayer("a");
+		check(game.playMove(game.getPossibleMoves().get(0)),
+				"the opening was refused");
+		return game;
+	}
+
+	private static void expect(GameCache cache, long hits, long misses,
+			long evictions, long expirations) {
+		String counts = "hits=" + hits + " misses=" + misses + " evictions="
+				+ evictions + " expirations=" + expirations;
+		check((count(cache, "hits") == hits)
+				&& (count(cache, "misses") == misses)
+				&& (count(cache, "evictions") == evictions)
+				&& (count(cache, "expirations") == expirations), "expected "
+				+ counts + ", got \"" + cache.report() + "\"");
+	}
+
+	/*
+	 * a count in the report of a cache
+	 */
+	private static long count(GameCache cache, String name) {
+		Matcher matcher = Pattern.compile("\\b" + name + "=(\\d+)").matcher(
+				cache.report());
+		check(matcher.find(), "no " + name + " in the report");
+		return Long.parseLong(matcher.group(1));
+	}
+}
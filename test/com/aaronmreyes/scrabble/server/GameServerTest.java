@@ -0,0 +1,182 @@
+/*
+ * GameServerTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: agent
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import com.aaronmreyes.scrabble.TestSupport;
+
+/**
+ * Checks that the server forgets a session once its players have left, by
+ * a LEAVE or by closing their connection, and that a player's commands only
+ * run on the connection that joined them. Run like {@link SessionTest}.
+ *
+ * @author agent
+ *
+ */
+final class GameServerTest {
+
+	private GameServerTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) throws Exception {
+		final GameServer server = new GameServer(0, 1);
+		try {
+			leavingEndsTheSession(server);
+			serve(server);
+			closingTheConnectionLeaves(server);
+			onlyTheJoiningConnectionPlays(server);
+		} finally {
+			server.close();
+		}
+		TestSupport.passed(GameServerTest.class);
+	}
+
+	/*
+	 * the session goes once both players have left, and the id can be used
+	 * again
+	 */
+	private static void leavingEndsTheSession(GameServer server) {
+		expect(server.execute("JOIN g1 a"), "OK seat 1");
+		expect(server.execute("JOIN g1 b"), "OK seat 2");
+		expect(server.execute("START g1"), "OK turn a");
+		expect(server.execute("LEAVE g1 a"), "OK left turn b");
+		expect(server.execute("LEAVE g1 a"), "ERR no player a in game g1");
+		expect(server.execute("LEAVE g1 b"), "OK left");
+		expect(server.execute("HAND g1 b"), "ERR no game g1");
+		check(server.execute("STATS").startsWith("OK sessions=0;"),
+				"the session was kept");
+		expect(server.execute("JOIN g1 c"), "OK seat 1");
+		expect(server.execute("LEAVE g1 c"), "OK left");
+		/* a JOIN without a name leaves no session behind */
+		server.execute("JOIN g2");
+		check(server.execute("STATS").startsWith("OK sessions=0;"),
+				"an empty session was kept");
+	}
+
+	/*
+	 * the players joined on a connection leave when it closes
+	 */
+	private static void closingTheConnectionLeaves(GameServer server)
+			throws IOException, InterruptedException {
+		Client client = new Client(server);
+		expect(client.send("JOIN g3 a"), "OK seat 1");
+		expect(client.send("JOIN g3 b"), "OK seat 2");
+		expect(client.send("START g3"), "OK turn a");
+		client.close();
+		awaitNoSessions(server);
+		expect(server.execute("HAND g3 a"), "ERR no game g3");
+	}
+
+	/*
+	 * a connection can neither see nor play for a player another connection
+	 * joined
+	 */
+	private static void onlyTheJoiningConnectionPlays(GameServer server)
+			throws IOException, InterruptedException {
+		Client first = new Client(server);
+		Client second = new Client(server);
+		try {
+			expect(first.send("JOIN g4 a"), "OK seat 1");
+			expect(second.send("JOIN g4 b"), "OK seat 2");
+			expect(first.send("START g4"), "OK turn a");
+			String refused = "ERR player a did not join game g4 on this"
+					+ " connection";
+			expect(second.send("HAND g4 a"), refused);
+			expect(second.send("PLAY g4 a 7 7 A CAT"), refused);
+			expect(second.send("EXCHANGE g4 a A"), refused);
+			expect(second.send("PASS g4 a"), refused);
+			expect(second.send("LEAVE g4 a"), refused);
+			check(first.send("HAND g4 a").startsWith("OK "),
+					"the joining connection was refused its hand");
+			check(second.send("HAND g4 b").startsWith("OK "),
+					"the other connection was refused its own hand");
+			expect(first.send("PASS g4 a"), "OK turn b");
+		} finally {
+			first.close();
+			second.close();
+		}
+		awaitNoSessions(server);
+	}
+
+	/*
+	 * waits for the players of closed connections to leave their games
+	 */
+	private static void awaitNoSessions(GameServer server)
+			throws InterruptedException {
+		for (int i = 0; (i < 100) && !server.execute("STATS")
+				.startsWith("OK sessions=0;"); i++) {
+			Thread.sleep(20);
+		}
+	}
+
+	/*
+	 * serves connections on a daemon thread until the server closes
+	 */
+	private static void serve(final GameServer server) {
+		Thread serving = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					server.serve();
+				} catch (IOException e) {
+					/* closed */
+				}
+			}
+		});
+		serving.setDaemon(true);
+		serving.start();
+	}
+
+	private static void expect(String reply, String expected) {
+		check(reply.equals(expected), "expected \"" + expected + "\", got \""
+				+ reply + "\"");
+	}
+
+	/*
+	 * a connection to the server, sending one command at a time
+	 */
+	private static final class Client {
+		private final Socket socket;
+		private final BufferedReader in;
+		private final PrintWriter out;
+
+		Client(GameServer server) throws IOException {
+			socket = new Socket(InetAddress.getLoopbackAddress(),
+					server.getPort());
+			in = new BufferedReader(new InputStreamReader(
+					socket.getInputStream(), StandardCharsets.UTF_8));
+			out = new PrintWriter(socket.getOutputStream(), true);
+		}
+
+		String send(String line) throws IOException {
+			out.println(line);
+			return in.readLine();
+		}
+
+		void close() throws IOException {
+			socket.close();
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * SessionTest.java
+ * Version: 1.0
+ * Date: 17 Oct 2026
+ * Author: agent
+ *
+ * This content is released under the (http://opensource.org/licenses/MIT) MIT License.
+ */
+
+package com.aaronmreyes.scrabble.server;
+
+import static com.aaronmreyes.scrabble.TestSupport.SEED;
+import static com.aaronmreyes.scrabble.TestSupport.check;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.aaronmreyes.scrabble.TestSupport;
+import com.aaronmreyes.scrabble.core.BoardSnapshot;
+import com.aaronmreyes.scrabble.core.Game;
+import com.aaronmreyes.scrabble.core.Location;
+import com.aaronmreyes.scrabble.core.Move;
+import com.aaronmreyes.scrabble.core.tiles.AbilityTile;
+
+/**
+ * Checks where the tiles of a PLAY land: on the premium squares not played
+ * on yet, and around the letters already on the board. There is no test
+ * framework on the class path, so each check throws an AssertionError and
+ * the run fails with a stack trace:
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java')
+ * java -cp out:. com.aaronmreyes.scrabble.server.SessionTest
+ * </pre>
+ *
+ * @author agent
+ *
+ */
+final class SessionTest {
+
+	private SessionTest() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @param args
+	 *            - not used
+	 */
+	public static void main(String[] args) {
+		premiumSquaresAreEmpty();
+		lettersAreSkipped();
+		runningOffTheBoardFails();
+		TestSupport.passed(SessionTest.class);
+	}
+
+	/*
+	 * an across word from (7,0) covers the TW at (7,0) and the DL at (7,3)
+	 */
+	private static void premiumSquaresAreEmpty() {
+		BoardSnapshot board = newGame().getSnapshot();
+		check(board.getTile(7, 0) instanceof AbilityTile, "(7,0) is a premium");
+		check(board.getTile(7, 3) instanceof AbilityTile, "(7,3) is a premium");
+		List<Location> squares = Session.squares(board, 7, 0, true, 4);
+		check(squares.equals(Arrays.asList(Location.of(7, 0),
+				Location.of(7, 1), Location.of(7, 2), Location.of(7, 3))),
+				"across from (7,0) landed on " + squares);
+		squares = Session.squares(board, 0, 3, false, 4);
+		check(squares.equals(Arrays.asList(Location.of(0, 3),
+				Location.of(1, 3), Location.of(2, 3), Location.of(3, 3))),
+				"down from (0,3) landed on " + squares);
+	}
+
+	/*
+	 * a word through the first move goes round its letters, on both sides
+	 */
+	private static void lettersAreSkipped() {
+		Game game = newGame();
+		Move first = null;
+		for (Move move : game.getPossibleMoves()) {
+			if (move.getTiles().size() > 1) {
+				first = move;
+				break;
+			}
+		}
+		check(first != null, "no opening move of two tiles or more");
+		List<Location> placed = first.getLocations();
+		boolean across = placed.get(0).getRow() == placed.get(1).getRow();
+		int start = Integer.MAX_VALUE;
+		int end = -1;
+		for (Location loc : placed) {
+			int along = across ? loc.getCol() : loc.getRow();
+			start = Math.min(start, along);
+			end = Math.max(end, along);
+		}
+		int line = across ? placed.get(0).getRow() : placed.get(0).getCol();
+		check(game.playMove(first), "the opening move was not played");
+		BoardSnapshot board = game.getSnapshot();
+		/* every empty square before the word, then the one after it */
+		List<Location> squares = Session.squares(board, across ? line : 0,
+				across ? 0 : line, across, start + 1);
+		for (int i = 0; i < start; i++) {
+			check(squares.get(i).equals(across ? Location.of(line, i)
+					: Location.of(i, line)), "square " + i + " is "
+					+ squares.get(i));
+		}
+		Location after = squares.get(start);
+		check(after.equals(across ? Location.of(line, end + 1) : Location
+				.of(end + 1, line)), "the word from " + start + " to " + end
+				+ " was not skipped, got " + after);
+		for (Location loc : squares) {
+			check(board.getLetter(loc.getRow(), loc.getCol()) == '\0',
+					"a tile landed on the letter at " + loc);
+		}
+	}
+
+	/*
+	 * a word longer than the squares left is refused
+	 */
+	private static void runningOffTheBoardFails() {
+		BoardSnapshot board = newGame().getSnapshot();
+		try {
+			Session.squares(board, 7, 12, true, 4);
+		} catch (IllegalArgumentException e) {
+			return;
+		}
+		throw new AssertionError("a word ran off the board");
+	}
+
+	/*
+	 * a seeded two player game with nothing on the board
+	 */
+	private static Game newGame() {
+		Game game = new Game();
+		game.setupGame(Arrays.asList("a", "b"), false, SEED);
+		game.setStartingPlayer("a");
+		return game;
+	}
+}